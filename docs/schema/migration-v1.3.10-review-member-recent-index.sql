@@ -0,0 +1,13 @@
+-- ============================================
+-- Migration v1.3.10: review (member_id, status, created_at) 인덱스 (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 02:00 편차 보정 배치는 회원 keyset 페이지마다 ROW_NUMBER() OVER (PARTITION BY member_id ORDER BY created_at DESC)로
+--   최근 PUBLIC 리뷰 20건의 극단 점수 비율을 계산한다 (ReviewRepository.findExtremeScoreRatiosByMemberPage)
+-- - 회원별 최근 리뷰를 인덱스 순서로 읽도록 복합 인덱스를 추가한다
+
+CREATE INDEX IF NOT EXISTS idx_review_member_status_created ON review (member_id, status, created_at);
+
+-- ============================================
+-- End
+-- ============================================
@@ -0,0 +1,42 @@
+-- ============================================
+-- Migration v1.3.11: job_run (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 정책 배치 실행 이력 (실행 방식, 처리 구간(워터마크), 검사/변경 건수, 소요 시간, 실패 사유)
+-- - 02:00 편차 보정 배치는 DEVIATION 워터마크 이후 리뷰가 바뀐 회원만 보는 증분 실행을 하고,
+--   마지막 FULL 성공 실행이 7일보다 오래되면 전체 회원을 다시 본다
+-- - 증분 대상 회원 추출(review.updated_at 범위 조회)용 인덱스 추가
+--
+-- 주의:
+-- - DEVIATION 워터마크/FULL 실행 이력이 없으면 첫 실행은 전체 실행이다
+
+CREATE TABLE IF NOT EXISTS job_run (
+  id BIGSERIAL PRIMARY KEY,
+  job_name VARCHAR(50) NOT NULL,
+  run_mode VARCHAR(20) NOT NULL,
+  status VARCHAR(20) NOT NULL,
+  watermark_from TIMESTAMP,
+  watermark_to TIMESTAMP NOT NULL,
+  scanned_count INTEGER NOT NULL DEFAULT 0,
+  updated_count INTEGER NOT NULL DEFAULT 0,
+  started_at TIMESTAMP NOT NULL,
+  finished_at TIMESTAMP,
+  duration_millis BIGINT,
+  error_message VARCHAR(500),
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_run_job_started ON job_run (job_name, started_at);
+
+DROP TRIGGER IF EXISTS update_job_run_updated_at ON job_run;
+CREATE TRIGGER update_job_run_updated_at
+  BEFORE UPDATE ON job_run
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+CREATE INDEX IF NOT EXISTS idx_review_updated_at ON review (updated_at);
+
+-- ============================================
+-- End
+-- ============================================
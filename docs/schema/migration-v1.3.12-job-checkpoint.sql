@@ -0,0 +1,36 @@
+-- ============================================
+-- Migration v1.3.12: job_checkpoint (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 정책 배치(쿨다운/편차 보정/시간감가/등급 심사)를 청크 단위로 커밋하고,
+--   마지막 커밋 위치(단계, keyset 키)를 job_checkpoint 에 남긴다
+-- - 실행이 실패하거나 배포/장애로 중단되면 다음 실행은 같은 job_run 을 같은 구간으로 체크포인트부터 이어서 처리한다
+-- - job_run 에 청크 수/재개 횟수 추가 (처리량 = scanned_count / duration_millis, 관리자 API에서 계산)
+--
+-- 주의:
+-- - job_checkpoint 는 작업당 최대 1행이며, 실행이 성공하면 지운다
+-- - 재개된 실행의 duration_millis 는 실제 처리 시간 합계다(중단 사이 시간 제외)
+
+ALTER TABLE job_run ADD COLUMN IF NOT EXISTS chunk_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE job_run ADD COLUMN IF NOT EXISTS resume_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_job_run_started ON job_run (started_at);
+
+CREATE TABLE IF NOT EXISTS job_checkpoint (
+  job_name VARCHAR(50) PRIMARY KEY,
+  run_id BIGINT NOT NULL REFERENCES job_run (id),
+  phase INTEGER NOT NULL DEFAULT 0,
+  last_key BIGINT NOT NULL DEFAULT 0,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+DROP TRIGGER IF EXISTS update_job_checkpoint_updated_at ON job_checkpoint;
+CREATE TRIGGER update_job_checkpoint_updated_at
+  BEFORE UPDATE ON job_checkpoint
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+-- ============================================
+-- End
+-- ============================================
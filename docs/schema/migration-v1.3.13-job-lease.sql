@@ -0,0 +1,56 @@
+-- ============================================
+-- Migration v1.3.13: job_lease, 분할 체크포인트 (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 여러 인스턴스가 같은 스케줄로 떠도 정책 배치는 작업 임대(job_lease)를 얻은 노드 한 곳에서만 시작한다
+--   (외부 잠금 서비스 없이 조건부 UPDATE/INSERT로 점유, 만료된 임대는 다른 노드가 가져간다)
+-- - gourmet.job-cluster.sharding=true 이면 시간감가/편차 보정을 살아 있는 노드 수만큼 storeId/memberId 해시(mod)로 나눠
+--   분할마다 임대({작업}#{분할})를 잡은 노드가 처리한다. 노드 생존 신호는 node:{nodeId} 임대 행으로 남긴다
+-- - job_checkpoint 를 분할별 행으로 바꾸고(PK checkpoint_key = {작업}#{분할}), job_run 에 분할 수 추가
+--
+-- 주의:
+-- - job_checkpoint 를 다시 만든다. 진행 중(중단된) 배치가 없을 때 적용한다(남아 있던 실행은 다음 주기에 새로 시작된다)
+
+CREATE TABLE IF NOT EXISTS job_lease (
+  lease_name VARCHAR(100) PRIMARY KEY,
+  owner_id VARCHAR(100) NOT NULL,
+  acquired_at TIMESTAMP NOT NULL,
+  expires_at TIMESTAMP NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE job_run ADD COLUMN IF NOT EXISTS shard_count INTEGER NOT NULL DEFAULT 1;
+
+DROP TABLE IF EXISTS job_checkpoint;
+
+CREATE TABLE job_checkpoint (
+  checkpoint_key VARCHAR(100) PRIMARY KEY,
+  job_name VARCHAR(50) NOT NULL,
+  shard_index INTEGER NOT NULL,
+  run_id BIGINT NOT NULL REFERENCES job_run (id),
+  phase INTEGER NOT NULL DEFAULT 0,
+  last_key BIGINT NOT NULL DEFAULT 0,
+  completed BOOLEAN NOT NULL DEFAULT FALSE,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_checkpoint_job ON job_checkpoint (job_name);
+CREATE INDEX IF NOT EXISTS idx_job_checkpoint_run ON job_checkpoint (run_id);
+
+DROP TRIGGER IF EXISTS update_job_lease_updated_at ON job_lease;
+CREATE TRIGGER update_job_lease_updated_at
+  BEFORE UPDATE ON job_lease
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+DROP TRIGGER IF EXISTS update_job_checkpoint_updated_at ON job_checkpoint;
+CREATE TRIGGER update_job_checkpoint_updated_at
+  BEFORE UPDATE ON job_checkpoint
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+-- ============================================
+-- End
+-- ============================================
@@ -0,0 +1,64 @@
+-- ============================================
+-- Migration v1.3.5: store_score_bucket (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 가게 점수 재계산 시 PUBLIC 리뷰 전체를 다시 읽지 않도록, 가게 × 등급 × 시간감가 구간별 집계를 저장
+-- - 리뷰 공개/수정/삭제는 해당 셀에 delta만 반영한다
+--
+-- 주의:
+-- - 본 프로젝트는 운영 DB 마이그레이션 도구(Flyway/Liquibase)를 아직 사용하지 않으므로,
+--   실제 운영 반영 시에는 적용 순서/락/다운타임을 고려해 수동 적용 필요
+-- - 적용 직후 아래 backfill을 실행하거나, 00:00 시간감가 배치가 한 번 돈 뒤부터 점수가 집계 기준으로 계산된다
+
+CREATE TABLE IF NOT EXISTS store_score_bucket (
+  id BIGSERIAL PRIMARY KEY,
+  store_id BIGINT NOT NULL,
+  tier VARCHAR(20) NOT NULL,
+  decay_bucket VARCHAR(20) NOT NULL,
+  review_count INTEGER NOT NULL DEFAULT 0,
+  score_sum NUMERIC(14, 2) NOT NULL DEFAULT 0,
+  raw_score_sum NUMERIC(14, 2) NOT NULL DEFAULT 0,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT uk_store_score_bucket UNIQUE (store_id, tier, decay_bucket),
+  CONSTRAINT fk_store_score_bucket_store FOREIGN KEY (store_id) REFERENCES store (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_score_bucket_store ON store_score_bucket (store_id);
+
+DROP TRIGGER IF EXISTS update_store_score_bucket_updated_at ON store_score_bucket;
+CREATE TRIGGER update_store_score_bucket_updated_at
+  BEFORE UPDATE ON store_score_bucket
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+-- Backfill: 오늘 00:00 기준 감가 구간으로 PUBLIC 리뷰 집계
+INSERT INTO store_score_bucket (store_id, tier, decay_bucket, review_count, score_sum, raw_score_sum)
+SELECT t.store_id, t.tier, t.decay_bucket, COUNT(*), SUM(t.adjusted), SUM(t.score_calculated)
+FROM (
+    SELECT r.store_id,
+           m.tier,
+           CASE
+               WHEN r.created_at > CURRENT_DATE - INTERVAL '6 months' THEN 'RECENT'
+               WHEN r.created_at > CURRENT_DATE - INTERVAL '1 year' THEN 'MONTHS_6_TO_12'
+               WHEN r.created_at > CURRENT_DATE - INTERVAL '2 years' THEN 'YEARS_1_TO_2'
+               WHEN r.created_at > CURRENT_DATE - INTERVAL '3 years' THEN 'YEARS_2_TO_3'
+               ELSE 'YEARS_3_PLUS'
+           END AS decay_bucket,
+           CASE
+               WHEN m.is_deviation_target AND r.score_calculated > 3.0 THEN LEAST(GREATEST(r.score_calculated - 0.5, 1.0), 5.0)
+               WHEN m.is_deviation_target AND r.score_calculated < 3.0 THEN LEAST(GREATEST(r.score_calculated + 0.5, 1.0), 5.0)
+               ELSE r.score_calculated
+           END AS adjusted,
+           r.score_calculated
+    FROM review r
+    JOIN member m ON m.id = r.member_id
+    WHERE r.status = 'PUBLIC'
+) t
+GROUP BY t.store_id, t.tier, t.decay_bucket
+ON CONFLICT (store_id, tier, decay_bucket) DO NOTHING;
+
+-- ============================================
+-- End
+-- ============================================
@@ -0,0 +1,27 @@
+-- ============================================
+-- Migration v1.3.6: job_watermark (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 정책 배치가 마지막으로 처리한 시각(워터마크)을 저장
+-- - 00:00 시간감가 배치는 워터마크 이후 감가 구간 경계(6개월/1년/2년/3년)를 넘은 리뷰가 있는 가게만 재계산한다
+-- - store_score_bucket 의 감가 구간 기준 시각은 TIME_DECAY 워터마크를 따른다
+--
+-- 주의:
+-- - 워터마크가 없으면 첫 배치는 PUBLIC 리뷰가 있는 모든 가게를 재계산한 뒤 워터마크를 기록한다
+
+CREATE TABLE IF NOT EXISTS job_watermark (
+  job_name VARCHAR(50) PRIMARY KEY,
+  watermark_at TIMESTAMP NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+DROP TRIGGER IF EXISTS update_job_watermark_updated_at ON job_watermark;
+CREATE TRIGGER update_job_watermark_updated_at
+  BEFORE UPDATE ON job_watermark
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+-- ============================================
+-- End
+-- ============================================
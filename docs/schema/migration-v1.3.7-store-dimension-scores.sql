@@ -0,0 +1,27 @@
+-- ============================================
+-- Migration v1.3.7: 항목별 가중 평점 (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 가게 상세에 맛/가성비/분위기/서비스 항목별 가중 평점을 노출 (요청마다 리뷰를 다시 읽지 않음)
+-- - store_score_bucket 셀에 항목별 점수 합계를 추가하고, 가게 점수 계산과 같은 순회에서 store 컬럼을 갱신한다
+--
+-- 주의:
+-- - 기존 셀의 항목별 합계는 0으로 시작하므로 적용 직후 전체 재구축이 필요하다.
+--   TIME_DECAY 워터마크를 지우면 다음 00:00 시간감가 배치가 PUBLIC 리뷰가 있는 모든 가게를 재구축한다.
+
+ALTER TABLE store_score_bucket ADD COLUMN IF NOT EXISTS taste_sum NUMERIC(14, 2) NOT NULL DEFAULT 0;
+ALTER TABLE store_score_bucket ADD COLUMN IF NOT EXISTS value_sum NUMERIC(14, 2) NOT NULL DEFAULT 0;
+ALTER TABLE store_score_bucket ADD COLUMN IF NOT EXISTS ambiance_sum NUMERIC(14, 2) NOT NULL DEFAULT 0;
+ALTER TABLE store_score_bucket ADD COLUMN IF NOT EXISTS service_sum NUMERIC(14, 2) NOT NULL DEFAULT 0;
+
+ALTER TABLE store ADD COLUMN IF NOT EXISTS score_taste NUMERIC(3, 2) NOT NULL DEFAULT 0;
+ALTER TABLE store ADD COLUMN IF NOT EXISTS score_value NUMERIC(3, 2) NOT NULL DEFAULT 0;
+ALTER TABLE store ADD COLUMN IF NOT EXISTS score_ambiance NUMERIC(3, 2) NOT NULL DEFAULT 0;
+ALTER TABLE store ADD COLUMN IF NOT EXISTS score_service NUMERIC(3, 2) NOT NULL DEFAULT 0;
+
+-- 전체 재구축 예약
+DELETE FROM job_watermark WHERE job_name = 'TIME_DECAY';
+
+-- ============================================
+-- End
+-- ============================================
@@ -0,0 +1,37 @@
+-- ============================================
+-- Migration v1.3.8: store_score_shadow (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 후보 점수 정책(gourmet.shadow-scoring.candidates)을 운영 점수와 같은 배치 재계산에서 함께 계산해 기록
+-- - 운영 점수(store.score_weighted)는 바뀌지 않으며, /admin/stores/score-shadow/report 로 차이를 비교한다
+--
+-- 주의:
+-- - gourmet.shadow-scoring.enabled=true 일 때만 기록된다
+
+CREATE TABLE IF NOT EXISTS store_score_shadow (
+  id BIGSERIAL PRIMARY KEY,
+  store_id BIGINT NOT NULL,
+  policy_name VARCHAR(50) NOT NULL,
+  review_count INTEGER NOT NULL,
+  production_score NUMERIC(3, 2) NOT NULL,
+  candidate_score NUMERIC(3, 2) NOT NULL,
+  score_diff NUMERIC(4, 2) NOT NULL,
+  evaluated_at TIMESTAMP NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT uk_store_score_shadow UNIQUE (store_id, policy_name),
+  CONSTRAINT fk_store_score_shadow_store FOREIGN KEY (store_id) REFERENCES store (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_score_shadow_policy ON store_score_shadow (policy_name);
+
+DROP TRIGGER IF EXISTS update_store_score_shadow_updated_at ON store_score_shadow;
+CREATE TRIGGER update_store_score_shadow_updated_at
+  BEFORE UPDATE ON store_score_shadow
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+-- ============================================
+-- End
+-- ============================================
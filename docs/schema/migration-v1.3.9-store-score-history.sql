@@ -0,0 +1,59 @@
+-- ============================================
+-- Migration v1.3.9: store_score_history / store_score_rollup (PostgreSQL)
+-- ============================================
+-- 목적:
+-- - 가게 점수 재계산에서 점수(score_weighted/avg_rating/review_count_valid)가 바뀐 가게를 시계열로 기록 (append-only)
+-- - 원본은 raw-retention-days(기본 7일) 이후 일 단위, 일 단위는 daily-retention-days(기본 90일) 이후
+--   주 단위(월요일 시작) 롤업으로 압축한다 (ReviewPolicyScheduler 03:30)
+-- - /admin/stores/{storeId}/score-history?from=&to= 는 압축된 롤업과 최근 원본을 합쳐 반환한다
+--
+-- 주의:
+-- - 원본 이력은 배치 insert 전용이라 updated_at 컬럼/트리거가 없다
+
+CREATE TABLE IF NOT EXISTS store_score_history (
+  id BIGSERIAL PRIMARY KEY,
+  store_id BIGINT NOT NULL,
+  recorded_at TIMESTAMP NOT NULL,
+  score_weighted NUMERIC(3, 2) NOT NULL,
+  avg_rating NUMERIC(3, 2) NOT NULL,
+  review_count_valid INTEGER NOT NULL,
+  reason VARCHAR(20) NOT NULL,
+
+  CONSTRAINT fk_store_score_history_store FOREIGN KEY (store_id) REFERENCES store (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_score_history_store_recorded ON store_score_history (store_id, recorded_at);
+CREATE INDEX IF NOT EXISTS idx_store_score_history_recorded ON store_score_history (recorded_at);
+
+CREATE TABLE IF NOT EXISTS store_score_rollup (
+  id BIGSERIAL PRIMARY KEY,
+  store_id BIGINT NOT NULL,
+  granularity VARCHAR(10) NOT NULL,
+  period_start DATE NOT NULL,
+  point_count INTEGER NOT NULL DEFAULT 0,
+  first_recorded_at TIMESTAMP,
+  last_recorded_at TIMESTAMP,
+  open_score_weighted NUMERIC(3, 2),
+  close_score_weighted NUMERIC(3, 2),
+  min_score_weighted NUMERIC(3, 2),
+  max_score_weighted NUMERIC(3, 2),
+  avg_rating NUMERIC(3, 2),
+  review_count_valid INTEGER,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT uk_store_score_rollup UNIQUE (store_id, granularity, period_start),
+  CONSTRAINT fk_store_score_rollup_store FOREIGN KEY (store_id) REFERENCES store (id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_store_score_rollup_granularity_period ON store_score_rollup (granularity, period_start);
+
+DROP TRIGGER IF EXISTS update_store_score_rollup_updated_at ON store_score_rollup;
+CREATE TRIGGER update_store_score_rollup_updated_at
+  BEFORE UPDATE ON store_score_rollup
+  FOR EACH ROW
+  EXECUTE FUNCTION update_updated_at_column();
+
+-- ============================================
+-- End
+-- ============================================
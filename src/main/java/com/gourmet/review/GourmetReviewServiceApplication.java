@@ -2,6 +2,7 @@ package com.gourmet.review;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -10,6 +11,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * Spring Boot 3.x + Java 21 + PostgreSQL
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableJpaAuditing
 @EnableScheduling
 public class GourmetReviewServiceApplication {
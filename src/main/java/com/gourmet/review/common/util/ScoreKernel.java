@@ -0,0 +1,133 @@
+package com.gourmet.review.common.util;
+
+import java.math.BigDecimal;
+
+/**
+ * 점수 계산용 고정소수점(long) 연산 커널.
+ * - 점수/가중치는 소수 2자리(scale 2), 가중합은 소수 4자리(scale 4) 정수로 표현한다.
+ *   예) 4.50 → 450, 0.8 → 80, 4.50 × 0.8 → 36000
+ * - 반올림은 BigDecimal HALF_UP과 같다(0.5는 0에서 먼 쪽으로).
+ * - scale 2로 정확히 표현되지 않는 값은 호출부가 BigDecimal 계산으로 처리한다({@link #fitsScale2}).
+ */
+public final class ScoreKernel {
+
+    public static final int SCALE = 2;
+
+    /** 리뷰 항목 가중치 (맛 40% / 가성비 30% / 분위기 15% / 서비스 15%), scale 2 */
+    public static final long TASTE_WEIGHT2 = 40;
+    public static final long VALUE_WEIGHT2 = 30;
+    public static final long AMBIANCE_WEIGHT2 = 15;
+    public static final long SERVICE_WEIGHT2 = 15;
+
+    /** 베이지안 평균 기준점 3.0(scale 4), 최소 리뷰 가중치 30.0(scale 2) */
+    public static final long BASELINE4 = 30_000;
+    public static final long MIN_REVIEW_WEIGHT2 = 3_000;
+
+    private static final long BASELINE2 = 300;
+    private static final long DEVIATION_ADJUSTMENT2 = 50;
+    private static final long MIN_SCORE2 = 100;
+    private static final long MAX_SCORE2 = 500;
+
+    /** 3.0 × 30.0 (scale 6) */
+    private static final long PRIOR6 = BASELINE4 * MIN_REVIEW_WEIGHT2;
+
+    /** scale 2 정수 부분 자릿수 상한 (numeric(14, 2)) */
+    private static final int MAX_INTEGER_DIGITS = 12;
+
+    private ScoreKernel() {
+    }
+
+    /**
+     * 값이 scale 2 long으로 손실 없이 옮겨지는지 여부.
+     */
+    public static boolean fitsScale2(BigDecimal value) {
+        return fitsScale(value, SCALE);
+    }
+
+    public static long toScaled2(BigDecimal value) {
+        return toScaled(value, SCALE);
+    }
+
+    /**
+     * 값이 scale 자리 long으로 손실 없이 옮겨지는지 여부.
+     * (DB 합계처럼 뒤에 0이 붙어 scale이 커진 값도 허용)
+     */
+    public static boolean fitsScale(BigDecimal value, int scale) {
+        if (value == null) {
+            return false;
+        }
+        BigDecimal normalized = value.scale() <= scale ? value : value.stripTrailingZeros();
+        return normalized.scale() <= scale && normalized.precision() - normalized.scale() <= MAX_INTEGER_DIGITS;
+    }
+
+    public static long toScaled(BigDecimal value, int scale) {
+        return value.movePointRight(scale).longValueExact();
+    }
+
+    public static BigDecimal toDecimal2(long scaled2) {
+        return BigDecimal.valueOf(scaled2, SCALE);
+    }
+
+    /**
+     * 리뷰 점수 = 맛×0.40 + 가성비×0.30 + 분위기×0.15 + 서비스×0.15 (소수 2자리 반올림)
+     */
+    public static long reviewScore2(long taste2, long value2, long ambiance2, long service2) {
+        long sum4 = taste2 * TASTE_WEIGHT2
+                + value2 * VALUE_WEIGHT2
+                + ambiance2 * AMBIANCE_WEIGHT2
+                + service2 * SERVICE_WEIGHT2;
+        return roundHalfUp(sum4, 100);
+    }
+
+    /**
+     * 편차 보정 대상이면 3.0 방향으로 0.5 이동 후 [1.0, 5.0]로 제한한다.
+     */
+    public static long deviationAdjusted2(long score2, boolean deviationTarget) {
+        if (!deviationTarget) {
+            return score2;
+        }
+        long adjusted = score2;
+        if (score2 > BASELINE2) {
+            adjusted = score2 - DEVIATION_ADJUSTMENT2;
+        } else if (score2 < BASELINE2) {
+            adjusted = score2 + DEVIATION_ADJUSTMENT2;
+        }
+        return Math.min(Math.max(adjusted, MIN_SCORE2), MAX_SCORE2);
+    }
+
+    /**
+     * 단순 평균(소수 2자리). 리뷰가 없으면 0.
+     */
+    public static long average2(long sum2, long count) {
+        return count == 0 ? 0 : roundHalfUp(sum2, count);
+    }
+
+    /**
+     * 베이지안 평균(정책 문서 4.1).
+     * average = weightedSum / totalWeight (소수 4자리)
+     * final = (average × totalWeight + 3.0 × 30.0) / (totalWeight + 30.0) (소수 4자리 → 2자리)
+     *
+     * @param weightedSum4 Σ(점수 × 가중치), scale 4
+     * @param totalWeight2 Σ가중치, scale 2
+     */
+    public static long bayesian2(long weightedSum4, long totalWeight2) {
+        long average4 = totalWeight2 == 0
+                ? BASELINE4
+                : roundHalfUp(Math.multiplyExact(weightedSum4, 100L), totalWeight2);
+        long numerator6 = Math.addExact(Math.multiplyExact(average4, totalWeight2), PRIOR6);
+        long final4 = roundHalfUp(numerator6, Math.addExact(totalWeight2, MIN_REVIEW_WEIGHT2));
+        return roundHalfUp(final4, 100);
+    }
+
+    /**
+     * numerator / denominator 를 HALF_UP으로 반올림한 정수 (denominator > 0).
+     */
+    public static long roundHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = Math.abs(numerator % denominator);
+        if (remainder >= denominator - remainder) {
+            quotient += numerator < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+}
@@ -0,0 +1,20 @@
+package com.gourmet.review.common.util;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JdbcTemplate 으로 직접 보내는 SQL의 방언. 운영은 PostgreSQL, 테스트는 H2.
+ * 저장소 구현체는 생성 시점에 한 번 판별해 보낼 SQL을 고른다.
+ */
+public enum SqlDialect {
+
+    POSTGRESQL,
+    H2;
+
+    public static SqlDialect of(JdbcTemplate jdbcTemplate) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "H2".equalsIgnoreCase(product) ? H2 : POSTGRESQL;
+    }
+}
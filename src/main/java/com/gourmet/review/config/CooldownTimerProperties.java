@@ -0,0 +1,19 @@
+package com.gourmet.review.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 극단 점수 리뷰 쿨다운 만료 타이머(CooldownExpiryTimer) 설정.
+ *
+ * @param enabled          false면 타이머를 띄우지 않고 주기 폴링(processCooldownExpirations)만으로 만료 처리한다.
+ * @param batchSize        한 트랜잭션에서 승인할 최대 리뷰 수 (같은 시각에 만료된 리뷰를 묶는다)
+ * @param retryDelayMillis 승인 트랜잭션이 실패한 리뷰를 다시 시도할 때까지의 대기 시간
+ */
+@ConfigurationProperties(prefix = "gourmet.cooldown-timer")
+public record CooldownTimerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("60000") long retryDelayMillis
+) {
+}
@@ -0,0 +1,17 @@
+package com.gourmet.review.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 도움됨 수 쓰기 버퍼(HelpfulCountBuffer) 설정.
+ *
+ * @param flushMillis 버퍼를 DB에 반영하는 주기. 이 시간 안의 같은 리뷰/회원 도움됨 변경은 UPDATE 한 번으로 합쳐진다.
+ * @param batchSize   한 트랜잭션에서 반영할 최대 리뷰/회원 수
+ */
+@ConfigurationProperties(prefix = "gourmet.helpful-buffer")
+public record HelpfulCountBufferProperties(
+        @DefaultValue("3000") long flushMillis,
+        @DefaultValue("500") int batchSize
+) {
+}
@@ -0,0 +1,29 @@
+package com.gourmet.review.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 다중 인스턴스 배치 실행 설정 (DB 임대 잠금 job_lease, 노드 간 분할 실행).
+ *
+ * @param enabled               false면 임대 없이 실행한다(단일 인스턴스).
+ * @param nodeId                임대 소유자 id. 비우면 hostname-pid
+ * @param leaseTtlMillis        임대 만료 시간. 실행 중에는 청크마다 연장되므로 청크 1개 처리 시간보다 길면 된다.
+ * @param minHoldMillis         실행이 일찍 끝나도 임대를 유지할 최소 시간 (다른 노드의 같은 주기 스케줄이 늦게 떠도 다시 실행하지 않게)
+ * @param sharding              true면 분할 가능한 작업(시간감가/편차 보정)을 살아 있는 노드 수만큼 storeId/memberId 해시로 나눠 처리한다.
+ * @param maxShards             분할 수 상한
+ * @param heartbeatMillis       노드 생존 신호(node:{nodeId} 임대) 갱신 주기. 만료는 이 값의 3배
+ * @param joinWaitMillis        임대를 못 얻은 노드가 분할 실행에 합류하려고 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "gourmet.job-cluster")
+public record JobClusterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("") String nodeId,
+        @DefaultValue("600000") long leaseTtlMillis,
+        @DefaultValue("30000") long minHoldMillis,
+        @DefaultValue("false") boolean sharding,
+        @DefaultValue("16") int maxShards,
+        @DefaultValue("10000") long heartbeatMillis,
+        @DefaultValue("30000") long joinWaitMillis
+) {
+}
@@ -0,0 +1,19 @@
+package com.gourmet.review.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가게 점수 이력(store_score_history) 압축 설정.
+ *
+ * @param rawRetentionDays   원본 이력 보관 일수. 지나면 일 단위 롤업으로 압축한다.
+ * @param dailyRetentionDays 일 단위 롤업 보관 일수. 지나면 주 단위(월요일 시작) 롤업으로 압축한다.
+ * @param batchSize          압축 시 한 번에 처리할 가게 수
+ */
+@ConfigurationProperties(prefix = "gourmet.score-history")
+public record ScoreHistoryProperties(
+        @DefaultValue("7") int rawRetentionDays,
+        @DefaultValue("90") int dailyRetentionDays,
+        @DefaultValue("500") int batchSize
+) {
+}
@@ -0,0 +1,40 @@
+package com.gourmet.review.config;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 섀도 스코어링(후보 점수 정책 병행 계산) 설정.
+ *
+ * @param enabled         배치 재계산 시 후보 정책 점수를 함께 계산해 store_score_shadow에 기록할지 여부
+ * @param reportThreshold 리포트에서 '점수가 바뀐 가게'로 셀 최소 |차이|
+ * @param candidates      후보 정책 목록 (정책 이름은 store_score_shadow.policy_name)
+ */
+@ConfigurationProperties(prefix = "gourmet.shadow-scoring")
+public record ShadowScoringProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.10") BigDecimal reportThreshold,
+        List<InfluenceCandidate> candidates
+) {
+
+    public ShadowScoringProperties {
+        candidates = candidates == null ? List.of() : List.copyOf(candidates);
+    }
+
+    /**
+     * 후한 성향(작성자 평균 점수 > 3.0)인 작성자의 가중치를 낮추는 후보 정책 (RatingSimulation의 Proposed 방식).
+     *
+     * @param beta                  후한 정도(평균 - 3.0)에 곱하는 감쇠 강도
+     * @param minFactor             가중치 감쇠 하한
+     * @param minReviewsForUserMean 작성자 평균을 신뢰하기 위한 최소 PUBLIC 리뷰 수 (미만이면 감쇠 없음)
+     */
+    public record InfluenceCandidate(
+            String name,
+            BigDecimal beta,
+            BigDecimal minFactor,
+            @DefaultValue("20") int minReviewsForUserMean
+    ) {
+    }
+}
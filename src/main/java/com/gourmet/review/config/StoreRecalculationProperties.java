@@ -0,0 +1,23 @@
+package com.gourmet.review.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 배치 가게 점수 재계산(StoreScoreRecalculationEngine) 설정.
+ *
+ * @param threads             동시에 처리할 청크 수(워커 스레드 수). DB 커넥션 풀 크기 - reservedConnections 를 넘지 않는다.
+ * @param reservedConnections 워커가 쓰지 않고 남겨 둘 커넥션 수(배치 호출 스레드/API 요청용)
+ * @param chunkSize           청크당 가게 수(청크 1개 = 트랜잭션 1개)
+ * @param maxAttempts         청크 실패 시 최대 시도 횟수
+ * @param retryBackoffMillis  재시도 간격(시도 횟수만큼 배수로 증가)
+ */
+@ConfigurationProperties(prefix = "gourmet.recalculation")
+public record StoreRecalculationProperties(
+        @DefaultValue("4") int threads,
+        @DefaultValue("4") int reservedConnections,
+        @DefaultValue("300") int chunkSize,
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("500") long retryBackoffMillis
+) {
+}
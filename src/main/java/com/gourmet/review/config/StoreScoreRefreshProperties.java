@@ -0,0 +1,17 @@
+package com.gourmet.review.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가게 점수 반영 큐(StoreScoreRefreshQueue) 설정.
+ *
+ * @param windowMillis 큐를 비우는 주기. 이 시간 안에 같은 가게에 들어온 변경은 한 번의 점수 갱신으로 합쳐진다.
+ * @param batchSize    한 트랜잭션에서 갱신할 최대 가게 수
+ */
+@ConfigurationProperties(prefix = "gourmet.score-refresh")
+public record StoreScoreRefreshProperties(
+        @DefaultValue("500") long windowMillis,
+        @DefaultValue("300") int batchSize
+) {
+}
@@ -0,0 +1,78 @@
+package com.gourmet.review.domain.entity;
+
+import com.gourmet.review.domain.enums.PolicyJobType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 정책 배치 체크포인트
+ * 진행 중인 실행의 분할(shard)별 마지막 커밋 위치(단계, keyset 키). 실행이 성공하면 지운다.
+ * 행이 남아 있으면 다음 실행은 새로 시작하지 않고 이 위치부터 이어서 실행한다.
+ */
+@Entity
+@Table(name = "job_checkpoint", indexes = {
+        @Index(name = "idx_job_checkpoint_job", columnList = "job_name"),
+        @Index(name = "idx_job_checkpoint_run", columnList = "run_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobCheckpoint extends BaseEntity {
+
+    /**
+     * {job_name}#{shard_index}
+     */
+    @Id
+    @Column(name = "checkpoint_key", length = 100)
+    private String checkpointKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_name", nullable = false, length = 50)
+    private PolicyJobType jobName;
+
+    @Column(name = "shard_index", nullable = false)
+    private Integer shardIndex;
+
+    /**
+     * 이어서 실행할 job_run.id
+     */
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    /**
+     * 진행 중인 단계 (0부터)
+     */
+    @Column(name = "phase", nullable = false)
+    @Builder.Default
+    private Integer phase = 0;
+
+    /**
+     * 단계 안에서 마지막으로 커밋된 keyset 키 (회원/가게 id)
+     */
+    @Column(name = "last_key", nullable = false)
+    @Builder.Default
+    private Long lastKey = 0L;
+
+    /**
+     * 분할의 모든 단계 완료 여부 (모든 분할이 끝나면 실행을 성공 처리한다)
+     */
+    @Column(name = "completed", nullable = false)
+    @Builder.Default
+    private Boolean completed = false;
+
+    public static String keyOf(PolicyJobType jobName, int shardIndex) {
+        return jobName.name() + "#" + shardIndex;
+    }
+
+    // ===== 비즈니스 로직 메서드 =====
+
+    public void advanceTo(int phase, long lastKey) {
+        this.phase = phase;
+        this.lastKey = lastKey;
+    }
+
+    public void complete() {
+        this.completed = true;
+    }
+}
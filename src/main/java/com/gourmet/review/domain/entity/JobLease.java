@@ -0,0 +1,33 @@
+package com.gourmet.review.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.*;
+
+/**
+ * 배치 임대 잠금 (다중 인스턴스 중복 실행 방지)
+ * 만료 전까지 owner_id 노드만 해당 작업/분할을 실행한다. 만료된 임대는 다른 노드가 가져갈 수 있다.
+ * node:{nodeId} 행은 노드 생존 신호로 쓴다(분할 수 산정).
+ * 행 생성/점유는 JobLeaseRepository 의 조건부 INSERT/UPDATE로만 한다.
+ */
+@Entity
+@Table(name = "job_lease")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobLease extends BaseEntity {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String leaseName;
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,144 @@
+package com.gourmet.review.domain.entity;
+
+import com.gourmet.review.domain.enums.JobRunMode;
+import com.gourmet.review.domain.enums.JobRunStatus;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 배치 실행 이력
+ * 실행 1회당 1행. 처리 구간(워터마크), 처리 건수, 소요 시간을 남긴다.
+ * 중단된 실행은 체크포인트(job_checkpoint)부터 같은 행으로 이어서 실행된다.
+ */
+@Entity
+@Table(name = "job_run", indexes = {
+        @Index(name = "idx_job_run_job_started", columnList = "job_name, started_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobRun extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_name", nullable = false, length = 50)
+    private PolicyJobType jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "run_mode", nullable = false, length = 20)
+    private JobRunMode runMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private JobRunStatus status = JobRunStatus.RUNNING;
+
+    /**
+     * 처리 구간 시작 (이전 성공 실행의 워터마크, 전체 실행이면 NULL)
+     */
+    @Column(name = "watermark_from")
+    private LocalDateTime watermarkFrom;
+
+    /**
+     * 처리 구간 끝 = 성공 시 새 워터마크
+     */
+    @Column(name = "watermark_to", nullable = false)
+    private LocalDateTime watermarkTo;
+
+    /**
+     * 검사한 대상 수 (편차 보정: 회원 수)
+     */
+    @Column(name = "scanned_count", nullable = false)
+    @Builder.Default
+    private Integer scannedCount = 0;
+
+    /**
+     * 상태가 바뀐 대상 수
+     */
+    @Column(name = "updated_count", nullable = false)
+    @Builder.Default
+    private Integer updatedCount = 0;
+
+    /**
+     * 분할 수 (노드 간 분할 실행이 아니면 1)
+     */
+    @Column(name = "shard_count", nullable = false)
+    @Builder.Default
+    private Integer shardCount = 1;
+
+    /**
+     * 커밋된 청크 수
+     */
+    @Column(name = "chunk_count", nullable = false)
+    @Builder.Default
+    private Integer chunkCount = 0;
+
+    /**
+     * 중단 후 이어서 실행한 횟수
+     */
+    @Column(name = "resume_count", nullable = false)
+    @Builder.Default
+    private Integer resumeCount = 0;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 실제 처리 시간 합계 (이어서 실행한 경우 중단 사이 시간은 빠지고, 분할 실행은 노드별 처리 시간을 더한다)
+     */
+    @Column(name = "duration_millis")
+    private Long durationMillis;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    // ===== 비즈니스 로직 메서드 =====
+
+    /**
+     * 청크 1개 커밋분을 누적한다 (체크포인트와 같은 트랜잭션)
+     */
+    public void recordChunk(int scannedCount, int updatedCount) {
+        this.scannedCount += scannedCount;
+        this.updatedCount += updatedCount;
+        this.chunkCount++;
+    }
+
+    public void resume() {
+        this.status = JobRunStatus.RUNNING;
+        this.resumeCount++;
+        this.errorMessage = null;
+        this.finishedAt = null;
+    }
+
+    public void succeed(LocalDateTime finishedAt, long elapsedMillis) {
+        this.status = JobRunStatus.SUCCEEDED;
+        this.finishedAt = finishedAt;
+        addDuration(elapsedMillis);
+    }
+
+    public void fail(String errorMessage, LocalDateTime finishedAt, long elapsedMillis) {
+        this.status = JobRunStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500)
+                : errorMessage;
+        this.finishedAt = finishedAt;
+        addDuration(elapsedMillis);
+    }
+
+    /**
+     * 분할 실행에서 마무리하지 않은 노드의 처리 시간을 더한다
+     */
+    public void addDuration(long elapsedMillis) {
+        this.durationMillis = (this.durationMillis == null ? 0L : this.durationMillis) + elapsedMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.gourmet.review.domain.entity;
+
+import com.gourmet.review.domain.enums.PolicyJobType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 배치 워터마크
+ * 마지막으로 성공한 실행의 기준 시각을 저장하여, 다음 실행이 그 이후 변경분만 처리할 수 있게 한다.
+ */
+@Entity
+@Table(name = "job_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class JobWatermark extends BaseEntity {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_name", length = 50)
+    private PolicyJobType jobName;
+
+    /**
+     * 마지막 성공 실행의 기준 시각
+     */
+    @Column(name = "watermark_at", nullable = false)
+    private LocalDateTime watermarkAt;
+
+    // ===== 비즈니스 로직 메서드 =====
+
+    public void advanceTo(LocalDateTime watermarkAt) {
+        this.watermarkAt = watermarkAt;
+    }
+}
@@ -4,6 +4,7 @@ import com.gourmet.review.domain.enums.MemberRole;
 import com.gourmet.review.domain.enums.MemberTier;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
  * v1.3.2: tier 기반 등급제, 활동성 추적, 편차 보정 대상 관리
  */
 @Entity
+@DynamicUpdate
 @Table(name = "member", indexes = {
         @Index(name = "idx_member_email", columnList = "email", unique = true),
         @Index(name = "idx_member_nickname", columnList = "nickname", unique = true),
@@ -131,40 +133,6 @@ public class Member extends BaseEntity {
         }
     }
 
-    /**
-     * 리뷰 작성 시 호출
-     */
-    public void incrementReviewCount() {
-        this.reviewCount++;
-        this.lastReviewAt = LocalDateTime.now();
-        updateTier();
-    }
-
-    /**
-     * 도움됨 증가
-     */
-    public void incrementHelpfulCount() {
-        this.helpfulCount++;
-        updateTier();
-    }
-
-    /**
-     * 도움됨 감소
-     */
-    public void decrementHelpfulCount() {
-        if (this.helpfulCount > 0) {
-            this.helpfulCount--;
-            updateTier();
-        }
-    }
-
-    /**
-     * 위반 횟수 증가
-     */
-    public void incrementViolationCount() {
-        this.violationCount++;
-    }
-
     /**
      * 편차 보정 대상 설정
      */
@@ -179,16 +147,6 @@ public class Member extends BaseEntity {
         this.nickname = nickname;
     }
 
-    /**
-     * 등급 자동 업데이트
-     * BLACK과 GOURMET 등급은 수동으로만 부여 가능하므로 자동 업데이트에서 제외
-     */
-    private void updateTier() {
-        if (this.tier != MemberTier.BLACK) {
-            this.tier = MemberTier.calculateTier(this.reviewCount, this.helpfulCount);
-        }
-    }
-
     /**
      * 관리자가 BLACK 등급 부여
      */
@@ -216,7 +174,7 @@ public class Member extends BaseEntity {
     /**
      * 관리자가 회원 등급을 강제로 변경한다.
      * - 기존 tier 값을 반환한다(소급 재계산/BLACK 처리 트리거 용)
-     * - 자동 tier 업데이트(updateTier)와는 별개로 동작한다.
+     * - 자동 tier 업데이트(ReviewPolicyJobService.recalculateTiers)와는 별개로 동작한다.
      */
     public MemberTier forceUpdateTier(MemberTier newTier) {
         MemberTier oldTier = this.tier;
@@ -1,8 +1,10 @@
 package com.gourmet.review.domain.entity;
 
+import com.gourmet.review.common.util.ScoreKernel;
 import com.gourmet.review.domain.enums.ReviewStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,12 +20,15 @@ import java.time.LocalDateTime;
  * BaseEntity 미상속: created_at updatable=false 처리 필요
  */
 @Entity
+@DynamicUpdate
 @Table(name = "review", indexes = {
         @Index(name = "idx_review_store", columnList = "store_id"),
         @Index(name = "idx_review_member", columnList = "member_id"),
         @Index(name = "idx_review_status", columnList = "status"),
         @Index(name = "idx_review_created_at", columnList = "created_at"),
-        @Index(name = "idx_review_store_status", columnList = "store_id, status")
+        @Index(name = "idx_review_store_status", columnList = "store_id, status"),
+        @Index(name = "idx_review_member_status_created", columnList = "member_id, status, created_at"),
+        @Index(name = "idx_review_updated_at", columnList = "updated_at")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -32,6 +37,11 @@ import java.time.LocalDateTime;
 @Builder
 public class Review {
 
+    private static final BigDecimal TASTE_WEIGHT = ScoreKernel.toDecimal2(ScoreKernel.TASTE_WEIGHT2);          // 40%
+    private static final BigDecimal VALUE_WEIGHT = ScoreKernel.toDecimal2(ScoreKernel.VALUE_WEIGHT2);          // 30% (가성비)
+    private static final BigDecimal AMBIANCE_WEIGHT = ScoreKernel.toDecimal2(ScoreKernel.AMBIANCE_WEIGHT2);    // 15% (분위기)
+    private static final BigDecimal SERVICE_WEIGHT = ScoreKernel.toDecimal2(ScoreKernel.SERVICE_WEIGHT2);      // 15%
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -156,15 +166,21 @@ public class Review {
     @PrePersist
     @PreUpdate
     public void calculateScore() {
-        BigDecimal tasteWeight = new BigDecimal("0.40");      // 40%
-        BigDecimal valueWeight = new BigDecimal("0.30");      // 30% (가성비)
-        BigDecimal ambianceWeight = new BigDecimal("0.15");   // 15% (분위기)
-        BigDecimal serviceWeight = new BigDecimal("0.15");    // 15%
-
-        this.scoreCalculated = scoreTaste.multiply(tasteWeight)
-                .add(scoreValue.multiply(valueWeight))
-                .add(scoreAmbiance.multiply(ambianceWeight))
-                .add(scoreService.multiply(serviceWeight))
+        if (ScoreKernel.fitsScale2(scoreTaste) && ScoreKernel.fitsScale2(scoreValue)
+                && ScoreKernel.fitsScale2(scoreAmbiance) && ScoreKernel.fitsScale2(scoreService)) {
+            this.scoreCalculated = ScoreKernel.toDecimal2(ScoreKernel.reviewScore2(
+                    ScoreKernel.toScaled2(scoreTaste),
+                    ScoreKernel.toScaled2(scoreValue),
+                    ScoreKernel.toScaled2(scoreAmbiance),
+                    ScoreKernel.toScaled2(scoreService)));
+            return;
+        }
+
+        // 소수 3자리 이상 입력 등 고정소수점으로 표현되지 않는 경우
+        this.scoreCalculated = scoreTaste.multiply(TASTE_WEIGHT)
+                .add(scoreValue.multiply(VALUE_WEIGHT))
+                .add(scoreAmbiance.multiply(AMBIANCE_WEIGHT))
+                .add(scoreService.multiply(SERVICE_WEIGHT))
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
@@ -212,21 +228,6 @@ public class Review {
         this.status = ReviewStatus.BLIND_HELD;
     }
 
-    /**
-     * 도움이 됨 수 증가
-     */
-    public void incrementHelpfulCount(){this.helpfulCount++;}
-
-    /**
-     * 도움이 됨 수 감소
-     */
-    public void decrementHelpfulCount(){
-        if(this.helpfulCount > 0){
-            this.helpfulCount--;
-        }
-    }
-
-
     /**
      * 리뷰 내용 및 점수 수정
      * @param content 새로운 내용
@@ -2,6 +2,7 @@ package com.gourmet.review.domain.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
  * v1.3.2: score_weighted 네이밍, review_count_valid 추가, 블라인드 처리
  */
 @Entity
+@DynamicUpdate
 @Table(name = "store", indexes = {
         @Index(name = "idx_store_category", columnList = "category_id"),
         @Index(name = "idx_store_region", columnList = "region_id"),
@@ -72,6 +74,26 @@ public class Store extends BaseEntity {
     @Builder.Default
     private BigDecimal scoreWeighted = BigDecimal.ZERO;
 
+    /**
+     * 항목별 가중 평점 (맛/가성비/분위기/서비스)
+     * score_weighted와 같은 등급 × 시간 감가 가중치의 베이지안 평균 (편차 보정 미적용)
+     */
+    @Column(name = "score_taste", nullable = false, precision = 3, scale = 2)
+    @Builder.Default
+    private BigDecimal scoreTaste = BigDecimal.ZERO;
+
+    @Column(name = "score_value", nullable = false, precision = 3, scale = 2)
+    @Builder.Default
+    private BigDecimal scoreValue = BigDecimal.ZERO;
+
+    @Column(name = "score_ambiance", nullable = false, precision = 3, scale = 2)
+    @Builder.Default
+    private BigDecimal scoreAmbiance = BigDecimal.ZERO;
+
+    @Column(name = "score_service", nullable = false, precision = 3, scale = 2)
+    @Builder.Default
+    private BigDecimal scoreService = BigDecimal.ZERO;
+
     /**
      * 전체 리뷰 수 (상태 무관)
      */
@@ -116,22 +138,6 @@ public class Store extends BaseEntity {
 
     // ===== 비즈니스 로직 메서드 =====
 
-    /**
-     * 리뷰 추가 시 호출
-     */
-    public void incrementReviewCount() {
-        this.reviewCount++;
-    }
-
-    /**
-     * 리뷰 삭제 시 호출
-     */
-    public void decrementReviewCount() {
-        if (this.reviewCount > 0) {
-            this.reviewCount--;
-        }
-    }
-
     /**
      * PUBLIC 상태 리뷰 추가 시 호출
      */
@@ -163,29 +169,6 @@ public class Store extends BaseEntity {
         this.isBlind = this.reviewCountValid < 5;
     }
 
-    /**
-     * 스크랩 수 증가
-     */
-    public void incrementScrapCount() {
-        this.scrapCount++;
-    }
-
-    /**
-     * 스크랩 수 감소
-     */
-    public void decrementScrapCount() {
-        if (this.scrapCount > 0) {
-            this.scrapCount--;
-        }
-    }
-
-    /**
-     * 조회수 증가
-     */
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
     /**
      * 평균 평점 업데이트
      * @param newAvgRating 새로운 평균 평점
@@ -202,6 +185,17 @@ public class Store extends BaseEntity {
         this.scoreWeighted = newScoreWeighted;
     }
 
+    /**
+     * 항목별 가중 평점 업데이트
+     */
+    public void updateDimensionScores(BigDecimal scoreTaste, BigDecimal scoreValue,
+                                      BigDecimal scoreAmbiance, BigDecimal scoreService) {
+        this.scoreTaste = scoreTaste;
+        this.scoreValue = scoreValue;
+        this.scoreAmbiance = scoreAmbiance;
+        this.scoreService = scoreService;
+    }
+
     /**
      * 가게 정보 수정
      */
@@ -0,0 +1,123 @@
+package com.gourmet.review.domain.entity;
+
+import com.gourmet.review.domain.enums.DecayBucket;
+import com.gourmet.review.domain.enums.MemberTier;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * 가게 점수 집계 셀 (가게 × 회원 등급 × 시간 감가 구간)
+ * PUBLIC 리뷰가 반영/제외될 때마다 증감(delta)만 적용하여, 가게 점수 재계산 시 리뷰 전체를 다시 읽지 않는다.
+ * 셀 안에서는 가중치(등급 가중치 × 감가 가중치)가 상수이므로
+ * 가중합 = 가중치 × score_sum, 총 가중치 = 가중치 × review_count 로 복원된다.
+ */
+@Entity
+@Table(name = "store_score_bucket",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_store_score_bucket", columnNames = {"store_id", "tier", "decay_bucket"})
+        },
+        indexes = {
+                @Index(name = "idx_store_score_bucket_store", columnList = "store_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoreScoreBucket extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    /**
+     * 리뷰 작성자 등급 (반영 시점 기준)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tier", nullable = false, length = 20)
+    private MemberTier tier;
+
+    /**
+     * 시간 감가 구간 (감가 기준 시각 기준)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "decay_bucket", nullable = false, length = 20)
+    private DecayBucket decayBucket;
+
+    /**
+     * 셀에 포함된 PUBLIC 리뷰 수
+     */
+    @Column(name = "review_count", nullable = false)
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    /**
+     * 편차 보정이 적용된 score_calculated 합계 (가중 평점용)
+     */
+    @Column(name = "score_sum", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal scoreSum = BigDecimal.ZERO;
+
+    /**
+     * 보정 전 score_calculated 합계 (단순 평균 avg_rating용)
+     */
+    @Column(name = "raw_score_sum", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal rawScoreSum = BigDecimal.ZERO;
+
+    /**
+     * 항목별(맛/가성비/분위기/서비스) 점수 합계 (항목별 가중 평점용, 편차 보정 없음)
+     */
+    @Column(name = "taste_sum", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal tasteSum = BigDecimal.ZERO;
+
+    @Column(name = "value_sum", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal valueSum = BigDecimal.ZERO;
+
+    @Column(name = "ambiance_sum", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal ambianceSum = BigDecimal.ZERO;
+
+    @Column(name = "service_sum", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal serviceSum = BigDecimal.ZERO;
+
+    // ===== 비즈니스 로직 메서드 =====
+
+    /**
+     * 리뷰 1건 이상의 기여분 합(delta)을 반영한다. 제외는 음수 delta로 표현한다.
+     */
+    public void applyDelta(int reviewCountDelta, BigDecimal scoreSumDelta, BigDecimal rawScoreSumDelta,
+                           BigDecimal tasteSumDelta, BigDecimal valueSumDelta,
+                           BigDecimal ambianceSumDelta, BigDecimal serviceSumDelta) {
+        this.reviewCount += reviewCountDelta;
+        this.scoreSum = this.scoreSum.add(scoreSumDelta);
+        this.rawScoreSum = this.rawScoreSum.add(rawScoreSumDelta);
+        this.tasteSum = this.tasteSum.add(tasteSumDelta);
+        this.valueSum = this.valueSum.add(valueSumDelta);
+        this.ambianceSum = this.ambianceSum.add(ambianceSumDelta);
+        this.serviceSum = this.serviceSum.add(serviceSumDelta);
+    }
+
+    /**
+     * 전체 재집계 결과로 셀 값을 덮어쓴다.
+     */
+    public void overwrite(int reviewCount, BigDecimal scoreSum, BigDecimal rawScoreSum,
+                          BigDecimal tasteSum, BigDecimal valueSum,
+                          BigDecimal ambianceSum, BigDecimal serviceSum) {
+        this.reviewCount = reviewCount;
+        this.scoreSum = scoreSum;
+        this.rawScoreSum = rawScoreSum;
+        this.tasteSum = tasteSum;
+        this.valueSum = valueSum;
+        this.ambianceSum = ambianceSum;
+        this.serviceSum = serviceSum;
+    }
+}
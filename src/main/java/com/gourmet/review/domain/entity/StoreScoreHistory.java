@@ -0,0 +1,49 @@
+package com.gourmet.review.domain.entity;
+
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 가게 점수 이력 (원본, append-only)
+ * 점수 재계산으로 가게 점수가 바뀔 때마다 1행이 추가된다. 쓰기는 StoreScoreHistoryService가 JDBC batch로 한다.
+ * 수정되지 않으므로 BaseEntity(수정일시)를 상속하지 않고 recorded_at만 둔다.
+ */
+@Entity
+@Table(name = "store_score_history", indexes = {
+        @Index(name = "idx_store_score_history_store_recorded", columnList = "store_id, recorded_at"),
+        @Index(name = "idx_store_score_history_recorded", columnList = "recorded_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoreScoreHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    @Column(name = "score_weighted", nullable = false, precision = 3, scale = 2)
+    private BigDecimal scoreWeighted;
+
+    @Column(name = "avg_rating", nullable = false, precision = 3, scale = 2)
+    private BigDecimal avgRating;
+
+    @Column(name = "review_count_valid", nullable = false)
+    private Integer reviewCountValid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, length = 20)
+    private ScoreChangeReason reason;
+}
@@ -0,0 +1,120 @@
+package com.gourmet.review.domain.entity;
+
+import com.gourmet.review.domain.enums.ScoreHistoryGranularity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 가게 점수 이력 롤업 (가게 × 해상도 × 기간)
+ * 기간 안의 원본 이력(또는 하위 롤업)을 시가/종가/최저/최고와 마지막 평균 평점·유효 리뷰 수로 압축한다.
+ */
+@Entity
+@Table(name = "store_score_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_store_score_rollup", columnNames = {"store_id", "granularity", "period_start"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoreScoreRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    /**
+     * DAILY 또는 WEEKLY
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private ScoreHistoryGranularity granularity;
+
+    /**
+     * 기간 시작일 (WEEKLY는 월요일)
+     */
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    /**
+     * 압축된 원본 이력 수
+     */
+    @Column(name = "point_count", nullable = false)
+    @Builder.Default
+    private Integer pointCount = 0;
+
+    @Column(name = "first_recorded_at")
+    private LocalDateTime firstRecordedAt;
+
+    @Column(name = "last_recorded_at")
+    private LocalDateTime lastRecordedAt;
+
+    @Column(name = "open_score_weighted", precision = 3, scale = 2)
+    private BigDecimal openScoreWeighted;
+
+    @Column(name = "close_score_weighted", precision = 3, scale = 2)
+    private BigDecimal closeScoreWeighted;
+
+    @Column(name = "min_score_weighted", precision = 3, scale = 2)
+    private BigDecimal minScoreWeighted;
+
+    @Column(name = "max_score_weighted", precision = 3, scale = 2)
+    private BigDecimal maxScoreWeighted;
+
+    /**
+     * 기간 마지막 시점의 평균 평점/유효 리뷰 수
+     */
+    @Column(name = "avg_rating", precision = 3, scale = 2)
+    private BigDecimal avgRating;
+
+    @Column(name = "review_count_valid")
+    private Integer reviewCountValid;
+
+    // ===== 비즈니스 로직 메서드 =====
+
+    /**
+     * 원본 이력 1건을 반영한다. 반영 순서와 무관하게 시각 기준으로 시가/종가를 정한다.
+     */
+    public void addPoint(LocalDateTime recordedAt, BigDecimal scoreWeighted, BigDecimal avgRating, int reviewCountValid) {
+        absorb(1, recordedAt, scoreWeighted, recordedAt, scoreWeighted,
+                scoreWeighted, scoreWeighted, avgRating, reviewCountValid);
+    }
+
+    /**
+     * 하위 해상도 롤업(예: DAILY → WEEKLY)을 반영한다.
+     */
+    public void merge(StoreScoreRollup other) {
+        if (other.pointCount == null || other.pointCount == 0) {
+            return;
+        }
+        absorb(other.pointCount, other.firstRecordedAt, other.openScoreWeighted,
+                other.lastRecordedAt, other.closeScoreWeighted,
+                other.minScoreWeighted, other.maxScoreWeighted, other.avgRating, other.reviewCountValid);
+    }
+
+    private void absorb(int count, LocalDateTime firstAt, BigDecimal open, LocalDateTime lastAt, BigDecimal close,
+                        BigDecimal min, BigDecimal max, BigDecimal lastAvgRating, Integer lastReviewCountValid) {
+        boolean empty = this.pointCount == 0;
+        this.pointCount += count;
+        if (empty || firstAt.isBefore(this.firstRecordedAt)) {
+            this.firstRecordedAt = firstAt;
+            this.openScoreWeighted = open;
+        }
+        if (empty || !lastAt.isBefore(this.lastRecordedAt)) {
+            this.lastRecordedAt = lastAt;
+            this.closeScoreWeighted = close;
+            this.avgRating = lastAvgRating;
+            this.reviewCountValid = lastReviewCountValid;
+        }
+        this.minScoreWeighted = empty ? min : this.minScoreWeighted.min(min);
+        this.maxScoreWeighted = empty ? max : this.maxScoreWeighted.max(max);
+    }
+}
@@ -0,0 +1,74 @@
+package com.gourmet.review.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 후보 점수 정책의 가게별 점수 (섀도 스코어링)
+ * 운영 점수(score_weighted)와 같은 배치 재계산에서 함께 계산되며, 운영 점수에는 영향을 주지 않는다.
+ */
+@Entity
+@Table(name = "store_score_shadow",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_store_score_shadow", columnNames = {"store_id", "policy_name"})
+        },
+        indexes = {
+                @Index(name = "idx_store_score_shadow_policy", columnList = "policy_name")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class StoreScoreShadow extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "store_id", nullable = false)
+    private Store store;
+
+    /**
+     * 후보 정책 이름 (gourmet.shadow-scoring.candidates[].name)
+     */
+    @Column(name = "policy_name", nullable = false, length = 50)
+    private String policyName;
+
+    /**
+     * 계산에 쓰인 PUBLIC 리뷰 수
+     */
+    @Column(name = "review_count", nullable = false)
+    private Integer reviewCount;
+
+    /**
+     * 같은 계산에서 나온 운영 정책 점수 (score_weighted)
+     */
+    @Column(name = "production_score", nullable = false, precision = 3, scale = 2)
+    private BigDecimal productionScore;
+
+    @Column(name = "candidate_score", nullable = false, precision = 3, scale = 2)
+    private BigDecimal candidateScore;
+
+    /**
+     * candidate_score - production_score
+     */
+    @Column(name = "score_diff", nullable = false, precision = 4, scale = 2)
+    private BigDecimal scoreDiff;
+
+    @Column(name = "evaluated_at", nullable = false)
+    private LocalDateTime evaluatedAt;
+
+    // ===== 비즈니스 로직 메서드 =====
+
+    public void record(int reviewCount, BigDecimal productionScore, BigDecimal candidateScore, LocalDateTime evaluatedAt) {
+        this.reviewCount = reviewCount;
+        this.productionScore = productionScore;
+        this.candidateScore = candidateScore;
+        this.scoreDiff = candidateScore.subtract(productionScore);
+        this.evaluatedAt = evaluatedAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gourmet.review.domain.enums;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시간 감가상각 구간
+ * 리뷰 작성일(created_at)과 기준 시각의 차이로 구간을 정하고, 구간별 가중치를 적용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DecayBucket {
+    RECENT("6개월 이내", new BigDecimal("1.0")),
+    MONTHS_6_TO_12("6개월~1년", new BigDecimal("0.8")),
+    YEARS_1_TO_2("1년~2년", new BigDecimal("0.5")),
+    YEARS_2_TO_3("2년~3년", new BigDecimal("0.2")),
+    YEARS_3_PLUS("3년 이상", new BigDecimal("0.1"));
+
+    private final String description;
+    private final BigDecimal factor;
+
+    /**
+     * 기준 시각(reference) 대비 작성일이 속한 구간을 반환한다.
+     * 작성일이 없으면 최신 구간으로 본다.
+     */
+    public static DecayBucket of(LocalDateTime createdAt, LocalDateTime reference) {
+        if (createdAt == null) {
+            return RECENT;
+        }
+        if (createdAt.isAfter(reference.minusMonths(6))) {
+            return RECENT;
+        }
+        if (createdAt.isAfter(reference.minusYears(1))) {
+            return MONTHS_6_TO_12;
+        }
+        if (createdAt.isAfter(reference.minusYears(2))) {
+            return YEARS_1_TO_2;
+        }
+        if (createdAt.isAfter(reference.minusYears(3))) {
+            return YEARS_2_TO_3;
+        }
+        return YEARS_3_PLUS;
+    }
+}
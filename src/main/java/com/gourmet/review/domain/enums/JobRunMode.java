@@ -0,0 +1,17 @@
+package com.gourmet.review.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정책 배치 실행 방식
+ * 증분(INCREMENTAL)은 워터마크 이후 변경분만, 전체(FULL)는 대상 전체를 다시 본다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JobRunMode {
+    FULL("전체"),
+    INCREMENTAL("증분");
+
+    private final String description;
+}
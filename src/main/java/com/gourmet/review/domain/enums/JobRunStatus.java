@@ -0,0 +1,17 @@
+package com.gourmet.review.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정책 배치 실행 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum JobRunStatus {
+    RUNNING("실행 중"),
+    SUCCEEDED("성공"),
+    FAILED("실패");
+
+    private final String description;
+}
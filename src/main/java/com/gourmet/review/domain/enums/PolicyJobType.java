@@ -0,0 +1,19 @@
+package com.gourmet.review.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정책 배치 작업 종류
+ * 워터마크/실행 이력의 키로 사용한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PolicyJobType {
+    TIME_DECAY("00:00 시간감가 재계산"),
+    DEVIATION("02:00 편차 보정 대상 산정"),
+    TIER_EVALUATION("04:00 등급 승급/강등 심사"),
+    COOLDOWN("쿨다운 만료 처리");
+
+    private final String description;
+}
@@ -0,0 +1,24 @@
+package com.gourmet.review.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 점수 변경 사유 (store_score_history.reason)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScoreChangeReason {
+    SCORE_REFRESH("리뷰/등급/편차 보정 변경 반영"),
+    TIME_DECAY("00:00 시간감가 재계산"),
+    REBUILD("집계 재구축");
+
+    private final String description;
+
+    /**
+     * 배치 재계산 엔진의 작업 종류 → 변경 사유
+     */
+    public static ScoreChangeReason from(PolicyJobType job) {
+        return job == PolicyJobType.TIME_DECAY ? TIME_DECAY : REBUILD;
+    }
+}
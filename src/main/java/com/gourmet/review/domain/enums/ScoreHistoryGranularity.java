@@ -0,0 +1,18 @@
+package com.gourmet.review.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 가게 점수 이력 해상도
+ * 원본(RAW)은 보관 기간이 지나면 일(DAILY) 단위로, 일 단위는 다시 주(WEEKLY) 단위로 압축된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ScoreHistoryGranularity {
+    RAW("원본"),
+    DAILY("일"),
+    WEEKLY("주");
+
+    private final String description;
+}
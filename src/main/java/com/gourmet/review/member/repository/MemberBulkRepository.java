@@ -0,0 +1,20 @@
+package com.gourmet.review.member.repository;
+
+import com.gourmet.review.domain.enums.MemberTier;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MemberRepository 확장: JPQL로 표현할 수 없는 회원 일괄 변경 (UPDATE ... RETURNING)
+ */
+public interface MemberBulkRepository {
+
+    /**
+     * fromTier 인 회원만 UPDATE 한 번으로 toTier 로 바꾸고, 실제로 바뀐 회원의 [memberId, is_deviation_target]을 돌려준다.
+     * 조회 이후 다른 경로로 등급이 바뀐 회원은 결과에 없다(기여분을 옮기면 안 되는 회원).
+     * 영속성 컨텍스트는 실행 전에 flush, 실행 후에 clear 된다(updateTier 와 같다).
+     */
+    List<Object[]> updateTierReturning(Collection<Long> memberIds, MemberTier fromTier, MemberTier toTier,
+                                       LocalDateTime now);
+}
@@ -0,0 +1,63 @@
+package com.gourmet.review.member.repository;
+
+import com.gourmet.review.common.util.SqlDialect;
+import com.gourmet.review.domain.enums.MemberTier;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 등급 변경 대상 회원을 UPDATE 한 문장으로 옮기고, 실제로 바뀐 회원의 id/편차 보정 대상 여부를 같이 돌려받는다
+ * (PostgreSQL은 RETURNING, H2는 FINAL TABLE). 이미 다른 등급으로 바뀐 회원은 tier 조건에 걸러져 빠진다.
+ */
+class MemberBulkRepositoryImpl implements MemberBulkRepository {
+
+    private static final String TIER_SET_WHERE = """
+            update member set tier = ?, updated_at = ?
+            where tier = ? and id in (%s)
+            """;
+    private static final String TIER_COLUMNS = "id, is_deviation_target";
+
+    private static final String TIER_RETURNING_POSTGRES = TIER_SET_WHERE + "returning " + TIER_COLUMNS;
+    private static final String TIER_RETURNING_H2 =
+            "select " + TIER_COLUMNS + " from final table (" + TIER_SET_WHERE + ")";
+
+    private static final RowMapper<Object[]> TIER_ROW = (rs, rowNum) -> new Object[] {
+            rs.getLong("id"),
+            rs.getBoolean("is_deviation_target")
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tierSql;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    MemberBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tierSql = SqlDialect.of(jdbcTemplate) == SqlDialect.H2 ? TIER_RETURNING_H2 : TIER_RETURNING_POSTGRES;
+    }
+
+    @Override
+    public List<Object[]> updateTierReturning(Collection<Long> memberIds, MemberTier fromTier, MemberTier toTier,
+                                              LocalDateTime now) {
+        if (memberIds.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        List<Object> parameters = new ArrayList<>(memberIds.size() + 3);
+        Collections.addAll(parameters, toTier.name(), Timestamp.valueOf(now), fromTier.name());
+        parameters.addAll(memberIds);
+        String placeholders = String.join(", ", Collections.nCopies(memberIds.size(), "?"));
+        List<Object[]> rows = jdbcTemplate.query(tierSql.formatted(placeholders), TIER_ROW, parameters.toArray());
+        entityManager.clear();
+        return rows;
+    }
+}
@@ -1,14 +1,82 @@
 package com.gourmet.review.member.repository;
 
 import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberBulkRepository {
 
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
 
     Optional<Member> findByEmail(String email);
+
+    // ===== 카운터 원자적 증감 (StoreRepository와 같다: 영속성 컨텍스트는 비우지 않음, 반환값은 변경된 행 수) =====
+    // 도움됨 수(helpful_count)는 HelpfulCountBuffer가 모아서 "helpful_count + ?" 배치 UPDATE로 반영한다.
+    // 등급은 ReviewPolicyJobService.recalculateTiers로 다시 계산한다.
+
+    /**
+     * 리뷰 작성: 리뷰 수 +1, 마지막 리뷰 시각 갱신
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(
+            "update Member m set m.reviewCount = m.reviewCount + 1, m.lastReviewAt = :now where m.id = :memberId")
+    int incrementReviewCount(Long memberId, LocalDateTime now);
+
+    /**
+     * afterId 다음 회원 id를 id 순으로 가져온다 (배치 keyset 페이지, mod(id, shardCount) = shardIndex 분할만)
+     */
+    @Query(
+            "select m.id from Member m " +
+            "where m.id > :afterId and mod(m.id, :shardCount) = :shardIndex order by m.id")
+    List<Long> findIdsAfter(Long afterId, int shardCount, int shardIndex, Pageable pageable);
+
+    /**
+     * 등급 심사: 마지막 리뷰가 cutoff 이전인 해당 등급 회원 [memberId, is_deviation_target]
+     * (idx_member_tier / idx_member_last_review_at 범위 조회, 엔티티 로딩 없음, afterId 다음부터 id 순 keyset 페이지)
+     */
+    @Query(
+            "select m.id, m.isDeviationTarget from Member m " +
+            "where m.tier = :tier and m.lastReviewAt < :cutoff and m.id > :afterId order by m.id")
+    List<Object[]> findTierCandidatesIdleSince(MemberTier tier, LocalDateTime cutoff, Long afterId, Pageable pageable);
+
+    /**
+     * 등급 심사: since 이후 작성한 리뷰(statuses) 수가 minReviews 미만인 해당 등급 회원 [memberId, is_deviation_target]
+     * (회원별 리뷰 수는 idx_review_member_status_created 범위 조회, afterId 다음부터 id 순 keyset 페이지)
+     */
+    @Query(
+            "select m.id, m.isDeviationTarget from Member m " +
+            "where m.tier = :tier and m.id > :afterId and (" +
+            "  select count(r) from Review r " +
+            "  where r.member.id = m.id and r.status in :statuses and r.createdAt >= :since" +
+            ") < :minReviews order by m.id")
+    List<Object[]> findTierCandidatesWithFewReviewsSince(MemberTier tier, Collection<ReviewStatus> statuses,
+                                                         LocalDateTime since, long minReviews,
+                                                         Long afterId, Pageable pageable);
+
+    /**
+     * 도움됨 수 반영 후 등급 재계산용 [memberId, tier, reviewCount, helpfulCount] (엔티티 로딩 없음)
+     */
+    @Query(
+            "select m.id, m.tier, m.reviewCount, m.helpfulCount from Member m where m.id in :memberIds")
+    List<Object[]> findTierCountsByIdIn(Collection<Long> memberIds);
+
+    /**
+     * 등급 일괄 변경. 조회 이후 다른 경로로 등급이 바뀐 회원은 fromTier 조건으로 건너뛴다.
+     * @return 변경된 회원 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "update Member m set m.tier = :toTier, m.updatedAt = :now " +
+            "where m.id in :memberIds and m.tier = :fromTier")
+    int updateTier(Collection<Long> memberIds, MemberTier fromTier, MemberTier toTier, LocalDateTime now);
 }
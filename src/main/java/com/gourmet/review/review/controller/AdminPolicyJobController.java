@@ -0,0 +1,58 @@
+package com.gourmet.review.review.controller;
+
+import com.gourmet.review.common.dto.ApiResponse;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.review.dto.JobRunResponse;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse;
+import com.gourmet.review.review.service.PolicyImpactPreviewService;
+import com.gourmet.review.review.service.ReviewPolicyJobService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/jobs")
+@RequiredArgsConstructor
+public class AdminPolicyJobController {
+
+    private final ReviewPolicyJobService reviewPolicyJobService;
+    private final PolicyImpactPreviewService policyImpactPreviewService;
+
+    /**
+     * 정책 배치 최근 실행 이력(구간, 처리 건수, 처리량, 소요 시간, 재개 위치). job을 빼면 전체 작업
+     */
+    @GetMapping("/runs")
+    public ApiResponse<List<JobRunResponse>> runs(@RequestParam(required = false) PolicyJobType job,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(reviewPolicyJobService.findRecentRuns(job, limit));
+    }
+
+    /**
+     * 정책 배치 미리보기(dry-run): 지금 실행하면 바뀌는 가게 수/점수 변화 분포/상태가 바뀌는 회원. 데이터는 바꾸지 않는다.
+     */
+    @GetMapping("/{job}/preview")
+    public ApiResponse<PolicyImpactPreviewResponse> preview(@PathVariable PolicyJobType job,
+                                                            @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(switch (job) {
+            case TIME_DECAY -> policyImpactPreviewService.previewTimeDecay(limit);
+            case DEVIATION -> policyImpactPreviewService.previewDeviationTargets(limit);
+            case TIER_EVALUATION -> policyImpactPreviewService.previewTierEvaluation(limit);
+            case COOLDOWN -> policyImpactPreviewService.previewCooldownExpirations(limit);
+        });
+    }
+
+    /**
+     * 회원 등급 수동 변경 미리보기
+     */
+    @GetMapping("/members/{memberId}/tier-preview")
+    public ApiResponse<PolicyImpactPreviewResponse> previewMemberTier(@PathVariable Long memberId,
+                                                                      @RequestParam MemberTier tier,
+                                                                      @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(policyImpactPreviewService.previewMemberTierChange(memberId, tier, limit));
+    }
+}
@@ -1,6 +1,8 @@
 package com.gourmet.review.review.controller;
 
 import com.gourmet.review.common.dto.ApiResponse;
+import com.gourmet.review.review.dto.ReviewBulkModerationRequest;
+import com.gourmet.review.review.dto.ReviewBulkModerationResponse;
 import com.gourmet.review.review.dto.ReviewModerationResponse;
 import com.gourmet.review.review.dto.ReviewRejectRequest;
 import com.gourmet.review.review.service.ReviewService;
@@ -44,4 +46,12 @@ public class AdminReviewController {
         reviewService.rejectReview(reviewId, request);
         return ApiResponse.success(null);
     }
+
+    /**
+     * 검수 일괄 처리(항목별 승인/반려, 최대 500건). 항목별 결과를 요청 순서대로 돌려준다.
+     */
+    @PostMapping("/moderation")
+    public ApiResponse<ReviewBulkModerationResponse> moderate(@RequestBody @Valid ReviewBulkModerationRequest request) {
+        return ApiResponse.success(reviewService.moderateReviews(request));
+    }
 }
@@ -0,0 +1,84 @@
+package com.gourmet.review.review.controller;
+
+import com.gourmet.review.common.dto.ApiResponse;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse;
+import com.gourmet.review.review.dto.ShadowScoreReportResponse;
+import com.gourmet.review.review.dto.StoreScoreConsistencyResponse;
+import com.gourmet.review.review.dto.StoreScoreHistoryResponse;
+import com.gourmet.review.review.service.PolicyImpactPreviewService;
+import com.gourmet.review.review.service.ReviewScoreService;
+import com.gourmet.review.review.service.ShadowScoringService;
+import com.gourmet.review.review.service.StoreScoreAggregateService;
+import com.gourmet.review.review.service.StoreScoreHistoryService;
+import com.gourmet.review.review.service.StoreScoreRefreshQueue;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/stores")
+@RequiredArgsConstructor
+public class AdminStoreScoreController {
+
+    private final StoreScoreAggregateService storeScoreAggregateService;
+    private final ReviewScoreService reviewScoreService;
+    private final StoreScoreRefreshQueue storeScoreRefreshQueue;
+    private final ShadowScoringService shadowScoringService;
+    private final StoreScoreHistoryService storeScoreHistoryService;
+    private final PolicyImpactPreviewService policyImpactPreviewService;
+
+    @GetMapping("/{storeId}/score-aggregate/consistency")
+    public ApiResponse<StoreScoreConsistencyResponse> verify(@PathVariable Long storeId) {
+        return ApiResponse.success(storeScoreAggregateService.verify(storeId));
+    }
+
+    @PostMapping("/{storeId}/score-aggregate/rebuild")
+    public ApiResponse<StoreScoreConsistencyResponse> rebuild(@PathVariable Long storeId) {
+        reviewScoreService.recalculateStoreScoresByStoreIds(List.of(storeId), ScoreChangeReason.REBUILD);
+        return ApiResponse.success(storeScoreAggregateService.verify(storeId));
+    }
+
+    /**
+     * 점수 재계산 미리보기(dry-run): PUBLIC 리뷰로 다시 계산한 점수와 반영된 점수의 차이. storeIds를 빼면 전체 가게
+     */
+    @GetMapping("/score-preview")
+    public ApiResponse<PolicyImpactPreviewResponse> scorePreview(@RequestParam(required = false) List<Long> storeIds,
+                                                                 @RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(policyImpactPreviewService.previewRecalculation(storeIds, limit));
+    }
+
+    /**
+     * 가게 점수 반영 큐 상태(대기 가게 수, 최장 대기 시간 등)
+     */
+    @GetMapping("/score-refresh-queue")
+    public ApiResponse<StoreScoreRefreshQueue.Stats> refreshQueueStats() {
+        return ApiResponse.success(storeScoreRefreshQueue.stats());
+    }
+
+    /**
+     * 후보 점수 정책별 운영 점수 대비 차이 리포트 (배치 재계산 시 기록된 store_score_shadow 기준)
+     */
+    @GetMapping("/score-shadow/report")
+    public ApiResponse<List<ShadowScoreReportResponse>> shadowReport(@RequestParam(defaultValue = "20") int limit) {
+        return ApiResponse.success(shadowScoringService.report(limit));
+    }
+
+    /**
+     * 가게 점수 이력 (오래된 구간은 일/주 롤업으로 압축돼 있다)
+     */
+    @GetMapping("/{storeId}/score-history")
+    public ApiResponse<StoreScoreHistoryResponse> scoreHistory(
+            @PathVariable Long storeId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ApiResponse.success(storeScoreHistoryService.findHistory(storeId, from, to));
+    }
+}
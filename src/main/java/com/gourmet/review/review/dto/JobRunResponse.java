@@ -0,0 +1,92 @@
+package com.gourmet.review.review.dto;
+
+import com.gourmet.review.domain.entity.JobCheckpoint;
+import com.gourmet.review.domain.entity.JobRun;
+import com.gourmet.review.domain.enums.JobRunMode;
+import com.gourmet.review.domain.enums.JobRunStatus;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정책 배치 실행 이력 (진행 중/중단된 실행은 체크포인트 위치 포함)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRunResponse {
+
+    private Long id;
+    private PolicyJobType jobName;
+    private JobRunMode runMode;
+    private JobRunStatus status;
+    private LocalDateTime watermarkFrom;
+    private LocalDateTime watermarkTo;
+    private Integer shardCount;
+    private Integer scannedCount;
+    private Integer updatedCount;
+    private Integer chunkCount;
+    private Integer resumeCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMillis;
+
+    /**
+     * 초당 처리 키 수 (scannedCount / 실제 처리 시간). 처리 시간이 없으면 null
+     */
+    private Double throughputPerSecond;
+    private String errorMessage;
+
+    /**
+     * 분할별 진행 위치 (진행 중이거나 중단돼 재개를 기다리는 실행만, 성공한 실행은 빈 목록)
+     */
+    private List<ShardProgress> shards;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ShardProgress {
+        private Integer shardIndex;
+        private Integer phase;
+        private Long lastKey;
+        private Boolean completed;
+    }
+
+    public static JobRunResponse from(JobRun run, List<JobCheckpoint> checkpoints) {
+        Long duration = run.getDurationMillis();
+        return JobRunResponse.builder()
+                .id(run.getId())
+                .jobName(run.getJobName())
+                .runMode(run.getRunMode())
+                .status(run.getStatus())
+                .watermarkFrom(run.getWatermarkFrom())
+                .watermarkTo(run.getWatermarkTo())
+                .shardCount(run.getShardCount())
+                .scannedCount(run.getScannedCount())
+                .updatedCount(run.getUpdatedCount())
+                .chunkCount(run.getChunkCount())
+                .resumeCount(run.getResumeCount())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .durationMillis(duration)
+                .throughputPerSecond(duration == null || duration == 0
+                        ? null
+                        : run.getScannedCount() * 1000.0 / duration)
+                .errorMessage(run.getErrorMessage())
+                .shards(checkpoints.stream()
+                        .map(checkpoint -> ShardProgress.builder()
+                                .shardIndex(checkpoint.getShardIndex())
+                                .phase(checkpoint.getPhase())
+                                .lastKey(checkpoint.getLastKey())
+                                .completed(checkpoint.getCompleted())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.gourmet.review.review.dto;
+
+import com.gourmet.review.domain.enums.MemberTier;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 정책 배치/재계산 미리보기(dry-run) 결과. 데이터는 바꾸지 않고 실행했을 때의 변화만 계산한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyImpactPreviewResponse {
+
+    /**
+     * 미리본 작업 (TIME_DECAY/DEVIATION/TIER_EVALUATION/COOLDOWN/MEMBER_TIER/RESCORE)
+     */
+    private String operation;
+
+    /**
+     * 점수 계산에 쓴 감가 구간 기준 시각
+     */
+    private LocalDateTime decayReference;
+
+    /**
+     * 다시 계산해 본 가게 수
+     */
+    private Integer scannedStoreCount;
+
+    /**
+     * 가중 점수 또는 유효 리뷰 수가 바뀌는 가게 수
+     */
+    private Integer affectedStoreCount;
+
+    /**
+     * 등급/편차 보정 여부가 바뀌는 회원 수
+     */
+    private Integer memberChangeCount;
+
+    /**
+     * 상태가 바뀌는 리뷰 수 (쿨다운 만료 승인)
+     */
+    private Integer reviewChangeCount;
+
+    private DeltaDistribution scoreDeltas;
+
+    /**
+     * |점수 변화|가 큰 가게 (limit 개)
+     */
+    private List<StoreDelta> largestDeltas;
+
+    /**
+     * 상태가 바뀌는 회원 (앞에서부터 limit 명)
+     */
+    private List<MemberChange> memberChanges;
+
+    private Long elapsedMillis;
+
+    /**
+     * 바뀌는 가게의 가중 점수 변화 분포
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeltaDistribution {
+        private BigDecimal min;
+        private BigDecimal max;
+        private BigDecimal meanAbs;
+        private List<DeltaBucket> histogram;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeltaBucket {
+        private String range;
+        private Integer storeCount;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StoreDelta {
+        private Long storeId;
+        private BigDecimal currentScore;
+        private BigDecimal previewScore;
+        private BigDecimal scoreDelta;
+        private Integer currentReviewCount;
+        private Integer previewReviewCount;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberChange {
+        private Long memberId;
+        private MemberTier fromTier;
+        private MemberTier toTier;
+        private Boolean fromDeviationTarget;
+        private Boolean toDeviationTarget;
+    }
+}
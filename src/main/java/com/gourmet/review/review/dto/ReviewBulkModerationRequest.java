@@ -0,0 +1,48 @@
+package com.gourmet.review.review.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검수 일괄 처리 요청 (항목별 승인/반려)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewBulkModerationRequest {
+
+    @NotEmpty
+    @Size(max = 500)
+    @Valid
+    private List<Item> items;
+
+    public enum Decision {
+        APPROVE, REJECT
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        @NotNull
+        private Long reviewId;
+
+        @NotNull
+        private Decision decision;
+
+        /**
+         * 반려 사유 (REJECT일 때 필수)
+         */
+        private String adminComment;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gourmet.review.review.dto;
+
+import com.gourmet.review.domain.enums.ReviewStatus;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검수 일괄 처리 결과. results는 요청 항목 순서와 같다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewBulkModerationResponse {
+
+    private Integer requestedCount;
+    private Integer succeededCount;
+    private Integer failedCount;
+
+    /**
+     * 공개 리뷰가 늘어 점수 갱신을 예약한 가게 수
+     */
+    private Integer rescoredStoreCount;
+
+    private List<ItemResult> results;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long reviewId;
+        private ReviewBulkModerationRequest.Decision decision;
+        private Boolean success;
+
+        /**
+         * 처리 후 상태 (실패 시 현재 상태, 리뷰가 없으면 NULL)
+         */
+        private ReviewStatus status;
+
+        /**
+         * 실패 사유
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gourmet.review.review.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 후보 점수 정책 1개의 운영 점수 대비 차이 리포트
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShadowScoreReportResponse {
+
+    private String policyName;
+    private Long storeCount;
+    private BigDecimal meanAbsDiff;
+    private BigDecimal maxAbsDiff;
+
+    /**
+     * |차이|가 reportThreshold 이상인 가게 수
+     */
+    private Long changedStoreCount;
+    private BigDecimal reportThreshold;
+    private LocalDateTime lastEvaluatedAt;
+
+    private List<StoreDiff> largestDiffs;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StoreDiff {
+        private Long storeId;
+        private String storeName;
+        private Integer reviewCount;
+        private BigDecimal productionScore;
+        private BigDecimal candidateScore;
+        private BigDecimal scoreDiff;
+    }
+}
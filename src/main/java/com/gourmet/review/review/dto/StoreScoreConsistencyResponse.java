@@ -0,0 +1,30 @@
+package com.gourmet.review.review.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 점수 집계(StoreScoreBucket)와 리뷰 전체 재계산(full-scan) 결과 비교
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreScoreConsistencyResponse {
+
+    private Long storeId;
+    private Boolean consistent;
+    private LocalDateTime decayReference;
+
+    private Integer aggregateReviewCount;
+    private BigDecimal aggregateAvgRating;
+    private BigDecimal aggregateScoreWeighted;
+
+    private Integer fullScanReviewCount;
+    private BigDecimal fullScanAvgRating;
+    private BigDecimal fullScanScoreWeighted;
+}
@@ -0,0 +1,55 @@
+package com.gourmet.review.review.dto;
+
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.domain.enums.ScoreHistoryGranularity;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가게 점수 이력 구간 조회 결과 (오래된 구간은 주/일 롤업, 최근 구간은 원본)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreScoreHistoryResponse {
+
+    private Long storeId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Point> points;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private ScoreHistoryGranularity granularity;
+
+        /**
+         * RAW는 기록 시각, 롤업은 기간 시작일 00:00
+         */
+        private LocalDateTime periodStart;
+
+        /**
+         * 기간 마지막 점수 (RAW는 해당 시점 점수)
+         */
+        private BigDecimal scoreWeighted;
+        private BigDecimal openScoreWeighted;
+        private BigDecimal minScoreWeighted;
+        private BigDecimal maxScoreWeighted;
+        private BigDecimal avgRating;
+        private Integer reviewCountValid;
+        private Integer pointCount;
+
+        /**
+         * 변경 사유 (RAW만)
+         */
+        private ScoreChangeReason reason;
+    }
+}
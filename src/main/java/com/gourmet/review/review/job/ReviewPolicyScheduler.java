@@ -1,6 +1,8 @@
 package com.gourmet.review.review.job;
 
+import com.gourmet.review.review.service.JobLeaseManager;
 import com.gourmet.review.review.service.ReviewPolicyJobService;
+import com.gourmet.review.review.service.StoreScoreHistoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -8,15 +10,22 @@ import org.springframework.stereotype.Component;
 
 /**
  * 문서(Functional Requirements v1.0) 기준 배치 스케줄러.
+ * 정책 배치의 실행 이력(job_run)/체크포인트(job_checkpoint)는 PolicyJobRunner가 남기며,
+ * 실패하거나 배포로 중단된 실행은 다음 주기에 체크포인트부터 이어서 처리된다(/admin/jobs/runs).
  *
- * 주의: 운영에서는 락/중복 실행 방지(ShedLock 등) 적용 권장.
+ * 여러 인스턴스에서 떠도 정책 배치는 DB 임대(job_lease)를 얻은 노드에서만 시작한다.
+ * gourmet.job-cluster.sharding=true 이면 시간감가/편차 보정은 살아 있는 노드들이 해시 분할로 나눠 처리한다.
  */
 @Profile("!test")
 @Component
 @RequiredArgsConstructor
 public class ReviewPolicyScheduler {
 
+    private static final String SCORE_HISTORY_COMPACT_LEASE = "SCORE_HISTORY_COMPACT";
+
     private final ReviewPolicyJobService policyJobService;
+    private final StoreScoreHistoryService storeScoreHistoryService;
+    private final JobLeaseManager jobLeaseManager;
 
     /**
      * 00:00 - 시간감가 반영을 위한 점수 재계산
@@ -34,6 +43,21 @@ public class ReviewPolicyScheduler {
         policyJobService.refreshDeviationTargets();
     }
 
+    /**
+     * 03:30 - 가게 점수 이력 압축(원본 → 일 → 주 롤업)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void compactStoreScoreHistory() {
+        if (!jobLeaseManager.tryAcquire(SCORE_HISTORY_COMPACT_LEASE)) {
+            return;
+        }
+        try {
+            storeScoreHistoryService.compact();
+        } finally {
+            jobLeaseManager.release(SCORE_HISTORY_COMPACT_LEASE, true);
+        }
+    }
+
     /**
      * 04:00 - 등급 승급/강등 심사
      */
@@ -43,10 +67,10 @@ public class ReviewPolicyScheduler {
     }
 
     /**
-     * 10분마다 - 쿨다운 만료 처리
-     * (요구사항은 12시간 후 자동 승인이라, 분 단위로 폴링)
+     * 매시 정각 - 쿨다운 만료 보정
+     * (12시간 만료 승인은 CooldownExpiryTimer가 정시에 처리하고, 이 폴링은 타이머가 놓친 항목만 처리)
      */
-    @Scheduled(cron = "0 */10 * * * *")
+    @Scheduled(cron = "0 0 * * * *")
     public void processCooldownExpirations() {
         policyJobService.processCooldownExpirations();
     }
@@ -0,0 +1,15 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.JobCheckpoint;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    List<JobCheckpoint> findByJobNameOrderByShardIndex(PolicyJobType jobName);
+
+    List<JobCheckpoint> findByRunId(Long runId);
+}
@@ -0,0 +1,48 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.JobLease;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /**
+     * 만료됐거나 이미 내 것인 임대를 점유한다 (행이 없으면 0 → insertLease)
+     * @return 점유했으면 1
+     */
+    @Modifying
+    @Query(
+            "update JobLease l set l.ownerId = :ownerId, l.acquiredAt = :now, l.expiresAt = :expiresAt, l.updatedAt = :now " +
+            "where l.leaseName = :leaseName and (l.ownerId = :ownerId or l.expiresAt <= :now)")
+    int takeOver(String leaseName, String ownerId, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * 새 임대 행. 다른 노드가 먼저 만들었으면 PK 위반으로 실패한다 (save 는 merge 라 덮어쓰므로 쓰지 않는다)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value =
+            "insert into job_lease (lease_name, owner_id, acquired_at, expires_at, created_at, updated_at) " +
+            "values (:leaseName, :ownerId, :now, :expiresAt, :now, :now)")
+    int insertLease(String leaseName, String ownerId, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * 내 임대의 만료 시각을 바꾼다 (연장/반납)
+     * @return 0이면 임대를 잃었다(만료 후 다른 노드가 점유)
+     */
+    @Modifying
+    @Query(
+            "update JobLease l set l.expiresAt = :expiresAt, l.updatedAt = :now " +
+            "where l.leaseName = :leaseName and l.ownerId = :ownerId")
+    int updateExpiry(String leaseName, String ownerId, LocalDateTime now, LocalDateTime expiresAt);
+
+    /**
+     * prefix 로 시작하는 만료 전 임대 수 (살아 있는 노드 수)
+     */
+    @Query(
+            "select count(l) from JobLease l where l.leaseName like concat(:prefix, '%') and l.expiresAt > :now")
+    long countActive(String prefix, LocalDateTime now);
+}
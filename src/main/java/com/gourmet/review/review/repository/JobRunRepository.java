@@ -0,0 +1,36 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.JobRun;
+import com.gourmet.review.domain.enums.JobRunMode;
+import com.gourmet.review.domain.enums.JobRunStatus;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import jakarta.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    /**
+     * 해당 방식으로 마지막에 성공한 실행 (주간 전체 점검 주기 판단용)
+     */
+    Optional<JobRun> findFirstByJobNameAndRunModeAndStatusOrderByStartedAtDesc(PolicyJobType jobName,
+                                                                                JobRunMode runMode,
+                                                                                JobRunStatus status);
+
+    List<JobRun> findByJobNameOrderByStartedAtDesc(PolicyJobType jobName, Pageable pageable);
+
+    List<JobRun> findAllByOrderByStartedAtDesc(Pageable pageable);
+
+    /**
+     * 분할 실행 마무리용: 여러 노드가 동시에 마지막 분할을 끝내도 한 노드만 성공 처리하도록 행을 잠근다
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from JobRun r where r.id = :id")
+    Optional<JobRun> findByIdForUpdate(Long id);
+}
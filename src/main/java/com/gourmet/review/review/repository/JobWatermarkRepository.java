@@ -0,0 +1,10 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.JobWatermark;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, PolicyJobType> {
+}
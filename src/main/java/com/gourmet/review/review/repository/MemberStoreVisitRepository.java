@@ -6,7 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MemberStoreVisitRepository extends JpaRepository<MemberStoreVisit, Long> {
+public interface MemberStoreVisitRepository extends JpaRepository<MemberStoreVisit, Long>, MemberStoreVisitUpsertRepository {
 
     Optional<MemberStoreVisit> findByMemberIdAndStoreId(Long memberId, Long storeId);
 }
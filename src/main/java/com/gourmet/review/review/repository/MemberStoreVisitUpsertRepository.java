@@ -0,0 +1,26 @@
+package com.gourmet.review.review.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * MemberStoreVisitRepository 확장: 방문 횟수 증가를 조회/저장 없이 upsert 한 번으로 한다.
+ * 같은 회원-가게에 동시에 공개 전환이 일어나도 uk_member_store_visit 위반 없이 순서대로 증가한다.
+ */
+public interface MemberStoreVisitUpsertRepository {
+
+    /**
+     * 회원-가게 방문 횟수를 1 늘린다 (행이 없으면 1로 만든다).
+     *
+     * @return 증가 후 방문 횟수
+     */
+    int incrementVisitCount(Long memberId, Long storeId, LocalDateTime now);
+
+    /**
+     * 한 가게의 여러 회원 방문 횟수를 한 번에 늘린다 (가게의 APPROVED/BLIND_HELD 리뷰를 한꺼번에 공개할 때).
+     *
+     * @param incrementsByMemberId 회원별 증가량 (같은 회원의 리뷰가 여러 개면 그 수)
+     * @return 회원별 증가 후 방문 횟수
+     */
+    Map<Long, Integer> incrementVisitCounts(Long storeId, Map<Long, Integer> incrementsByMemberId, LocalDateTime now);
+}
@@ -0,0 +1,103 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.common.util.SqlDialect;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 회원별 가게 방문 횟수를 없으면 만들고 있으면 더해, 증가 후 횟수를 같은 문장에서 돌려받는다
+ * (PostgreSQL은 ON CONFLICT DO UPDATE ... RETURNING, H2는 FINAL TABLE(MERGE ...)).
+ * 여러 회원은 VALUES 목록 한 번으로 보낸다(ROWS_PER_STATEMENT 씩).
+ */
+class MemberStoreVisitUpsertRepositoryImpl implements MemberStoreVisitUpsertRepository {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String UPSERT_POSTGRES = """
+            insert into member_store_visit (member_id, store_id, visit_count, created_at, updated_at)
+            values %s
+            on conflict (member_id, store_id) do update
+            set visit_count = member_store_visit.visit_count + excluded.visit_count, updated_at = excluded.updated_at
+            returning member_id, visit_count
+            """;
+    private static final String UPSERT_POSTGRES_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_H2 = """
+            select member_id, visit_count from final table (
+            merge into member_store_visit t
+            using (values %s) s(member_id, store_id, increment, now)
+            on t.member_id = s.member_id and t.store_id = s.store_id
+            when matched then update set visit_count = t.visit_count + s.increment, updated_at = s.now
+            when not matched then insert (member_id, store_id, visit_count, created_at, updated_at)
+            values (s.member_id, s.store_id, s.increment, s.now, s.now))
+            """;
+    private static final String UPSERT_H2_ROW =
+            "(cast(? as bigint), cast(? as bigint), cast(? as integer), cast(? as timestamp(6)))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean h2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    MemberStoreVisitUpsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.h2 = SqlDialect.of(jdbcTemplate) == SqlDialect.H2;
+    }
+
+    @Override
+    public int incrementVisitCount(Long memberId, Long storeId, LocalDateTime now) {
+        return incrementVisitCounts(storeId, Map.of(memberId, 1), now).get(memberId);
+    }
+
+    @Override
+    public Map<Long, Integer> incrementVisitCounts(Long storeId, Map<Long, Integer> incrementsByMemberId,
+                                                   LocalDateTime now) {
+        Map<Long, Integer> visitCounts = new HashMap<>();
+        if (incrementsByMemberId.isEmpty()) {
+            return visitCounts;
+        }
+        // 같은 트랜잭션에서 아직 INSERT 되지 않은 회원/가게가 있을 수 있다(FK)
+        entityManager.flush();
+        List<Map.Entry<Long, Integer>> rows = new ArrayList<>(incrementsByMemberId.entrySet());
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, Integer>> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            jdbcTemplate.query(upsertSql(chunk.size()),
+                    rs -> {
+                        visitCounts.put(rs.getLong("member_id"), rs.getInt("visit_count"));
+                    },
+                    parameters(storeId, chunk, Timestamp.valueOf(now)));
+        }
+        return visitCounts;
+    }
+
+    private Object[] parameters(Long storeId, List<Map.Entry<Long, Integer>> chunk, Timestamp now) {
+        int width = h2 ? 4 : 5;
+        Object[] parameters = new Object[chunk.size() * width];
+        int i = 0;
+        for (Map.Entry<Long, Integer> row : chunk) {
+            parameters[i++] = row.getKey();
+            parameters[i++] = storeId;
+            parameters[i++] = row.getValue();
+            parameters[i++] = now;
+            if (!h2) {
+                parameters[i++] = now;
+            }
+        }
+        return parameters;
+    }
+
+    private String upsertSql(int rowCount) {
+        String values = String.join(", ",
+                Collections.nCopies(rowCount, h2 ? UPSERT_H2_ROW : UPSERT_POSTGRES_ROW));
+        return (h2 ? UPSERT_H2 : UPSERT_POSTGRES).formatted(values);
+    }
+}
@@ -0,0 +1,27 @@
+package com.gourmet.review.review.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ReviewRepository 확장: JPQL로 표현할 수 없는 리뷰 일괄 변경 (UPDATE ... RETURNING)
+ */
+public interface ReviewBulkRepository {
+
+    /**
+     * 회원의 PUBLIC 리뷰를 UPDATE 한 번으로 SUSPENDED로 바꾸고, 바뀐 리뷰의 점수 기여 정보를 돌려준다.
+     * 영속성 컨텍스트는 실행 전에 flush, 실행 후에 clear 된다(@Modifying(flushAutomatically, clearAutomatically)과 같다).
+     *
+     * @return [storeId, createdAt, scoreCalculated, 맛, 가성비, 분위기, 서비스] (findScoreRowsByMemberIdAndStatus 와 같은 형태)
+     */
+    List<Object[]> suspendPublicReviewsByMemberId(Long memberId, String adminComment, LocalDateTime now);
+
+    /**
+     * 가게의 APPROVED/BLIND_HELD 리뷰와 방금 승인한 PENDING 리뷰(approvedIds)를 UPDATE 한 번으로 PUBLIC으로 바꾸고, 바뀐 리뷰 id를 돌려준다.
+     * 조회 이후 다른 경로로 공개/검수된 리뷰는 status 조건으로 건너뛰므로, 같은 리뷰를 동시에 공개해도 한쪽 결과에만 들어간다
+     * (점수 기여분/방문 횟수는 돌려받은 리뷰에만 반영한다).
+     * 영속성 컨텍스트는 실행 전에 flush, 실행 후에 clear 된다.
+     */
+    List<Long> publishModerated(Collection<Long> storeIds, Collection<Long> approvedIds, LocalDateTime now);
+}
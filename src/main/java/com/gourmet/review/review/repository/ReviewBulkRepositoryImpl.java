@@ -0,0 +1,93 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.common.util.SqlDialect;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * 리뷰 상태를 조건부 UPDATE 한 문장으로 바꾸고, 실제로 바뀐 행만 돌려받는다(PostgreSQL은 RETURNING, H2는 FINAL TABLE).
+ * 제재로 내린 PUBLIC 리뷰는 점수 셀 차감에 쓸 컬럼을, 검수 공개는 공개된 id 를 돌려준다.
+ */
+class ReviewBulkRepositoryImpl implements ReviewBulkRepository {
+
+    private static final String SUSPEND_SET_WHERE = """
+            update review set status = 'SUSPENDED', admin_comment = ?, updated_at = ?
+            where member_id = ? and status = 'PUBLIC'
+            """;
+    private static final String SCORE_COLUMNS =
+            "store_id, created_at, score_calculated, score_taste, score_value, score_ambiance, score_service";
+
+    private static final String SUSPEND_RETURNING_POSTGRES = SUSPEND_SET_WHERE + "returning " + SCORE_COLUMNS;
+    private static final String SUSPEND_RETURNING_H2 =
+            "select " + SCORE_COLUMNS + " from final table (" + SUSPEND_SET_WHERE + ")";
+
+    /** approvedIds 가 비어 있으면 "id in (null)"(항상 거짓)이 된다 */
+    private static final String PUBLISH_SET_WHERE = """
+            update review set status = 'PUBLIC', updated_at = ?
+            where store_id in (%s)
+              and (status in ('APPROVED', 'BLIND_HELD') or (status = 'PENDING' and id in (%s)))
+            """;
+
+    private static final String PUBLISH_RETURNING_POSTGRES = PUBLISH_SET_WHERE + "returning id";
+    private static final String PUBLISH_RETURNING_H2 = "select id from final table (" + PUBLISH_SET_WHERE + ")";
+
+    private static final RowMapper<Object[]> SCORE_ROW = (rs, rowNum) -> new Object[] {
+            rs.getLong("store_id"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getBigDecimal("score_calculated"),
+            rs.getBigDecimal("score_taste"),
+            rs.getBigDecimal("score_value"),
+            rs.getBigDecimal("score_ambiance"),
+            rs.getBigDecimal("score_service")
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String suspendSql;
+    private final String publishSql;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    ReviewBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        boolean h2 = SqlDialect.of(jdbcTemplate) == SqlDialect.H2;
+        this.suspendSql = h2 ? SUSPEND_RETURNING_H2 : SUSPEND_RETURNING_POSTGRES;
+        this.publishSql = h2 ? PUBLISH_RETURNING_H2 : PUBLISH_RETURNING_POSTGRES;
+    }
+
+    @Override
+    public List<Object[]> suspendPublicReviewsByMemberId(Long memberId, String adminComment, LocalDateTime now) {
+        entityManager.flush();
+        List<Object[]> rows = jdbcTemplate.query(suspendSql, SCORE_ROW, adminComment, Timestamp.valueOf(now), memberId);
+        entityManager.clear();
+        return rows;
+    }
+
+    @Override
+    public List<Long> publishModerated(Collection<Long> storeIds, Collection<Long> approvedIds, LocalDateTime now) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+        String sql = publishSql.formatted(placeholders(storeIds.size()), placeholders(approvedIds.size()));
+        List<Object> parameters = new ArrayList<>(1 + storeIds.size() + approvedIds.size());
+        parameters.add(Timestamp.valueOf(now));
+        parameters.addAll(storeIds);
+        parameters.addAll(approvedIds);
+        List<Long> publishedIds = jdbcTemplate.queryForList(sql, Long.class, parameters.toArray());
+        entityManager.clear();
+        return publishedIds;
+    }
+
+    private static String placeholders(int count) {
+        return count == 0 ? "null" : String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
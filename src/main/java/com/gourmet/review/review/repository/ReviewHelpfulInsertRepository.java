@@ -0,0 +1,17 @@
+package com.gourmet.review.review.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ReviewHelpfulRepository 확장: 도움됨 표시를 uk_review_helpful(review_id, member_id)에 맡겨 INSERT 한 번으로 한다.
+ */
+public interface ReviewHelpfulInsertRepository {
+
+    /**
+     * 리뷰와 회원이 있고 아직 표시하지 않았을 때만 도움됨 행을 넣는다. 동시에 두 번 눌러도 한 행만 들어간다.
+     *
+     * @return 실제로 넣었으면 리뷰 작성자 id, 이미 표시했거나 리뷰/회원이 없으면 empty
+     */
+    Optional<Long> insertIfAbsent(Long reviewId, Long memberId, LocalDateTime now);
+}
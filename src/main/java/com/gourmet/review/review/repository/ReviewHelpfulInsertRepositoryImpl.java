@@ -0,0 +1,58 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.common.util.SqlDialect;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PostgreSQL은 INSERT ... ON CONFLICT DO NOTHING RETURNING(WITH 절), H2는 FINAL TABLE(MERGE ... WHEN NOT MATCHED)로
+ * 넣기와 작성자 조회를 한 번에 한다. 리뷰/회원이 없으면 넣을 행이 없어 FK 위반 없이 empty 가 된다.
+ */
+class ReviewHelpfulInsertRepositoryImpl implements ReviewHelpfulInsertRepository {
+
+    private static final String INSERT_POSTGRES = """
+            with inserted as (
+                insert into review_helpful (review_id, member_id, created_at, updated_at)
+                select r.id, m.id, ?, ? from review r join member m on m.id = ? where r.id = ?
+                on conflict (review_id, member_id) do nothing
+                returning review_id
+            )
+            select r.member_id from inserted i join review r on r.id = i.review_id
+            """;
+
+    private static final String INSERT_H2 = """
+            select r.member_id from final table (
+                merge into review_helpful h
+                using (select r.id as review_id, m.id as member_id from review r join member m on m.id = ? where r.id = ?) s
+                on h.review_id = s.review_id and h.member_id = s.member_id
+                when not matched then insert (review_id, member_id, created_at, updated_at)
+                values (s.review_id, s.member_id, ?, ?)
+            ) h join review r on r.id = h.review_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean h2;
+
+    ReviewHelpfulInsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.h2 = SqlDialect.of(jdbcTemplate) == SqlDialect.H2;
+    }
+
+    @Override
+    public Optional<Long> insertIfAbsent(Long reviewId, Long memberId, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        try {
+            List<Long> authorIds = h2
+                    ? jdbcTemplate.queryForList(INSERT_H2, Long.class, memberId, reviewId, timestamp, timestamp)
+                    : jdbcTemplate.queryForList(INSERT_POSTGRES, Long.class, timestamp, timestamp, memberId, reviewId);
+            return authorIds.stream().findFirst();
+        } catch (DuplicateKeyException e) {
+            // H2 MERGE 는 동시에 같은 행을 넣으면 제약 위반으로 끝난다: 다른 요청이 먼저 넣었다
+            return Optional.empty();
+        }
+    }
+}
@@ -3,14 +3,25 @@ package com.gourmet.review.review.repository;
 import com.gourmet.review.domain.entity.ReviewHelpful;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ReviewHelpfulRepository extends JpaRepository<ReviewHelpful, Long> {
+public interface ReviewHelpfulRepository extends JpaRepository<ReviewHelpful, Long>, ReviewHelpfulInsertRepository {
 
     boolean existsByReviewIdAndMemberId(Long reviewId, Long memberId);
 
     Optional<ReviewHelpful> findByReviewIdAndMemberId(Long reviewId, Long memberId);
 
     void deleteByReviewId(Long reviewId);
+
+    /**
+     * 도움됨 취소 (엔티티 조회 없이 DELETE 한 번)
+     * @return 지운 행 수 (0이면 표시한 적 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "delete from ReviewHelpful h where h.review.id = :reviewId and h.member.id = :memberId")
+    int deleteHelpful(Long reviewId, Long memberId);
 }
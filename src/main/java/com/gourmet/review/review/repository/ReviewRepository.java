@@ -9,14 +9,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, Long> {
+public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewBulkRepository {
+
+    /**
+     * 리뷰 작성자 id (엔티티 로딩 없음)
+     */
+    @Query("select r.member.id from Review r where r.id = :reviewId")
+    Optional<Long> findAuthorIdById(Long reviewId);
 
     @EntityGraph(attributePaths = {"store", "member"})
     Optional<Review> findWithStoreAndMemberById(Long id);
 
+    @EntityGraph(attributePaths = {"store", "member"})
+    List<Review> findWithStoreAndMemberByIdIn(Collection<Long> ids);
+
     @EntityGraph(attributePaths = {"store"})
     Page<Review> findByStoreIdAndStatus(Long storeId, ReviewStatus status, Pageable pageable);
 
@@ -46,28 +57,266 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
                                                java.time.LocalDateTime cutoff);
 
     /**
-     * 편차 보정 대상 산정을 위해, 특정 회원의 최근 PUBLIC 리뷰를 최신순으로 제한 조회한다.
+     * 쿨다운 만료 타이머 복구용: 승인 대기 중인 쿨다운 대상 리뷰 [reviewId, createdAt]
+     * (BRONZE/SILVER 회원의 1.0/5.0점 PENDING 리뷰)
      */
-    @EntityGraph(attributePaths = {"member"})
-    List<Review> findTop20ByMemberIdAndStatusOrderByCreatedAtDesc(Long memberId, ReviewStatus status);
+    @Query(
+            "select r.id, r.createdAt from Review r " +
+            "where r.status = com.gourmet.review.domain.enums.ReviewStatus.PENDING " +
+            "and r.member.tier in (com.gourmet.review.domain.enums.MemberTier.BRONZE, com.gourmet.review.domain.enums.MemberTier.SILVER) " +
+            "and r.scoreCalculated in (1.0, 5.0)")
+    List<Object[]> findCooldownCandidates();
+
+    /**
+     * 쿨다운 만료 보정 폴링용: cutoff 이전에 작성돼 승인 대기 중인 쿨다운 대상 리뷰가 있는 storeId 목록
+     * (afterStoreId 다음부터 storeId 순 keyset 페이지)
+     */
+    @Query(
+            "select distinct r.store.id from Review r " +
+            "where r.status = com.gourmet.review.domain.enums.ReviewStatus.PENDING " +
+            "and r.createdAt <= :cutoff " +
+            "and r.member.tier in (com.gourmet.review.domain.enums.MemberTier.BRONZE, com.gourmet.review.domain.enums.MemberTier.SILVER) " +
+            "and r.scoreCalculated in (1.0, 5.0) " +
+            "and r.store.id > :afterStoreId order by r.store.id")
+    List<Long> findStoreIdsWithCooldownExpired(java.time.LocalDateTime cutoff, Long afterStoreId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"store", "member"})
+    List<Review> findByStoreIdInAndStatusAndCreatedAtLessThanEqual(Collection<Long> storeIds, ReviewStatus status,
+                                                                   java.time.LocalDateTime cutoff);
+
+    @EntityGraph(attributePaths = {"store", "member"})
+    List<Review> findByStoreIdInAndStatusIn(Collection<Long> storeIds, Collection<ReviewStatus> statuses);
+
+    /**
+     * 검수 일괄 처리: 승인했지만 가게가 아직 블라인드 단계인 리뷰를 PENDING → BLIND_HELD로 한 번에 바꾼다.
+     * 조회 이후 다른 경로로 검수된 리뷰는 status 조건으로 건너뛴다.
+     * @return 바뀐 리뷰 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "update Review r set r.status = com.gourmet.review.domain.enums.ReviewStatus.BLIND_HELD, r.updatedAt = :now " +
+            "where r.id in :reviewIds and r.status = com.gourmet.review.domain.enums.ReviewStatus.PENDING")
+    int holdPendingForBlind(Collection<Long> reviewIds, java.time.LocalDateTime now);
+
+    /**
+     * 검수 일괄 처리: 같은 사유로 반려하는 PENDING 리뷰를 한 번에 REJECTED로 바꾼다.
+     * @return 바뀐 리뷰 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            "update Review r set r.status = com.gourmet.review.domain.enums.ReviewStatus.REJECTED, " +
+            "r.adminComment = :adminComment, r.updatedAt = :now " +
+            "where r.id in :reviewIds and r.status = com.gourmet.review.domain.enums.ReviewStatus.PENDING")
+    int rejectPending(Collection<Long> reviewIds, String adminComment, java.time.LocalDateTime now);
+
+    /**
+     * 가게별 리뷰 수 [storeId, count] (쿨다운 승인 시 블라인드 기준(5개) 판단용)
+     */
+    @Query(
+            "select r.store.id, count(r) from Review r " +
+            "where r.store.id in :storeIds and r.status in :statuses " +
+            "group by r.store.id")
+    List<Object[]> countByStoreIdInAndStatusInGroupByStoreId(Collection<Long> storeIds, Collection<ReviewStatus> statuses);
+
+    /**
+     * 편차 보정 대상 산정용: 회원별 최근 PUBLIC 리뷰 sampleSize건의 극단 점수(1.0/5.0) 비율을 DB에서 계산한다(회원당 1행).
+     * [memberId, is_deviation_target, 표본 리뷰 수, 극단 점수 비율(표본이 sampleSize 미만이면 NULL)]
+     * - 최근 N건은 ROW_NUMBER() OVER (PARTITION BY member_id ORDER BY created_at DESC)로 자른다.
+     * - 리뷰가 없는 회원도 (표본 0건으로) 포함된다.
+     */
+    @Query(value = """
+            select m.id, m.is_deviation_target, coalesce(s.sample_count, 0),
+                   case when coalesce(s.sample_count, 0) < :sampleSize then null
+                        else round(cast(s.extreme_count as decimal(9, 4)) / :sampleSize, 4)
+                   end
+            from member m
+            left join (
+                select w.member_id as member_id,
+                       count(*) as sample_count,
+                       sum(case when w.score_calculated in (1.0, 5.0) then 1 else 0 end) as extreme_count
+                from (
+                    select r.member_id as member_id,
+                           r.score_calculated as score_calculated,
+                           row_number() over (partition by r.member_id order by r.created_at desc, r.id desc) as rn
+                    from review r
+                    where r.status = 'PUBLIC'
+                      and r.member_id in (:memberIds)
+                ) w
+                where w.rn <= :sampleSize
+                group by w.member_id
+            ) s on s.member_id = m.id
+            where m.id in (:memberIds)
+            order by m.id
+            """, nativeQuery = true)
+    List<Object[]> findExtremeScoreRatiosByMemberIds(Collection<Long> memberIds, int sampleSize);
+
+    /**
+     * since 이후 리뷰가 바뀐(작성/공개/정지/수정) 회원 id를 afterMemberId 다음부터 id 순으로 가져온다.
+     * (02:00 편차 보정 증분 실행의 keyset 페이지, idx_review_updated_at 범위 조회, mod(memberId, shardCount) = shardIndex 분할만)
+     */
+    @Query(
+            "select distinct r.member.id from Review r " +
+            "where r.updatedAt > :since and r.member.id > :afterMemberId " +
+            "and mod(r.member.id, :shardCount) = :shardIndex " +
+            "order by r.member.id")
+    List<Long> findMemberIdsWithReviewsUpdatedAfter(java.time.LocalDateTime since, Long afterMemberId,
+                                                    int shardCount, int shardIndex, Pageable pageable);
 
     /**
      * 특정 회원이 작성한 PUBLIC 리뷰가 존재하는 storeId 목록을 중복 없이 가져온다.
      * (tier 변경 소급 재계산 트리거용)
      */
-    @org.springframework.data.jpa.repository.Query(
+    @Query(
             "select distinct r.store.id from Review r " +
             "where r.member.id = :memberId and r.status = :status")
     List<Long> findDistinctStoreIdsByMemberIdAndStatus(Long memberId, ReviewStatus status);
 
     /**
-     * 특정 storeId 목록에 대해 PUBLIC 리뷰를 가진 storeId만 중복 없이 반환한다.
-     * (00:00 batch 등에서 재계산 대상 store 추출용)
+     * 특정 회원의 리뷰별 점수 기여 정보 [storeId, createdAt, scoreCalculated, 맛, 가성비, 분위기, 서비스]를 엔티티 로딩 없이 가져온다.
+     * (등급 변경/편차 보정 전환 시 소급 delta 반영용)
      */
-    @org.springframework.data.jpa.repository.Query(
+    @Query(
+            "select r.store.id, r.createdAt, r.scoreCalculated, " +
+            "r.scoreTaste, r.scoreValue, r.scoreAmbiance, r.scoreService from Review r " +
+            "where r.member.id = :memberId and r.status = :status")
+    List<Object[]> findScoreRowsByMemberIdAndStatus(Long memberId, ReviewStatus status);
+
+    /**
+     * 작성일이 (from, to] 구간에 있는 리뷰의 storeId 목록을 afterStoreId 다음부터 storeId 순으로 중복 없이 반환한다.
+     * (00:00 batch에서 감가 구간 경계를 넘은 리뷰가 있는 store 추출용, idx_review_created_at 범위 조회, keyset 페이지,
+     *  mod(storeId, shardCount) = shardIndex 분할만)
+     */
+    @Query(
             "select distinct r.store.id from Review r " +
-            "where r.status = :status and r.store.id in :storeIds")
-    List<Long> findDistinctStoreIdsByStatusAndStoreIdIn(ReviewStatus status, List<Long> storeIds);
+            "where r.status = :status and r.createdAt > :from and r.createdAt <= :to " +
+            "and r.store.id > :afterStoreId and mod(r.store.id, :shardCount) = :shardIndex order by r.store.id")
+    List<Long> findDistinctStoreIdsByStatusAndCreatedAtRange(ReviewStatus status,
+                                                             java.time.LocalDateTime from,
+                                                             java.time.LocalDateTime to,
+                                                             Long afterStoreId, int shardCount, int shardIndex,
+                                                             Pageable pageable);
+
+    /**
+     * storeId 목록의 PUBLIC 리뷰를 가게별로 DB에서 집계한다(가게당 1행).
+     * [storeId, 리뷰 수, Σscore_calculated, Σ(가중치 × 편차 보정 점수), Σ가중치,
+     *  Σ(가중치 × 맛), Σ(가중치 × 가성비), Σ(가중치 × 분위기), Σ(가중치 × 서비스)]
+     * - 가중치 = 등급 가중치 × 시간감가 가중치, 편차 보정은 StoreScoreCalculator와 같은 식을 CASE로 표현
+     * - 감가 경계(afterXxx)는 기준 시각에서 6개월/1년/2년/3년을 뺀 시각
+     * - 파라미터가 들어간 식으로 GROUP BY 하지 않도록(PostgreSQL) 파생 테이블에서 행 단위로 계산한 뒤 집계한다.
+     */
+    @Query(value = """
+            select t.store_id, count(*), sum(t.score_calculated), sum(t.weight * t.adjusted_score), sum(t.weight),
+                   sum(t.weight * t.score_taste), sum(t.weight * t.score_value),
+                   sum(t.weight * t.score_ambiance), sum(t.weight * t.score_service)
+            from (
+                select r.store_id as store_id,
+                       r.score_calculated as score_calculated,
+                       r.score_taste as score_taste,
+                       r.score_value as score_value,
+                       r.score_ambiance as score_ambiance,
+                       r.score_service as score_service,
+                       case m.tier
+                           when 'BRONZE' then 0.5
+                           when 'SILVER' then 1.0
+                           when 'GOLD' then 1.5
+                           when 'GOURMET' then 2.0
+                           else 0.0
+                       end
+                       * case
+                           when r.created_at is null or r.created_at > :after6Months then 1.0
+                           when r.created_at > :after1Year then 0.8
+                           when r.created_at > :after2Years then 0.5
+                           when r.created_at > :after3Years then 0.2
+                           else 0.1
+                       end as weight,
+                       case
+                           when m.is_deviation_target = true and r.score_calculated > 3.0
+                               then greatest(least(r.score_calculated - 0.5, 5.0), 1.0)
+                           when m.is_deviation_target = true and r.score_calculated < 3.0
+                               then greatest(least(r.score_calculated + 0.5, 5.0), 1.0)
+                           else r.score_calculated
+                       end as adjusted_score
+                from review r
+                join member m on m.id = r.member_id
+                where r.status = 'PUBLIC'
+                  and r.store_id in (:storeIds)
+            ) t
+            group by t.store_id
+            """, nativeQuery = true)
+    List<Object[]> aggregateWeightedScoresByStoreIds(Collection<Long> storeIds,
+                                                     java.time.LocalDateTime after6Months,
+                                                     java.time.LocalDateTime after1Year,
+                                                     java.time.LocalDateTime after2Years,
+                                                     java.time.LocalDateTime after3Years);
+
+    /**
+     * storeId 목록의 PUBLIC 리뷰를 가게 × 등급 × 감가 구간(store_score_bucket 셀)별로 DB에서 집계한다.
+     * [storeId, tier, decay_bucket, 리뷰 수, Σ편차 보정 점수, Σscore_calculated, Σ맛, Σ가성비, Σ분위기, Σ서비스]
+     */
+    @Query(value = """
+            select t.store_id, t.tier, t.decay_bucket, count(*), sum(t.adjusted_score), sum(t.score_calculated),
+                   sum(t.score_taste), sum(t.score_value), sum(t.score_ambiance), sum(t.score_service)
+            from (
+                select r.store_id as store_id,
+                       m.tier as tier,
+                       case
+                           when r.created_at is null or r.created_at > :after6Months then 'RECENT'
+                           when r.created_at > :after1Year then 'MONTHS_6_TO_12'
+                           when r.created_at > :after2Years then 'YEARS_1_TO_2'
+                           when r.created_at > :after3Years then 'YEARS_2_TO_3'
+                           else 'YEARS_3_PLUS'
+                       end as decay_bucket,
+                       case
+                           when m.is_deviation_target = true and r.score_calculated > 3.0
+                               then greatest(least(r.score_calculated - 0.5, 5.0), 1.0)
+                           when m.is_deviation_target = true and r.score_calculated < 3.0
+                               then greatest(least(r.score_calculated + 0.5, 5.0), 1.0)
+                           else r.score_calculated
+                       end as adjusted_score,
+                       r.score_calculated as score_calculated,
+                       r.score_taste as score_taste,
+                       r.score_value as score_value,
+                       r.score_ambiance as score_ambiance,
+                       r.score_service as score_service
+                from review r
+                join member m on m.id = r.member_id
+                where r.status = 'PUBLIC'
+                  and r.store_id in (:storeIds)
+            ) t
+            group by t.store_id, t.tier, t.decay_bucket
+            """, nativeQuery = true)
+    List<Object[]> aggregateScoreCellsByStoreIds(Collection<Long> storeIds,
+                                                 java.time.LocalDateTime after6Months,
+                                                 java.time.LocalDateTime after1Year,
+                                                 java.time.LocalDateTime after2Years,
+                                                 java.time.LocalDateTime after3Years);
+
+    /**
+     * storeId 목록의 PUBLIC 리뷰를 리뷰 단위로 가져온다(섀도 스코어링: 운영 정책과 후보 정책을 한 번의 순회로 계산).
+     * [storeId, tier, is_deviation_target, created_at, score_calculated, 맛, 가성비, 분위기, 서비스,
+     *  작성자 PUBLIC 리뷰 평균 점수, 작성자 PUBLIC 리뷰 수]
+     * - 작성자 통계는 해당 가게들에 리뷰를 남긴 회원으로 범위를 좁혀 집계한다.
+     */
+    @Query(value = """
+            select r.store_id, m.tier, m.is_deviation_target, r.created_at, r.score_calculated,
+                   r.score_taste, r.score_value, r.score_ambiance, r.score_service,
+                   a.mean_score, a.review_count
+            from review r
+            join member m on m.id = r.member_id
+            join (
+                select ar.member_id as member_id, avg(ar.score_calculated) as mean_score, count(*) as review_count
+                from review ar
+                where ar.status = 'PUBLIC'
+                  and ar.member_id in (
+                      select sr.member_id from review sr
+                      where sr.status = 'PUBLIC' and sr.store_id in (:storeIds)
+                  )
+                group by ar.member_id
+            ) a on a.member_id = r.member_id
+            where r.status = 'PUBLIC'
+              and r.store_id in (:storeIds)
+            """, nativeQuery = true)
+    List<Object[]> findShadowScoreRowsByStoreIds(Collection<Long> storeIds);
 
     /**
      * p0: 극단 점수(1.0/5.0) 리뷰 쿨다운(12h) 검증을 위한 존재 여부 체크
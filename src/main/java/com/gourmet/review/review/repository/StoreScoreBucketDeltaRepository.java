@@ -0,0 +1,28 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.enums.DecayBucket;
+import com.gourmet.review.domain.enums.MemberTier;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * StoreScoreBucketRepository 확장: 셀 증감(delta)을 "col = col + ?" upsert로 DB에서 더한다.
+ * 같은 셀을 동시에 반영해도 합계가 덮어써지지 않고, 없는 셀을 동시에 처음 만들어도 uk_store_score_bucket 위반이 없다.
+ */
+public interface StoreScoreBucketDeltaRepository {
+
+    /**
+     * 셀 1개의 증감 (제외는 음수)
+     */
+    record CellDelta(Long storeId, MemberTier tier, DecayBucket decayBucket, int reviewCount,
+                     BigDecimal scoreSum, BigDecimal rawScoreSum, BigDecimal tasteSum, BigDecimal valueSum,
+                     BigDecimal ambianceSum, BigDecimal serviceSum) {
+    }
+
+    /**
+     * 셀 증감을 반영한다(없는 셀은 delta 값으로 만든다). 잠금 순서가 같도록 (storeId, tier, decayBucket) 순으로 보낸다.
+     * 영속성 컨텍스트는 실행 전에 flush 되고, 갱신된 셀 엔티티만 분리된다(다시 조회하면 반영된 값, 다른 엔티티는 그대로).
+     */
+    void applyDeltas(Collection<CellDelta> deltas, LocalDateTime now);
+}
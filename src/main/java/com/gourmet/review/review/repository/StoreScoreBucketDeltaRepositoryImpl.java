@@ -0,0 +1,134 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.common.util.SqlDialect;
+import com.gourmet.review.domain.entity.StoreScoreBucket;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * PostgreSQL은 INSERT ... ON CONFLICT DO UPDATE, H2는 MERGE ... USING (VALUES ...)로 셀 증감을 한 번에 보낸다
+ * (ROWS_PER_STATEMENT 셀씩). JdbcTemplate 은 JPA 트랜잭션의 커넥션을 같이 쓴다.
+ * H2의 MERGE는 없는 셀을 동시에 만들면 한쪽이 uk_store_score_bucket 위반으로 실패한다(문장 단위 롤백).
+ * 그때는 상대 셀이 커밋된 뒤이므로 같은 문장을 다시 보내면 "matched → + delta"로 반영된다.
+ */
+class StoreScoreBucketDeltaRepositoryImpl implements StoreScoreBucketDeltaRepository {
+
+    private static final int ROWS_PER_STATEMENT = 200;
+    /** H2 MERGE 가 동시 INSERT 와 겹쳐 키 중복으로 실패했을 때 다시 보내는 최대 횟수 */
+    private static final int H2_MERGE_ATTEMPTS = 3;
+
+    private static final Comparator<CellDelta> LOCK_ORDER = Comparator.comparing(CellDelta::storeId)
+            .thenComparing(delta -> delta.tier().name())
+            .thenComparing(delta -> delta.decayBucket().name());
+
+    private static final String UPSERT_POSTGRES = """
+            insert into store_score_bucket (store_id, tier, decay_bucket, review_count, score_sum, raw_score_sum,
+                taste_sum, value_sum, ambiance_sum, service_sum, created_at, updated_at)
+            values %s
+            on conflict (store_id, tier, decay_bucket) do update set
+                review_count = store_score_bucket.review_count + excluded.review_count,
+                score_sum = store_score_bucket.score_sum + excluded.score_sum,
+                raw_score_sum = store_score_bucket.raw_score_sum + excluded.raw_score_sum,
+                taste_sum = store_score_bucket.taste_sum + excluded.taste_sum,
+                value_sum = store_score_bucket.value_sum + excluded.value_sum,
+                ambiance_sum = store_score_bucket.ambiance_sum + excluded.ambiance_sum,
+                service_sum = store_score_bucket.service_sum + excluded.service_sum,
+                updated_at = excluded.updated_at
+            returning id
+            """;
+    private static final String UPSERT_POSTGRES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_H2 = """
+            select id from final table (merge into store_score_bucket t
+            using (values %s) s(store_id, tier, decay_bucket, review_count, score_sum, raw_score_sum,
+                taste_sum, value_sum, ambiance_sum, service_sum, now)
+            on t.store_id = s.store_id and t.tier = s.tier and t.decay_bucket = s.decay_bucket
+            when matched then update set
+                review_count = t.review_count + s.review_count,
+                score_sum = t.score_sum + s.score_sum,
+                raw_score_sum = t.raw_score_sum + s.raw_score_sum,
+                taste_sum = t.taste_sum + s.taste_sum,
+                value_sum = t.value_sum + s.value_sum,
+                ambiance_sum = t.ambiance_sum + s.ambiance_sum,
+                service_sum = t.service_sum + s.service_sum,
+                updated_at = s.now
+            when not matched then insert (store_id, tier, decay_bucket, review_count, score_sum, raw_score_sum,
+                taste_sum, value_sum, ambiance_sum, service_sum, created_at, updated_at)
+            values (s.store_id, s.tier, s.decay_bucket, s.review_count, s.score_sum, s.raw_score_sum,
+                s.taste_sum, s.value_sum, s.ambiance_sum, s.service_sum, s.now, s.now))
+            """;
+    private static final String UPSERT_H2_ROW = "(cast(? as bigint), cast(? as varchar(20)), cast(? as varchar(20)), "
+            + "cast(? as integer), cast(? as numeric(14, 2)), cast(? as numeric(14, 2)), cast(? as numeric(14, 2)), "
+            + "cast(? as numeric(14, 2)), cast(? as numeric(14, 2)), cast(? as numeric(14, 2)), cast(? as timestamp(6)))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean h2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    StoreScoreBucketDeltaRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.h2 = SqlDialect.of(jdbcTemplate) == SqlDialect.H2;
+    }
+
+    @Override
+    public void applyDeltas(Collection<CellDelta> deltas, LocalDateTime now) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+        List<CellDelta> rows = new ArrayList<>(deltas);
+        rows.sort(LOCK_ORDER);
+        Timestamp timestamp = Timestamp.valueOf(now);
+        for (int from = 0; from < rows.size(); from += ROWS_PER_STATEMENT) {
+            List<CellDelta> chunk = rows.subList(from, Math.min(from + ROWS_PER_STATEMENT, rows.size()));
+            // 이미 로딩된 셀 엔티티는 갱신 전 값이므로 분리한다(getReference 는 로딩돼 있지 않으면 DB를 읽지 않는다).
+            for (Long bucketId : upsert(upsertSql(chunk.size()), parameters(chunk, timestamp))) {
+                entityManager.detach(entityManager.getReference(StoreScoreBucket.class, bucketId));
+            }
+        }
+    }
+
+    /**
+     * @return 갱신/생성된 셀 id
+     */
+    private List<Long> upsert(String sql, Object[] parameters) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return jdbcTemplate.queryForList(sql, Long.class, parameters);
+            } catch (DuplicateKeyException e) {
+                if (!h2 || attempt >= H2_MERGE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Object[] parameters(List<CellDelta> chunk, Timestamp now) {
+        List<Object> parameters = new ArrayList<>(chunk.size() * 12);
+        for (CellDelta delta : chunk) {
+            Collections.addAll(parameters, delta.storeId(), delta.tier().name(), delta.decayBucket().name(),
+                    delta.reviewCount(), delta.scoreSum(), delta.rawScoreSum(), delta.tasteSum(), delta.valueSum(),
+                    delta.ambianceSum(), delta.serviceSum(), now);
+            if (!h2) {
+                parameters.add(now);
+            }
+        }
+        return parameters.toArray();
+    }
+
+    private String upsertSql(int rowCount) {
+        String values = String.join(", ", Collections.nCopies(rowCount, h2 ? UPSERT_H2_ROW : UPSERT_POSTGRES_ROW));
+        return (h2 ? UPSERT_H2 : UPSERT_POSTGRES).formatted(values);
+    }
+}
@@ -0,0 +1,16 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.StoreScoreBucket;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreScoreBucketRepository extends JpaRepository<StoreScoreBucket, Long>, StoreScoreBucketDeltaRepository {
+
+    List<StoreScoreBucket> findByStoreId(Long storeId);
+
+    List<StoreScoreBucket> findByStoreIdIn(Collection<Long> storeIds);
+
+}
@@ -0,0 +1,35 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.StoreScoreHistory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 가게 점수 원본 이력 조회/압축용. 추가(append)는 StoreScoreHistoryService가 JDBC batch로 한다.
+ */
+@Repository
+public interface StoreScoreHistoryRepository extends JpaRepository<StoreScoreHistory, Long> {
+
+    List<StoreScoreHistory> findByStoreIdAndRecordedAtBetweenOrderByRecordedAtAsc(Long storeId,
+                                                                                LocalDateTime from,
+                                                                                LocalDateTime to);
+
+    List<StoreScoreHistory> findByStoreIdInAndRecordedAtBeforeOrderByRecordedAtAsc(Collection<Long> storeIds,
+                                                                                 LocalDateTime before);
+
+    /**
+     * 압축 대상(보관 기간이 지난 원본)이 있는 storeId 목록 (idx_store_score_history_recorded 범위 조회)
+     */
+    @Query(
+            "select distinct h.store.id from StoreScoreHistory h where h.recordedAt < :before")
+    List<Long> findStoreIdsRecordedBefore(LocalDateTime before);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @Query(
+            "delete from StoreScoreHistory h where h.store.id in :storeIds and h.recordedAt < :before")
+    int deleteByStoreIdInAndRecordedAtBefore(Collection<Long> storeIds, LocalDateTime before);
+}
@@ -0,0 +1,28 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.StoreScoreRollup;
+import com.gourmet.review.domain.enums.ScoreHistoryGranularity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreScoreRollupRepository extends JpaRepository<StoreScoreRollup, Long> {
+
+    List<StoreScoreRollup> findByStoreIdAndGranularityAndPeriodStartBetweenOrderByPeriodStartAsc(
+            Long storeId, ScoreHistoryGranularity granularity, LocalDate from, LocalDate to);
+
+    List<StoreScoreRollup> findByStoreIdInAndGranularityAndPeriodStartBefore(
+            Collection<Long> storeIds, ScoreHistoryGranularity granularity, LocalDate before);
+
+    /**
+     * 상위 해상도로 압축할 롤업이 있는 storeId 목록
+     */
+    @Query(
+            "select distinct r.store.id from StoreScoreRollup r " +
+            "where r.granularity = :granularity and r.periodStart < :before")
+    List<Long> findStoreIdsByGranularityAndPeriodStartBefore(ScoreHistoryGranularity granularity, LocalDate before);
+}
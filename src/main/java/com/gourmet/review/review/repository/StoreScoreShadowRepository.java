@@ -0,0 +1,35 @@
+package com.gourmet.review.review.repository;
+
+import com.gourmet.review.domain.entity.StoreScoreShadow;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreScoreShadowRepository extends JpaRepository<StoreScoreShadow, Long> {
+
+    List<StoreScoreShadow> findByStoreIdIn(Collection<Long> storeIds);
+
+    void deleteByStoreIdIn(Collection<Long> storeIds);
+
+    /**
+     * 정책별 차이 요약 [policyName, 가게 수, 평균 |차이|, 최대 |차이|, |차이| >= threshold 가게 수, 마지막 계산 시각]
+     */
+    @Query(
+            "select s.policyName, count(s), avg(abs(s.scoreDiff)), max(abs(s.scoreDiff)), " +
+            "sum(case when abs(s.scoreDiff) >= :threshold then 1 else 0 end), max(s.evaluatedAt) " +
+            "from StoreScoreShadow s group by s.policyName order by s.policyName")
+    List<Object[]> summarizeByPolicy(BigDecimal threshold);
+
+    /**
+     * 정책별로 운영 점수와 차이가 큰 순서
+     */
+    @Query(
+            "select s from StoreScoreShadow s join fetch s.store " +
+            "where s.policyName = :policyName order by abs(s.scoreDiff) desc, s.id")
+    List<StoreScoreShadow> findLargestDiffs(String policyName, Pageable pageable);
+}
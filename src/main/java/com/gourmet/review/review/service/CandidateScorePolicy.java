@@ -0,0 +1,36 @@
+package com.gourmet.review.review.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 섀도 스코어링용 후보 점수 정책.
+ * 운영 점수 계산과 같은 리뷰 순회에서 가게별 Accumulator에 리뷰를 1건씩 넘긴다.
+ */
+public interface CandidateScorePolicy {
+
+    /**
+     * store_score_shadow.policy_name
+     */
+    String name();
+
+    /**
+     * 가게 1곳의 점수 계산을 시작한다.
+     *
+     * @param decayReference 시간 감가 기준 시각 (운영 점수와 같은 값)
+     */
+    Accumulator newAccumulator(LocalDateTime decayReference);
+
+    interface Accumulator {
+
+        void add(ScoreContribution contribution, AuthorStats author);
+
+        BigDecimal score();
+    }
+
+    /**
+     * 리뷰 작성자의 PUBLIC 리뷰 통계
+     */
+    record AuthorStats(BigDecimal meanScore, long reviewCount) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.CooldownTimerProperties;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.review.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 극단 점수 리뷰 쿨다운 만료 타이머.
+ * - 쿨다운 대상 리뷰가 등록되면 (작성 시각 + 12시간)에 만료되도록 DelayQueue에 넣는다.
+ * - 워커 스레드가 만료 시각에 맞춰 꺼내고, 같이 만료된 리뷰를 batchSize 만큼 묶어 한 트랜잭션으로 승인한다.
+ * - 큐는 메모리에만 있으므로 기동 시 DB의 PENDING 쿨다운 대상으로 다시 채운다.
+ *   놓친 항목(재기동 사이 등록/수정, 실패 후 재시도 초과)은 저빈도 폴링(processCooldownExpirations)이 보정한다.
+ */
+@Slf4j
+@Component
+public class CooldownExpiryTimer {
+
+    private static final Duration COOLDOWN = Duration.ofHours(12);
+    /** 벽시계와 단조 시계 오차로 만료 직전에 꺼내지 않도록 두는 여유 */
+    private static final Duration FIRE_GRACE = Duration.ofSeconds(1);
+    /** 승인 실패 시 최대 시도 횟수. 넘으면 폴링 보정에 맡긴다. */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ReviewPolicyJobService policyJobService;
+    private final ReviewRepository reviewRepository;
+    private final CooldownTimerProperties properties;
+    private final Clock clock;
+
+    private final DelayQueue<Expiry> queue = new DelayQueue<>();
+    /** 큐에 들어 있는 reviewId (중복 등록 방지) */
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final Thread worker;
+    /** 만료 시각(벽시계) → System.nanoTime 변환 기준점. 같은 만료 시각은 같은 nanoTime이 되어 한 배치로 묶인다. */
+    private final LocalDateTime originTime;
+    private final long originNanos;
+
+    public CooldownExpiryTimer(ReviewPolicyJobService policyJobService,
+                               ReviewRepository reviewRepository,
+                               CooldownTimerProperties properties,
+                               Clock clock) {
+        this.policyJobService = policyJobService;
+        this.reviewRepository = reviewRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.originTime = LocalDateTime.now(clock);
+        this.originNanos = System.nanoTime();
+        if (properties.enabled()) {
+            this.worker = new Thread(this::run, "cooldown-expiry");
+            this.worker.setDaemon(true);
+            this.worker.start();
+        } else {
+            this.worker = null;
+        }
+    }
+
+    /**
+     * 쿨다운 대상 리뷰면 만료 시각에 승인되도록 예약한다(대상이 아니거나 이미 예약돼 있으면 무시).
+     */
+    public void schedule(Review review) {
+        if (review == null || !ReviewPolicyJobServiceImpl.isCooldownTarget(review)) {
+            return;
+        }
+        schedule(review.getId(), review.getCreatedAt());
+    }
+
+    public void schedule(Long reviewId, LocalDateTime createdAt) {
+        if (worker == null || reviewId == null || createdAt == null || !scheduled.add(reviewId)) {
+            return;
+        }
+        long dueAtNanos = originNanos + Duration.between(originTime, createdAt.plus(COOLDOWN).plus(FIRE_GRACE)).toNanos();
+        queue.put(new Expiry(reviewId, dueAtNanos, 1));
+    }
+
+    /**
+     * 기동 시 DB의 PENDING 쿨다운 대상으로 큐를 다시 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (worker == null) {
+            return;
+        }
+        List<Object[]> pending = reviewRepository.findCooldownCandidates();
+        for (Object[] row : pending) {
+            schedule((Long) row[0], (LocalDateTime) row[1]);
+        }
+        log.info("쿨다운 만료 타이머 복구: {}건", pending.size());
+    }
+
+    /**
+     * 대기 중인 예약 수
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Expiry> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            // 같은 시각 전후로 만료된 항목을 한 번에 처리
+            queue.drainTo(batch, properties.batchSize() - 1);
+            fire(batch);
+        }
+    }
+
+    private void fire(List<Expiry> batch) {
+        List<Long> reviewIds = batch.stream().map(Expiry::reviewId).toList();
+        try {
+            policyJobService.approveCooldownExpired(reviewIds);
+            reviewIds.forEach(scheduled::remove);
+        } catch (RuntimeException e) {
+            log.warn("쿨다운 만료 승인 실패 (reviews={}): {}", reviewIds, e.toString());
+            long retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.retryDelayMillis());
+            for (Expiry expiry : batch) {
+                if (expiry.attempt() < MAX_ATTEMPTS) {
+                    queue.put(new Expiry(expiry.reviewId(), retryAt, expiry.attempt() + 1));
+                } else {
+                    scheduled.remove(expiry.reviewId());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private record Expiry(Long reviewId, long dueAtNanos, int attempt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtNanos, ((Expiry) other).dueAtNanos);
+        }
+    }
+}
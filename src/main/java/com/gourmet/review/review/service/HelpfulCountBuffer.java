@@ -0,0 +1,196 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.HelpfulCountBufferProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 도움됨 수(Review.helpfulCount / 작성자 Member.helpfulCount) 쓰기 버퍼.
+ * - 도움됨/취소는 행을 갱신하지 않고 리뷰별/회원별 LongAdder에 더한다(트랜잭션 커밋 후에만, 롤백 시 버려짐).
+ *   인기 리뷰에 몰린 요청이 리뷰/작성자 두 행의 잠금을 기다리지 않는다.
+ * - 백그라운드 워커가 flushMillis 주기(와 종료 시)로 모인 변화량을 "helpful_count = helpful_count + ?" 배치 UPDATE로 반영한다.
+ * - 등급 재계산은 반영된 회원만 다시 읽어 바뀐 회원에게만 한다(ReviewPolicyJobService.recalculateTiers).
+ * 반영 전까지 조회되는 도움됨 수는 최대 flushMillis 만큼 늦다.
+ */
+@Slf4j
+@Component
+public class HelpfulCountBuffer {
+
+    private static final String UPDATE_REVIEW =
+            "update review set helpful_count = greatest(helpful_count + ?, 0) where id = ?";
+    private static final String UPDATE_MEMBER =
+            "update member set helpful_count = greatest(helpful_count + ?, 0) where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewPolicyJobService policyJobService;
+    private final HelpfulCountBufferProperties properties;
+    private final ScheduledExecutorService worker;
+
+    private final Map<Long, LongAdder> reviewDeltas = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> memberDeltas = new ConcurrentHashMap<>();
+    private final Object drainLock = new Object();
+
+    public HelpfulCountBuffer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              ReviewPolicyJobService policyJobService, HelpfulCountBufferProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.policyJobService = policyJobService;
+        this.properties = properties;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "helpful-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.worker.scheduleWithFixedDelay(this::drainQuietly,
+                properties.flushMillis(), properties.flushMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 도움됨 변화량을 버퍼에 더한다(트랜잭션이 없으면 즉시).
+     *
+     * @param authorId 리뷰 작성자 (없으면 리뷰만)
+     * @param delta    도움됨 +1, 취소 -1
+     */
+    public void add(Long reviewId, Long authorId, int delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(reviewId, authorId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(reviewId, authorId, delta);
+            }
+        });
+    }
+
+    /**
+     * 버퍼를 호출 스레드에서 바로 반영한다(테스트/종료 시).
+     * @return 반영한 리뷰 수
+     */
+    public int flush() {
+        synchronized (drainLock) {
+            Map<Long, Long> reviews = drain(reviewDeltas);
+            Map<Long, Long> members = drain(memberDeltas);
+            List<Long> reviewIds = new ArrayList<>(reviews.keySet());
+            List<Long> memberIds = new ArrayList<>(members.keySet());
+            int batchSize = properties.batchSize();
+            for (int from = 0; from < Math.max(reviewIds.size(), memberIds.size()); from += batchSize) {
+                Map<Long, Long> reviewBatch = slice(reviews, reviewIds, from, batchSize);
+                Map<Long, Long> memberBatch = slice(members, memberIds, from, batchSize);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(reviewBatch, memberBatch));
+                } catch (RuntimeException e) {
+                    // 아직 반영하지 못한 변화량은 버퍼로 되돌려 다음 주기에 다시 반영한다
+                    restore(reviewDeltas, reviews, reviewIds, from);
+                    restore(memberDeltas, members, memberIds, from);
+                    throw e;
+                }
+            }
+            return reviewIds.size();
+        }
+    }
+
+    private void write(Map<Long, Long> reviews, Map<Long, Long> members) {
+        if (!reviews.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_REVIEW, rows(reviews));
+        }
+        if (members.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_MEMBER, rows(members));
+
+        // 반영된 도움됨 수로 등급 재계산
+        policyJobService.recalculateTiers(members.keySet());
+    }
+
+    private void apply(Long reviewId, Long authorId, int delta) {
+        increment(reviewDeltas, reviewId, delta);
+        if (authorId != null) {
+            increment(memberDeltas, authorId, delta);
+        }
+    }
+
+    /**
+     * 비운 adder는 drain 에서 맵에서 빠질 수 있다. 빠진 adder에 더했으면 그 값을 새 adder로 옮긴다
+     * (drain 도 제거 후 남은 값을 옮기므로, sumThenReset 으로 어느 쪽이 옮겨도 한 번만 반영된다).
+     */
+    private static void increment(Map<Long, LongAdder> deltas, Long id, long delta) {
+        LongAdder adder = deltas.computeIfAbsent(id, key -> new LongAdder());
+        adder.add(delta);
+        if (deltas.get(id) != adder) {
+            long late = adder.sumThenReset();
+            if (late != 0) {
+                increment(deltas, id, late);
+            }
+        }
+    }
+
+    /**
+     * 변화량을 꺼내고 0으로 되돌린다. 지난 주기 이후 변화가 없던 adder는 맵에서 뺀다.
+     */
+    private static Map<Long, Long> drain(Map<Long, LongAdder> deltas) {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Map.Entry<Long, LongAdder> entry : deltas.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0 && deltas.remove(entry.getKey(), entry.getValue())) {
+                delta = entry.getValue().sumThenReset();
+            }
+            if (delta != 0) {
+                drained.merge(entry.getKey(), delta, Long::sum);
+            }
+        }
+        return drained;
+    }
+
+    private static Map<Long, Long> slice(Map<Long, Long> deltas, List<Long> ids, int from, int size) {
+        Map<Long, Long> slice = new LinkedHashMap<>();
+        for (Long id : ids.subList(Math.min(from, ids.size()), Math.min(from + size, ids.size()))) {
+            slice.put(id, deltas.get(id));
+        }
+        return slice;
+    }
+
+    private static void restore(Map<Long, LongAdder> deltas, Map<Long, Long> drained, List<Long> ids, int from) {
+        for (Long id : ids.subList(Math.min(from, ids.size()), ids.size())) {
+            increment(deltas, id, drained.get(id));
+        }
+    }
+
+    private static List<Object[]> rows(Map<Long, Long> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> rows.add(new Object[] {delta, id}));
+        return rows;
+    }
+
+    private void drainQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("도움됨 수 반영 실패, 다음 주기에 재시도 (reviews={}, members={}): {}",
+                    reviewDeltas.size(), memberDeltas.size(), e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+        drainQuietly();
+    }
+}
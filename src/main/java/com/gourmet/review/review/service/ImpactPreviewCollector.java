@@ -0,0 +1,152 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse.DeltaBucket;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse.MemberChange;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse.StoreDelta;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 미리보기 결과 모음. 워커 청크가 돌려준 가게별 변화를 호출 스레드에서 합쳐 분포/상위 변화만 남긴다
+ * (가게 전체 목록은 들고 있지 않는다).
+ */
+final class ImpactPreviewCollector {
+
+    /** 분포 구간 경계(가중 점수 변화). 0은 점수는 같고 유효 리뷰 수만 바뀐 가게 */
+    private static final BigDecimal[] EDGES = {
+            new BigDecimal("-0.50"), new BigDecimal("-0.10"), new BigDecimal("0.10"), new BigDecimal("0.50")
+    };
+    private static final String[] RANGES = {
+            "<= -0.50", "-0.50 ~ -0.10", "-0.10 ~ 0", "0", "0 ~ 0.10", "0.10 ~ 0.50", ">= 0.50"
+    };
+
+    /**
+     * 가게 1곳의 반영된 점수와 미리보기 점수
+     */
+    record StoreImpact(Long storeId, BigDecimal currentScore, BigDecimal previewScore,
+                       int currentReviewCount, int previewReviewCount) {
+
+        BigDecimal delta() {
+            return previewScore.subtract(currentScore);
+        }
+
+        boolean changed() {
+            return delta().signum() != 0 || currentReviewCount != previewReviewCount;
+        }
+    }
+
+    private final int limit;
+    private final PriorityQueue<StoreImpact> largest;
+    private final int[] histogram = new int[RANGES.length];
+    private final List<MemberChange> memberSamples = new ArrayList<>();
+    private int scannedStores;
+    private int affectedStores;
+    private int memberChanges;
+    private int reviewChanges;
+    private BigDecimal min;
+    private BigDecimal max;
+    private BigDecimal absSum = BigDecimal.ZERO;
+
+    ImpactPreviewCollector(int limit) {
+        this.limit = Math.max(0, limit);
+        this.largest = new PriorityQueue<>(Comparator.comparing((StoreImpact impact) -> impact.delta().abs()));
+    }
+
+    void addScanned(int stores) {
+        scannedStores += stores;
+    }
+
+    void addReviewChanges(int reviews) {
+        reviewChanges += reviews;
+    }
+
+    /**
+     * 바뀌지 않는 가게는 건너뛴다.
+     */
+    void addStores(List<StoreImpact> impacts) {
+        for (StoreImpact impact : impacts) {
+            if (!impact.changed()) {
+                continue;
+            }
+            BigDecimal delta = impact.delta();
+            affectedStores++;
+            histogram[rangeOf(delta)]++;
+            min = min == null || delta.compareTo(min) < 0 ? delta : min;
+            max = max == null || delta.compareTo(max) > 0 ? delta : max;
+            absSum = absSum.add(delta.abs());
+            if (limit > 0) {
+                largest.add(impact);
+                if (largest.size() > limit) {
+                    largest.poll();
+                }
+            }
+        }
+    }
+
+    void addMember(Long memberId, MemberTier fromTier, boolean fromDeviationTarget,
+                   MemberTier toTier, boolean toDeviationTarget) {
+        memberChanges++;
+        if (memberSamples.size() < limit) {
+            memberSamples.add(MemberChange.builder()
+                    .memberId(memberId)
+                    .fromTier(fromTier)
+                    .toTier(toTier)
+                    .fromDeviationTarget(fromDeviationTarget)
+                    .toDeviationTarget(toDeviationTarget)
+                    .build());
+        }
+    }
+
+    PolicyImpactPreviewResponse toResponse(String operation, LocalDateTime decayReference, long elapsedMillis) {
+        List<StoreImpact> top = new ArrayList<>(largest);
+        top.sort(Comparator.comparing((StoreImpact impact) -> impact.delta().abs()).reversed());
+        List<DeltaBucket> buckets = new ArrayList<>(RANGES.length);
+        for (int i = 0; i < RANGES.length; i++) {
+            buckets.add(DeltaBucket.builder().range(RANGES[i]).storeCount(histogram[i]).build());
+        }
+        return PolicyImpactPreviewResponse.builder()
+                .operation(operation)
+                .decayReference(decayReference)
+                .scannedStoreCount(scannedStores)
+                .affectedStoreCount(affectedStores)
+                .memberChangeCount(memberChanges)
+                .reviewChangeCount(reviewChanges)
+                .scoreDeltas(PolicyImpactPreviewResponse.DeltaDistribution.builder()
+                        .min(min)
+                        .max(max)
+                        .meanAbs(affectedStores == 0 ? null
+                                : absSum.divide(BigDecimal.valueOf(affectedStores), 2, RoundingMode.HALF_UP))
+                        .histogram(buckets)
+                        .build())
+                .largestDeltas(top.stream()
+                        .map(impact -> StoreDelta.builder()
+                                .storeId(impact.storeId())
+                                .currentScore(impact.currentScore())
+                                .previewScore(impact.previewScore())
+                                .scoreDelta(impact.delta())
+                                .currentReviewCount(impact.currentReviewCount())
+                                .previewReviewCount(impact.previewReviewCount())
+                                .build())
+                        .toList())
+                .memberChanges(memberSamples)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private static int rangeOf(BigDecimal delta) {
+        if (delta.signum() == 0) {
+            return 3;
+        }
+        if (delta.signum() < 0) {
+            return delta.compareTo(EDGES[0]) <= 0 ? 0 : delta.compareTo(EDGES[1]) <= 0 ? 1 : 2;
+        }
+        return delta.compareTo(EDGES[3]) >= 0 ? 6 : delta.compareTo(EDGES[2]) >= 0 ? 5 : 4;
+    }
+}
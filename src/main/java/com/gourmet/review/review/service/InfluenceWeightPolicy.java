@@ -0,0 +1,63 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.ShadowScoringProperties.InfluenceCandidate;
+import com.gourmet.review.domain.enums.DecayBucket;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 후보 정책: 점수는 그대로 두고, 후한 작성자(평균 점수 > 3.0)의 영향력(가중치)을 낮춘다.
+ * - 가중치 = 등급 가중치 × 시간 감가 × clamp(1 - beta × (작성자 평균 - 3.0), minFactor, 1)
+ * - 편차 보정(±0.5)은 적용하지 않는다. 베이지안 평균 기준점/최소 가중치는 운영 정책과 같다.
+ * (RatingSimulation.calculateStoreScoreProposedWeightOnly 와 같은 식)
+ */
+public final class InfluenceWeightPolicy implements CandidateScorePolicy {
+
+    private final InfluenceCandidate candidate;
+
+    public InfluenceWeightPolicy(InfluenceCandidate candidate) {
+        this.candidate = candidate;
+    }
+
+    @Override
+    public String name() {
+        return candidate.name();
+    }
+
+    @Override
+    public Accumulator newAccumulator(LocalDateTime decayReference) {
+        return new Accumulator() {
+            private BigDecimal weightedSum = BigDecimal.ZERO;
+            private BigDecimal totalWeight = BigDecimal.ZERO;
+
+            @Override
+            public void add(ScoreContribution contribution, AuthorStats author) {
+                BigDecimal weight = StoreScoreCalculator.tierWeight(contribution.tier())
+                        .multiply(DecayBucket.of(contribution.createdAt(), decayReference).getFactor())
+                        .multiply(influenceFactor(author));
+                weightedSum = weightedSum.add(contribution.scoreCalculated().multiply(weight));
+                totalWeight = totalWeight.add(weight);
+            }
+
+            @Override
+            public BigDecimal score() {
+                return StoreScoreCalculator.bayesian(weightedSum, totalWeight);
+            }
+        };
+    }
+
+    BigDecimal influenceFactor(AuthorStats author) {
+        if (author == null || author.meanScore() == null || author.reviewCount() < candidate.minReviewsForUserMean()) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal bias = author.meanScore().subtract(StoreScoreCalculator.BASELINE_SCORE);
+        if (bias.signum() <= 0) {
+            return BigDecimal.ONE;
+        }
+        BigDecimal factor = BigDecimal.ONE.subtract(candidate.beta().multiply(bias));
+        if (factor.compareTo(candidate.minFactor()) < 0) {
+            return candidate.minFactor();
+        }
+        return factor.min(BigDecimal.ONE);
+    }
+}
@@ -0,0 +1,187 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.JobClusterProperties;
+import com.gourmet.review.review.repository.JobLeaseRepository;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 임대 잠금(job_lease). 외부 잠금 서비스 없이 H2/PostgreSQL 모두에서 동작한다.
+ * - 점유: 만료됐거나 내 것인 행을 조건부 UPDATE, 행이 없으면 INSERT(동시에 만들면 PK 위반으로 한쪽만 성공)
+ * - 임대 조작은 호출 트랜잭션과 별개로 바로 커밋된다(다른 노드가 봐야 하므로).
+ * - 노드 생존 신호도 node:{nodeId} 임대로 남긴다. 분할 실행의 분할 수 = 살아 있는 노드 수
+ * - 만료 판단은 각 노드의 시계로 한다. leaseTtl 은 노드 간 시계 차이보다 충분히 길어야 한다.
+ */
+@Slf4j
+@Component
+public class JobLeaseManager {
+
+    private static final String NODE_PREFIX = "node:";
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobClusterProperties properties;
+    private final TransactionTemplate leaseTransaction;
+    private final Clock clock;
+    private final String nodeId;
+
+    /** 이 노드가 가진 임대 → 점유 시각 (반납 시 minHold 계산) */
+    private final Map<String, LocalDateTime> held = new ConcurrentHashMap<>();
+
+    public JobLeaseManager(JobLeaseRepository jobLeaseRepository,
+                           JobClusterProperties properties,
+                           PlatformTransactionManager transactionManager,
+                           Clock clock) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.properties = properties;
+        this.clock = clock;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = properties.nodeId() == null || properties.nodeId().isBlank()
+                ? defaultNodeId()
+                : properties.nodeId();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 노드 간 분할 실행을 쓸지 여부
+     */
+    public boolean isSharding() {
+        return properties.enabled() && properties.sharding();
+    }
+
+    /**
+     * @return 점유했으면 true (비활성이면 항상 true)
+     */
+    public boolean tryAcquire(String leaseName) {
+        if (!properties.enabled()) {
+            return true;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(properties.leaseTtlMillis()));
+        Integer updated = leaseTransaction.execute(status ->
+                jobLeaseRepository.takeOver(leaseName, nodeId, now, expiresAt));
+        boolean acquired = updated != null && updated > 0;
+        if (!acquired) {
+            try {
+                leaseTransaction.executeWithoutResult(status ->
+                        jobLeaseRepository.insertLease(leaseName, nodeId, now, expiresAt));
+                acquired = true;
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 잡고 있다(또는 방금 만들었다)
+            }
+        }
+        if (acquired) {
+            held.put(leaseName, now);
+        }
+        return acquired;
+    }
+
+    /**
+     * 실행 중인 임대를 leaseTtl 만큼 연장한다(청크마다).
+     * @throws IllegalStateException 만료돼 다른 노드가 가져갔으면 (같은 일을 두 노드가 하지 않도록 실행을 멈춘다)
+     */
+    public void renew(String leaseName) {
+        if (!properties.enabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer updated = leaseTransaction.execute(status -> jobLeaseRepository.updateExpiry(leaseName, nodeId, now,
+                now.plus(Duration.ofMillis(properties.leaseTtlMillis()))));
+        if (updated == null || updated == 0) {
+            held.remove(leaseName);
+            throw new IllegalStateException("임대를 잃었습니다: " + leaseName + " (node=" + nodeId + ")");
+        }
+    }
+
+    /**
+     * 임대를 반납한다. 점유 후 minHold 가 지나지 않았으면 그때까지는 유지한다.
+     * @param holdAtLeast false면 즉시 반납 (분할 작업처럼 다시 잡혀도 되는 임대)
+     */
+    public void release(String leaseName, boolean holdAtLeast) {
+        if (!properties.enabled()) {
+            return;
+        }
+        LocalDateTime acquiredAt = held.remove(leaseName);
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now;
+        if (holdAtLeast && acquiredAt != null) {
+            LocalDateTime minHoldUntil = acquiredAt.plus(Duration.ofMillis(properties.minHoldMillis()));
+            expiresAt = minHoldUntil.isAfter(now) ? minHoldUntil : now;
+        }
+        LocalDateTime until = expiresAt;
+        try {
+            leaseTransaction.executeWithoutResult(status -> jobLeaseRepository.updateExpiry(leaseName, nodeId, now, until));
+        } catch (RuntimeException e) {
+            log.warn("임대 반납 실패, 만료 시각에 풀린다 (lease={}): {}", leaseName, e.toString());
+        }
+    }
+
+    /**
+     * 살아 있는 노드 수 (생존 신호가 없으면 이 노드 1개)
+     */
+    public int liveNodeCount() {
+        if (!isSharding()) {
+            return 1;
+        }
+        long count = jobLeaseRepository.countActive(NODE_PREFIX, LocalDateTime.now(clock));
+        return (int) Math.max(1, Math.min(count, properties.maxShards()));
+    }
+
+    /**
+     * @return 임대를 못 얻은 노드가 분할 실행 합류를 기다리는 최대 시간
+     */
+    public long joinWaitMillis() {
+        return properties.joinWaitMillis();
+    }
+
+    /**
+     * 노드 생존 신호. 분할 실행을 쓸 때만 남긴다.
+     */
+    @Scheduled(fixedDelayString = "${gourmet.job-cluster.heartbeat-millis:10000}")
+    public void heartbeat() {
+        if (!isSharding()) {
+            return;
+        }
+        String leaseName = NODE_PREFIX + nodeId;
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime expiresAt = now.plus(Duration.ofMillis(properties.heartbeatMillis() * 3));
+        try {
+            Integer updated = leaseTransaction.execute(status -> jobLeaseRepository.takeOver(leaseName, nodeId, now, expiresAt));
+            if (updated == null || updated == 0) {
+                leaseTransaction.executeWithoutResult(status -> jobLeaseRepository.insertLease(leaseName, nodeId, now, expiresAt));
+            }
+        } catch (RuntimeException e) {
+            log.warn("노드 생존 신호 갱신 실패 (node={}): {}", nodeId, e.toString());
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ManagementFactory.getRuntimeMXBean().getPid();
+    }
+}
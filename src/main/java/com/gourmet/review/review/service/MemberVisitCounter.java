@@ -0,0 +1,57 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.review.repository.MemberStoreVisitRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * PUBLIC 전환된 리뷰의 회원-가게 방문 횟수 반영 (ReviewServiceImpl 승인, 쿨다운 만료 공개 공용)
+ * - 가게마다 upsert 한 번으로 회원별 방문 횟수를 늘리고, 같은 회원의 리뷰가 여럿이면 전달된 순서대로 번호를 매긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberVisitCounter {
+
+    private final MemberStoreVisitRepository memberStoreVisitRepository;
+    private final Clock clock;
+
+    /**
+     * @param published 방금 PUBLIC으로 전환한 리뷰 (회원/가게가 없는 리뷰는 건너뛴다)
+     */
+    public void apply(List<Review> published) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<Long, Map<Long, List<Review>>> byStoreAndMember = new LinkedHashMap<>();
+        for (Review review : published) {
+            if (review.getMember() == null || review.getStore() == null) {
+                continue;
+            }
+            byStoreAndMember.computeIfAbsent(review.getStore().getId(), id -> new LinkedHashMap<>())
+                    .computeIfAbsent(review.getMember().getId(), id -> new ArrayList<>())
+                    .add(review);
+        }
+        byStoreAndMember.forEach((storeId, byMember) -> {
+            if (byMember.size() == 1 && byMember.values().iterator().next().size() == 1) {
+                Review review = byMember.values().iterator().next().get(0);
+                review.updateVisitCount(memberStoreVisitRepository.incrementVisitCount(
+                        review.getMember().getId(), storeId, now));
+                return;
+            }
+            Map<Long, Integer> increments = new LinkedHashMap<>();
+            byMember.forEach((memberId, reviews) -> increments.put(memberId, reviews.size()));
+            Map<Long, Integer> visitCounts = memberStoreVisitRepository.incrementVisitCounts(storeId, increments, now);
+            byMember.forEach((memberId, reviews) -> {
+                int visitCount = visitCounts.get(memberId) - reviews.size();
+                for (Review review : reviews) {
+                    review.updateVisitCount(++visitCount);
+                }
+            });
+        });
+    }
+}
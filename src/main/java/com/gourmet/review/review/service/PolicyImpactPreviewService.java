@@ -0,0 +1,49 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse;
+import java.util.Collection;
+
+/**
+ * 정책 배치/점수 재계산 미리보기(dry-run).
+ * - 실제 작업과 같은 대상/판단 기준으로 새 값을 계산하되 아무것도 저장하지 않는다(워터마크/실행 이력도 그대로).
+ * - 계산은 StoreScoreRecalculationEngine 워커의 읽기 전용 트랜잭션에서 청크 단위로 병렬 실행한다.
+ * - 기여분 이동(등급/편차 보정)은 관련 가게의 집계 셀을 메모리로 복사해 적용해 본다.
+ *
+ * @see ReviewPolicyJobService
+ */
+public interface PolicyImpactPreviewService {
+
+    /**
+     * 00:00 시간감가 재계산 미리보기: 지금 실행하면 감가 구간 경계를 넘는 가게를 지금 기준 시각으로 계산한다.
+     * 워터마크가 없으면(최초 실행) PUBLIC 리뷰가 있는 모든 가게를 본다.
+     */
+    PolicyImpactPreviewResponse previewTimeDecay(int limit);
+
+    /**
+     * 편차 보정 대상 산정 미리보기. 증분 여부와 관계없이 전체 회원을 본다.
+     */
+    PolicyImpactPreviewResponse previewDeviationTargets(int limit);
+
+    /**
+     * 04:00 등급 강등 심사 미리보기 (GOLD → SILVER, GOURMET → GOLD)
+     */
+    PolicyImpactPreviewResponse previewTierEvaluation(int limit);
+
+    /**
+     * 쿨다운 만료 처리 미리보기: 승인될 리뷰 수와, 블라인드 기준(5개)을 넘어 공개되는 가게의 점수 변화
+     */
+    PolicyImpactPreviewResponse previewCooldownExpirations(int limit);
+
+    /**
+     * 회원 등급 수동 변경 미리보기 (BLACK이면 PUBLIC 리뷰가 모두 점수에서 빠진다)
+     */
+    PolicyImpactPreviewResponse previewMemberTierChange(Long memberId, MemberTier newTier, int limit);
+
+    /**
+     * 가게 점수 재계산(집계 재구축) 미리보기: PUBLIC 리뷰로 다시 계산한 점수와 반영된 점수의 차이
+     *
+     * @param storeIds 비어 있으면 PUBLIC 리뷰가 있는 모든 가게
+     */
+    PolicyImpactPreviewResponse previewRecalculation(Collection<Long> storeIds, int limit);
+}
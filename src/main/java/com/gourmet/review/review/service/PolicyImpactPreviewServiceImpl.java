@@ -0,0 +1,339 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.common.exception.BusinessException;
+import com.gourmet.review.common.exception.ErrorCode;
+import com.gourmet.review.domain.entity.JobWatermark;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse;
+import com.gourmet.review.review.repository.JobWatermarkRepository;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.review.service.ImpactPreviewCollector.StoreImpact;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.gourmet.review.review.service.ReviewPolicyJobServiceImpl.COOLDOWN_HOURS;
+import static com.gourmet.review.review.service.ReviewPolicyJobServiceImpl.DECAY_BOUNDARIES;
+import static com.gourmet.review.review.service.ReviewPolicyJobServiceImpl.EXTREME_SAMPLE_SIZE;
+import static com.gourmet.review.review.service.ReviewPolicyJobServiceImpl.GOURMET_MIN_RECENT_REVIEWS;
+import static com.gourmet.review.review.service.ReviewPolicyJobServiceImpl.MODERATED_STATUSES;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PolicyImpactPreviewServiceImpl implements PolicyImpactPreviewService {
+
+    /** 대상 id keyset 페이지 크기 */
+    private static final int PAGE_SIZE = 1000;
+
+    private static final StoreScoreResult EMPTY_RESULT = StoreScoreCalculator.calculate(List.of());
+
+    private final ReviewRepository reviewRepository;
+    private final MemberRepository memberRepository;
+    private final StoreRepository storeRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final StoreScoreAggregateService storeScoreAggregateService;
+    private final StoreScoreRecalculationEngine recalculationEngine;
+    private final Clock clock;
+
+    /**
+     * 회원 1명의 등급/편차 보정 여부 변화와, 변화 전 기준 PUBLIC 리뷰 기여분
+     */
+    private record MemberMove(Long memberId, MemberTier fromTier, boolean fromDeviationTarget,
+                              MemberTier toTier, boolean toDeviationTarget, List<ScoreContribution> before) {
+    }
+
+    /**
+     * 청크 1개의 미리보기 결과
+     */
+    private record ChunkImpact(List<StoreImpact> stores, int reviewChanges) {
+    }
+
+    @Override
+    public PolicyImpactPreviewResponse previewTimeDecay(int limit) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime from = jobWatermarkRepository.findById(PolicyJobType.TIME_DECAY)
+                .map(JobWatermark::getWatermarkAt)
+                .orElse(null);
+
+        Set<Long> storeIds = new TreeSet<>();
+        if (from == null) {
+            storeIds.addAll(collectIds(afterStoreId -> storeRepository.findIdsWithReviewStatusAfter(
+                    ReviewStatus.PUBLIC, afterStoreId, 1, 0, PageRequest.of(0, PAGE_SIZE))));
+        } else if (now.isAfter(from)) {
+            for (Function<LocalDateTime, LocalDateTime> boundary : DECAY_BOUNDARIES) {
+                LocalDateTime rangeFrom = boundary.apply(from);
+                LocalDateTime rangeTo = boundary.apply(now);
+                storeIds.addAll(collectIds(afterStoreId -> reviewRepository.findDistinctStoreIdsByStatusAndCreatedAtRange(
+                        ReviewStatus.PUBLIC, rangeFrom, rangeTo, afterStoreId, 1, 0, PageRequest.of(0, PAGE_SIZE))));
+            }
+        }
+
+        ImpactPreviewCollector collector = new ImpactPreviewCollector(limit);
+        collector.addScanned(storeIds.size());
+        recalculationEngine.read(PolicyJobType.TIME_DECAY.name(), storeIds,
+                        chunk -> compare(chunk, storeScoreAggregateService.aggregate(chunk, now)))
+                .forEach(collector::addStores);
+        return collector.toResponse(PolicyJobType.TIME_DECAY.name(), now, System.currentTimeMillis() - startedAt);
+    }
+
+    @Override
+    public PolicyImpactPreviewResponse previewDeviationTargets(int limit) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> memberIds = collectIds(afterMemberId ->
+                memberRepository.findIdsAfter(afterMemberId, 1, 0, PageRequest.of(0, PAGE_SIZE)));
+        List<MemberMove> moves = new ArrayList<>();
+        recalculationEngine.read(PolicyJobType.DEVIATION.name(), memberIds, chunk -> {
+            Map<Long, Boolean> flips = ReviewPolicyJobServiceImpl.deviationFlips(
+                    reviewRepository.findExtremeScoreRatiosByMemberIds(chunk, EXTREME_SAMPLE_SIZE));
+            List<MemberMove> chunkMoves = new ArrayList<>(flips.size());
+            for (Member member : memberRepository.findAllById(flips.keySet())) {
+                boolean isTarget = flips.get(member.getId());
+                chunkMoves.add(moveOf(member.getId(), member.getTier(), !isTarget, member.getTier(), isTarget));
+            }
+            return chunkMoves;
+        }).forEach(moves::addAll);
+        return previewMoves(PolicyJobType.DEVIATION.name(), moves, limit, startedAt);
+    }
+
+    /**
+     * 실제 심사처럼 GOLD 심사와 GOURMET 심사 대상을 같은 기준 시각으로 고른다(한 번에 두 단계 강등 없음).
+     */
+    @Override
+    public PolicyImpactPreviewResponse previewTierEvaluation(int limit) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<Long, MemberMove> changes = new LinkedHashMap<>();
+        collectTierCandidates(changes, MemberTier.GOLD, MemberTier.SILVER, afterMemberId ->
+                memberRepository.findTierCandidatesIdleSince(MemberTier.GOLD, now.minusYears(1),
+                        afterMemberId, PageRequest.of(0, PAGE_SIZE)));
+        collectTierCandidates(changes, MemberTier.GOURMET, MemberTier.GOLD, afterMemberId ->
+                memberRepository.findTierCandidatesWithFewReviewsSince(MemberTier.GOURMET, MODERATED_STATUSES,
+                        now.minusMonths(6), GOURMET_MIN_RECENT_REVIEWS, afterMemberId, PageRequest.of(0, PAGE_SIZE)));
+
+        List<MemberMove> moves = new ArrayList<>(changes.size());
+        recalculationEngine.read(PolicyJobType.TIER_EVALUATION.name(), changes.keySet(), chunk -> chunk.stream()
+                        .map(changes::get)
+                        .map(change -> moveOf(change.memberId(), change.fromTier(), change.fromDeviationTarget(),
+                                change.toTier(), change.toDeviationTarget()))
+                        .toList())
+                .forEach(moves::addAll);
+        return previewMoves(PolicyJobType.TIER_EVALUATION.name(), moves, limit, startedAt);
+    }
+
+    private void collectTierCandidates(Map<Long, MemberMove> changes, MemberTier fromTier, MemberTier toTier,
+                                       LongFunction<List<Object[]>> page) {
+        long afterMemberId = 0L;
+        List<Object[]> rows;
+        do {
+            rows = page.apply(afterMemberId);
+            for (Object[] row : rows) {
+                Long memberId = (Long) row[0];
+                boolean deviationTarget = Boolean.TRUE.equals(row[1]);
+                changes.putIfAbsent(memberId,
+                        new MemberMove(memberId, fromTier, deviationTarget, toTier, deviationTarget, List.of()));
+                afterMemberId = memberId;
+            }
+        } while (rows.size() == PAGE_SIZE);
+    }
+
+    /**
+     * 실제 처리와 같이 만료 리뷰를 승인하고, 가게의 검수 통과 리뷰가 5개 이상이 되면 APPROVED/BLIND_HELD를 공개한다고 보고 계산한다.
+     * 리뷰 엔티티는 읽기만 한다(상태를 바꾸지 않는다).
+     */
+    @Override
+    public PolicyImpactPreviewResponse previewCooldownExpirations(int limit) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(COOLDOWN_HOURS);
+        List<Long> storeIds = collectIds(afterStoreId ->
+                reviewRepository.findStoreIdsWithCooldownExpired(cutoff, afterStoreId, PageRequest.of(0, PAGE_SIZE)));
+
+        ImpactPreviewCollector collector = new ImpactPreviewCollector(limit);
+        collector.addScanned(storeIds.size());
+        for (ChunkImpact impact : recalculationEngine.read(PolicyJobType.COOLDOWN.name(), storeIds,
+                chunk -> previewCooldownChunk(chunk, cutoff))) {
+            collector.addStores(impact.stores());
+            collector.addReviewChanges(impact.reviewChanges());
+        }
+        return collector.toResponse(PolicyJobType.COOLDOWN.name(), storeScoreAggregateService.currentDecayReference(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    private ChunkImpact previewCooldownChunk(List<Long> storeIds, LocalDateTime cutoff) {
+        Map<Long, List<Review>> approvedByStore = new HashMap<>();
+        int approved = 0;
+        for (Review review : reviewRepository.findByStoreIdInAndStatusAndCreatedAtLessThanEqual(
+                storeIds, ReviewStatus.PENDING, cutoff)) {
+            if (ReviewPolicyJobServiceImpl.isCooldownTarget(review) && review.getCreatedAt() != null) {
+                approvedByStore.computeIfAbsent(review.getStore().getId(), id -> new ArrayList<>()).add(review);
+                approved++;
+            }
+        }
+        if (approvedByStore.isEmpty()) {
+            return new ChunkImpact(List.of(), 0);
+        }
+
+        Set<Long> publishing = new LinkedHashSet<>();
+        for (Object[] row : reviewRepository.countByStoreIdInAndStatusInGroupByStoreId(approvedByStore.keySet(),
+                MODERATED_STATUSES)) {
+            Long storeId = (Long) row[0];
+            if ((Long) row[1] + approvedByStore.get(storeId).size() >= 5) {
+                publishing.add(storeId);
+            }
+        }
+        approvedByStore.forEach((storeId, reviews) -> {
+            if (reviews.size() >= 5) {
+                publishing.add(storeId);
+            }
+        });
+        if (publishing.isEmpty()) {
+            return new ChunkImpact(List.of(), approved);
+        }
+
+        List<ScoreContribution> added = new ArrayList<>();
+        for (Review review : reviewRepository.findByStoreIdInAndStatusIn(publishing,
+                List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD))) {
+            added.add(ScoreContribution.from(review));
+        }
+        for (Long storeId : publishing) {
+            approvedByStore.get(storeId).forEach(review -> added.add(ScoreContribution.from(review)));
+        }
+        Map<Long, StoreScoreResult> results = storeScoreAggregateService.simulateReplaceAll(List.of(), added);
+        return new ChunkImpact(compare(results.keySet(), results), approved);
+    }
+
+    @Override
+    public PolicyImpactPreviewResponse previewMemberTierChange(Long memberId, MemberTier newTier, int limit) {
+        long startedAt = System.currentTimeMillis();
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "회원 정보를 찾을 수 없습니다."));
+        boolean deviationTarget = Boolean.TRUE.equals(member.getIsDeviationTarget());
+        List<MemberMove> moves = member.getTier() == newTier
+                ? List.of()
+                : List.of(moveOf(member.getId(), member.getTier(), deviationTarget, newTier, deviationTarget));
+        return previewMoves("MEMBER_TIER", moves, limit, startedAt);
+    }
+
+    @Override
+    public PolicyImpactPreviewResponse previewRecalculation(Collection<Long> storeIds, int limit) {
+        long startedAt = System.currentTimeMillis();
+        Collection<Long> targets = storeIds == null || storeIds.isEmpty()
+                ? collectIds(afterStoreId -> storeRepository.findIdsWithReviewStatusAfter(
+                        ReviewStatus.PUBLIC, afterStoreId, 1, 0, PageRequest.of(0, PAGE_SIZE)))
+                : storeIds;
+        LocalDateTime reference = storeScoreAggregateService.currentDecayReference();
+
+        ImpactPreviewCollector collector = new ImpactPreviewCollector(limit);
+        collector.addScanned(new LinkedHashSet<>(targets).size());
+        recalculationEngine.read("RESCORE", targets,
+                        chunk -> compare(chunk, storeScoreAggregateService.aggregate(chunk, reference)))
+                .forEach(collector::addStores);
+        return collector.toResponse("RESCORE", reference, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 회원별 기여분 이동을 가게별로 모아, 가게 청크마다 셀 사본에 적용해 본다.
+     */
+    private PolicyImpactPreviewResponse previewMoves(String operation, List<MemberMove> moves,
+                                                     int limit, long startedAt) {
+        ImpactPreviewCollector collector = new ImpactPreviewCollector(limit);
+        Map<Long, List<ScoreContribution>> beforeByStore = new HashMap<>();
+        Map<Long, List<ScoreContribution>> afterByStore = new HashMap<>();
+        for (MemberMove move : moves) {
+            collector.addMember(move.memberId(), move.fromTier(), move.fromDeviationTarget(),
+                    move.toTier(), move.toDeviationTarget());
+            for (ScoreContribution contribution : move.before()) {
+                beforeByStore.computeIfAbsent(contribution.storeId(), id -> new ArrayList<>()).add(contribution);
+                if (move.toTier() != MemberTier.BLACK) {
+                    afterByStore.computeIfAbsent(contribution.storeId(), id -> new ArrayList<>())
+                            .add(contribution.withTier(move.toTier()).withDeviationTarget(move.toDeviationTarget()));
+                }
+            }
+        }
+
+        collector.addScanned(beforeByStore.size());
+        recalculationEngine.read(operation, beforeByStore.keySet(), chunk -> {
+            List<ScoreContribution> before = new ArrayList<>();
+            List<ScoreContribution> after = new ArrayList<>();
+            for (Long storeId : chunk) {
+                before.addAll(beforeByStore.getOrDefault(storeId, List.of()));
+                after.addAll(afterByStore.getOrDefault(storeId, List.of()));
+            }
+            Map<Long, StoreScoreResult> results = storeScoreAggregateService.simulateReplaceAll(before, after);
+            return compare(results.keySet(), results);
+        }).forEach(collector::addStores);
+        return collector.toResponse(operation, storeScoreAggregateService.currentDecayReference(),
+                System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 회원의 PUBLIC 리뷰 기여분(변화 전 등급/보정 여부 기준). 리뷰 엔티티 없이 점수 행만 읽는다.
+     */
+    private MemberMove moveOf(Long memberId, MemberTier fromTier, boolean fromDeviationTarget,
+                              MemberTier toTier, boolean toDeviationTarget) {
+        List<ScoreContribution> before = new ArrayList<>();
+        for (Object[] row : reviewRepository.findScoreRowsByMemberIdAndStatus(memberId, ReviewStatus.PUBLIC)) {
+            before.add(new ScoreContribution((Long) row[0], fromTier, fromDeviationTarget,
+                    (LocalDateTime) row[1], (BigDecimal) row[2],
+                    (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6]));
+        }
+        return new MemberMove(memberId, fromTier, fromDeviationTarget, toTier, toDeviationTarget, before);
+    }
+
+    /**
+     * 가게에 반영된 점수와 미리보기 점수를 짝짓는다. 결과가 없는 가게는 리뷰 0건 점수로 본다.
+     */
+    private List<StoreImpact> compare(Collection<Long> storeIds, Map<Long, StoreScoreResult> results) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        List<StoreImpact> impacts = new ArrayList<>(storeIds.size());
+        for (Object[] row : storeRepository.findScoreRowsByIdIn(storeIds)) {
+            Long storeId = (Long) row[0];
+            StoreScoreResult result = results.getOrDefault(storeId, EMPTY_RESULT);
+            impacts.add(new StoreImpact(storeId, (BigDecimal) row[1], result.scoreWeighted(),
+                    ((Number) row[3]).intValue(), result.reviewCount()));
+        }
+        return impacts;
+    }
+
+    /**
+     * id keyset 페이지를 끝까지 읽는다(id만 모으고 엔티티는 읽지 않는다).
+     */
+    private static List<Long> collectIds(LongFunction<List<Long>> page) {
+        List<Long> ids = new ArrayList<>();
+        long afterId = 0L;
+        List<Long> rows;
+        do {
+            rows = page.apply(afterId);
+            ids.addAll(rows);
+            if (!rows.isEmpty()) {
+                afterId = rows.get(rows.size() - 1);
+            }
+        } while (rows.size() == PAGE_SIZE);
+        return ids;
+    }
+}
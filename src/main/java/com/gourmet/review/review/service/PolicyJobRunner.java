@@ -0,0 +1,357 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.JobCheckpoint;
+import com.gourmet.review.domain.entity.JobRun;
+import com.gourmet.review.domain.enums.JobRunMode;
+import com.gourmet.review.domain.enums.JobRunStatus;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.review.repository.JobCheckpointRepository;
+import com.gourmet.review.review.repository.JobRunRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 정책 배치 실행기(체크포인트/재개, 다중 인스턴스).
+ * - 작업은 단계(phase) 목록이고, 단계는 keyset 키(회원/가게 id) 순으로 청크를 처리한다.
+ * - 청크 처리와 체크포인트(job_checkpoint) 갱신, 실행 이력(job_run) 누적은 한 트랜잭션으로 커밋된다.
+ * - 실행이 실패하거나 프로세스가 죽으면 체크포인트가 남고, 다음 실행은 같은 job_run 을
+ *   같은 구간(watermarkFrom~To)으로 마지막 커밋 위치부터 이어서 처리한다.
+ * - 작업 임대(job_lease, 작업 이름)를 얻은 노드만 실행을 시작한다. 다른 노드의 같은 스케줄은 건너뛴다.
+ * - 분할 가능한 작업은 분할 실행이 켜져 있으면 살아 있는 노드 수만큼 키 해시(mod)로 나누고,
+ *   분할마다 임대({작업}#{분할})를 잡은 노드가 처리한다. 임대를 못 얻은 노드는 진행 중인 실행에 합류한다.
+ * - 모든 분할이 끝나면 마지막으로 끝낸 노드가 onSuccess(워터마크 이동 등)와 함께 실행을 성공 처리하고 체크포인트를 지운다.
+ * - 호출 트랜잭션이 없으면 청크마다 커밋하고, 있으면 그 트랜잭션에 참여한다(ReviewPolicyJobServiceTest).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PolicyJobRunner {
+
+    private static final long JOIN_POLL_MILLIS = 1000;
+
+    private final JobRunRepository jobRunRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final JobLeaseManager jobLeaseManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /**
+     * 새 실행의 처리 구간
+     */
+    public record RunPlan(JobRunMode mode, LocalDateTime watermarkFrom, LocalDateTime watermarkTo) {
+    }
+
+    /**
+     * 키 해시 분할. 분할 index 는 mod(key, count) = index 인 키만 처리한다.
+     */
+    public record Shard(int index, int count) {
+
+        public static final Shard SINGLE = new Shard(0, 1);
+    }
+
+    /**
+     * @param scanned 청크에서 읽은 키 수
+     * @param updated 청크에서 실제로 바꾼 건수
+     * @param lastKey 청크의 마지막 키(다음 청크는 이 키 다음부터)
+     * @param last    단계의 마지막 청크 여부
+     */
+    public record Chunk(int scanned, int updated, long lastKey, boolean last) {
+
+        /**
+         * keyset 페이지 결과로 청크를 만든다. 페이지가 덜 찼으면 단계의 마지막 청크다.
+         */
+        public static Chunk of(List<Long> keys, int pageSize, int updated) {
+            if (keys.isEmpty()) {
+                return new Chunk(0, 0, 0L, true);
+            }
+            return new Chunk(keys.size(), updated, keys.get(keys.size() - 1), keys.size() < pageSize);
+        }
+    }
+
+    /**
+     * 단계: afterKey 다음 청크 1개를 처리한다(러너의 청크 트랜잭션 안에서 호출).
+     */
+    @FunctionalInterface
+    public interface Phase {
+        Chunk next(long afterKey);
+    }
+
+    /**
+     * @param shardable 키 해시로 나눠 여러 노드가 처리해도 되는지 여부
+     * @param planner   새 실행의 구간을 정한다(실행 이력과 같은 트랜잭션). 재개/합류 시에는 호출되지 않는다.
+     * @param phases    실행 구간(job_run)과 분할로 단계 목록을 만든다. 재개 시에도 같은 구간으로 만들어진다.
+     * @param onSuccess 모든 분할이 끝난 뒤 성공 처리와 같은 트랜잭션에서 실행된다.
+     */
+    public record JobDefinition(PolicyJobType job,
+                                boolean shardable,
+                                Function<LocalDateTime, RunPlan> planner,
+                                BiFunction<JobRun, Shard, List<Phase>> phases,
+                                Consumer<JobRun> onSuccess) {
+
+        public static JobDefinition single(PolicyJobType job,
+                                           Function<LocalDateTime, RunPlan> planner,
+                                           Function<JobRun, List<Phase>> phases,
+                                           Consumer<JobRun> onSuccess) {
+            return new JobDefinition(job, false, planner, (run, shard) -> phases.apply(run), onSuccess);
+        }
+
+        public static JobDefinition sharded(PolicyJobType job,
+                                            Function<LocalDateTime, RunPlan> planner,
+                                            BiFunction<JobRun, Shard, List<Phase>> phases,
+                                            Consumer<JobRun> onSuccess) {
+            return new JobDefinition(job, true, planner, phases, onSuccess);
+        }
+    }
+
+    /**
+     * @return 이 노드가 처리한 실행 (다른 노드가 실행 중이라 건너뛰었으면 empty)
+     */
+    public Optional<JobRun> run(JobDefinition definition) {
+        PolicyJobType job = definition.job();
+        String jobLease = job.name();
+        if (!jobLeaseManager.tryAcquire(jobLease)) {
+            if (definition.shardable() && jobLeaseManager.isSharding()) {
+                return join(definition);
+            }
+            log.info("[{}] 다른 노드가 실행 중이라 건너뜀", job);
+            return Optional.empty();
+        }
+        try {
+            JobRun run = transactionTemplate.execute(status -> start(definition));
+            return Optional.of(execute(definition, run, jobLease, 0));
+        } finally {
+            jobLeaseManager.release(jobLease, true);
+        }
+    }
+
+    /**
+     * 마지막으로 성공한 해당 모드 실행 (주기적 전체 실행 판단용)
+     */
+    public Optional<JobRun> findLastSucceeded(PolicyJobType job, JobRunMode mode) {
+        return jobRunRepository.findFirstByJobNameAndRunModeAndStatusOrderByStartedAtDesc(
+                job, mode, JobRunStatus.SUCCEEDED);
+    }
+
+    /**
+     * 최근 실행 이력(최신순)
+     * @param job NULL이면 전체 작업
+     */
+    public List<JobRun> findRecentRuns(PolicyJobType job, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        return job == null
+                ? jobRunRepository.findAllByOrderByStartedAtDesc(page)
+                : jobRunRepository.findByJobNameOrderByStartedAtDesc(job, page);
+    }
+
+    /**
+     * 진행 중이거나 중단돼 재개를 기다리는 실행의 분할별 체크포인트
+     */
+    public List<JobCheckpoint> findCheckpoints() {
+        return jobCheckpointRepository.findAll();
+    }
+
+    /**
+     * 체크포인트가 있으면 그 실행을 이어서, 없으면 새 실행을 시작한다(작업 임대를 가진 노드만 호출).
+     */
+    private JobRun start(JobDefinition definition) {
+        PolicyJobType job = definition.job();
+        List<JobCheckpoint> checkpoints = jobCheckpointRepository.findByJobNameOrderByShardIndex(job);
+        if (!checkpoints.isEmpty()) {
+            Optional<JobRun> interrupted = jobRunRepository.findById(checkpoints.get(0).getRunId());
+            if (interrupted.isPresent()) {
+                JobRun run = interrupted.get();
+                run.resume();
+                log.info("[{}] 중단된 실행 재개: runId={}, shards={}, remaining={}", job, run.getId(), run.getShardCount(),
+                        checkpoints.stream().filter(checkpoint -> !checkpoint.getCompleted()).count());
+                return run;
+            }
+            jobCheckpointRepository.deleteAll(checkpoints);
+            jobCheckpointRepository.flush();
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        RunPlan plan = definition.planner().apply(startedAt);
+        int shardCount = definition.shardable() ? jobLeaseManager.liveNodeCount() : 1;
+        JobRun run = jobRunRepository.save(JobRun.builder()
+                .jobName(job)
+                .runMode(plan.mode())
+                .watermarkFrom(plan.watermarkFrom())
+                .watermarkTo(plan.watermarkTo())
+                .shardCount(shardCount)
+                .startedAt(startedAt)
+                .build());
+        List<JobCheckpoint> shards = new ArrayList<>();
+        for (int index = 0; index < shardCount; index++) {
+            shards.add(JobCheckpoint.builder()
+                    .checkpointKey(JobCheckpoint.keyOf(job, index))
+                    .jobName(job)
+                    .shardIndex(index)
+                    .runId(run.getId())
+                    .build());
+        }
+        jobCheckpointRepository.saveAll(shards);
+        return run;
+    }
+
+    /**
+     * 작업 임대를 못 얻은 노드: 진행 중인 분할 실행이 있으면(joinWait 동안 기다림) 남은 분할을 나눠 처리한다.
+     */
+    private Optional<JobRun> join(JobDefinition definition) {
+        PolicyJobType job = definition.job();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(jobLeaseManager.joinWaitMillis());
+        while (true) {
+            Optional<JobRun> active = transactionTemplate.execute(status -> jobCheckpointRepository
+                    .findByJobNameOrderByShardIndex(job).stream()
+                    .findFirst()
+                    .flatMap(checkpoint -> jobRunRepository.findById(checkpoint.getRunId()))
+                    .filter(run -> run.getStatus() == JobRunStatus.RUNNING && run.getShardCount() > 1));
+            if (active.isPresent()) {
+                JobRun run = active.get();
+                log.info("[{}] 진행 중인 분할 실행에 합류: runId={}, shards={}", job, run.getId(), run.getShardCount());
+                int offset = Math.floorMod(jobLeaseManager.getNodeId().hashCode(), run.getShardCount());
+                return Optional.of(execute(definition, run, null, offset));
+            }
+            if (System.nanoTime() >= deadline) {
+                log.info("[{}] 다른 노드가 실행 중이라 건너뜀", job);
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(JOIN_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * 분할을 offset 부터 차례로 잡아 처리하고, 모든 분할이 끝났으면 실행을 성공 처리한다.
+     * @param jobLease 작업 임대를 가진 노드면 그 이름(청크마다 함께 연장), 합류한 노드면 null
+     */
+    private JobRun execute(JobDefinition definition, JobRun run, String jobLease, int offset) {
+        PolicyJobType job = definition.job();
+        Long runId = run.getId();
+        int shardCount = run.getShardCount();
+        long startedNanos = System.nanoTime();
+        try {
+            for (int i = 0; i < shardCount; i++) {
+                Shard shard = new Shard((offset + i) % shardCount, shardCount);
+                String shardLease = shardCount > 1 ? JobCheckpoint.keyOf(job, shard.index()) : null;
+                if (shardLease != null && !jobLeaseManager.tryAcquire(shardLease)) {
+                    continue;
+                }
+                try {
+                    List<String> leases = new ArrayList<>();
+                    if (jobLease != null) {
+                        leases.add(jobLease);
+                    }
+                    if (shardLease != null) {
+                        leases.add(shardLease);
+                    }
+                    runShard(definition, run, shard, leases);
+                } finally {
+                    if (shardLease != null) {
+                        jobLeaseManager.release(shardLease, false);
+                    }
+                }
+            }
+
+            long elapsed = elapsedMillis(startedNanos);
+            JobRun result = transactionTemplate.execute(status -> finish(definition, runId, elapsed));
+            if (result.getStatus() == JobRunStatus.SUCCEEDED) {
+                log.info("[{}] 배치 완료: runId={}, mode={}, from={}, to={}, shards={}, resumed={}, chunks={}, scanned={}, updated={}, elapsed={}ms",
+                        job, runId, result.getRunMode(), result.getWatermarkFrom(), result.getWatermarkTo(),
+                        shardCount, result.getResumeCount(), result.getChunkCount(), result.getScannedCount(),
+                        result.getUpdatedCount(), result.getDurationMillis());
+            }
+            return result;
+        } catch (RuntimeException e) {
+            long elapsed = elapsedMillis(startedNanos);
+            transactionTemplate.executeWithoutResult(status -> jobRunRepository.findById(runId).ifPresent(current ->
+                    current.fail(e.toString(), LocalDateTime.now(clock), elapsed)));
+            log.error("[{}] 배치 실패, 다음 실행에서 체크포인트부터 재개: runId={}", job, runId, e);
+            throw e;
+        }
+    }
+
+    private void runShard(JobDefinition definition, JobRun run, Shard shard, List<String> leases) {
+        PolicyJobType job = definition.job();
+        String checkpointKey = JobCheckpoint.keyOf(job, shard.index());
+        JobCheckpoint checkpoint = transactionTemplate.execute(status ->
+                jobCheckpointRepository.findById(checkpointKey).orElse(null));
+        if (checkpoint == null || checkpoint.getCompleted() || !checkpoint.getRunId().equals(run.getId())) {
+            return;
+        }
+
+        List<Phase> phases = definition.phases().apply(run, shard);
+        int phase = checkpoint.getPhase();
+        long afterKey = checkpoint.getLastKey();
+        while (phase < phases.size()) {
+            leases.forEach(jobLeaseManager::renew);
+            Phase current = phases.get(phase);
+            int nextPhase = phase + 1;
+            long cursor = afterKey;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                Chunk result = current.next(cursor);
+                checkpoint(checkpointKey, run.getId(), result.last() ? nextPhase : nextPhase - 1,
+                        result.last() ? 0L : result.lastKey(), result.last() && nextPhase == phases.size(), result);
+                return result;
+            });
+            if (chunk.last()) {
+                phase++;
+                afterKey = 0L;
+            } else {
+                afterKey = chunk.lastKey();
+            }
+        }
+        if (phases.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobCheckpointRepository.findById(checkpointKey).ifPresent(JobCheckpoint::complete));
+        }
+    }
+
+    private void checkpoint(String checkpointKey, Long runId, int phase, long lastKey, boolean completed, Chunk chunk) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(checkpointKey).orElseThrow();
+        checkpoint.advanceTo(phase, lastKey);
+        if (completed) {
+            checkpoint.complete();
+        }
+        jobRunRepository.findById(runId).orElseThrow().recordChunk(chunk.scanned(), chunk.updated());
+    }
+
+    /**
+     * 실행 행을 잠그고, 모든 분할이 끝났으면 성공 처리한다(분할 실행에서 동시에 끝낸 노드 중 한 곳만).
+     */
+    private JobRun finish(JobDefinition definition, Long runId, long elapsed) {
+        JobRun run = jobRunRepository.findByIdForUpdate(runId).orElseThrow();
+        if (run.getStatus() == JobRunStatus.SUCCEEDED) {
+            run.addDuration(elapsed);
+            return run;
+        }
+        List<JobCheckpoint> checkpoints = jobCheckpointRepository.findByRunId(runId);
+        if (checkpoints.stream().allMatch(JobCheckpoint::getCompleted)) {
+            definition.onSuccess().accept(run);
+            jobCheckpointRepository.deleteAll(checkpoints);
+            run.succeed(LocalDateTime.now(clock), elapsed);
+        } else {
+            run.addDuration(elapsed);
+        }
+        return run;
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+}
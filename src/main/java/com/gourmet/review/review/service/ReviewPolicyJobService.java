@@ -1,6 +1,10 @@
 package com.gourmet.review.review.service;
 
 import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.review.dto.JobRunResponse;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * 정책/배치 작업을 담당하는 서비스.
@@ -10,28 +14,59 @@ public interface ReviewPolicyJobService {
 
     /**
      * 1점/5점 리뷰 쿨다운 만료 처리: PENDING -> APPROVED (조건 충족 시)
+     * - 만료 리뷰를 가게별로 묶어 블라인드 기준 판단/공개 전환/점수 갱신 예약을 가게당 한 번만 한다.
+     * @return 승인한 리뷰 수
      */
     int processCooldownExpirations();
 
+    /**
+     * 쿨다운 만료 타이머가 만료 시각에 넘긴 리뷰를 승인한다.
+     * - 아직 PENDING이고 쿨다운 대상이며 12시간이 지난 리뷰만 처리한다(이미 처리된 리뷰는 무시).
+     * @return 승인한 리뷰 수
+     */
+    int approveCooldownExpired(Collection<Long> reviewIds);
+
     /**
      * 편차 보정 대상 산정(최근 20개 PUBLIC 리뷰 중 1/5점 비율 90% 이상)
+     * - 지난 성공 실행 이후 리뷰가 바뀐 회원만 보는 증분 실행이 기본이고, 주 1회는 전체 회원을 본다.
+     * - 대상 여부가 바뀐 회원은 PUBLIC 리뷰 기여분만 집계에서 옮긴다(가게 전체 재계산 없음).
+     * @return 대상 여부가 바뀐 회원 수
      */
     int refreshDeviationTargets();
 
     /**
      * 00:00 시간감가 반영을 위한 스토어 점수 재계산.
-     * (단순 구현: PUBLIC 리뷰가 있는 모든 스토어 재계산)
+     * - 지난 실행(TIME_DECAY 워터마크) 이후 감가 구간 경계를 넘은 PUBLIC 리뷰가 있는 스토어만 재계산
+     * - 워터마크가 없으면(최초 실행) PUBLIC 리뷰가 있는 모든 스토어 재계산
+     * @return 재계산한 스토어 수
      */
     int recalculateStoresForTimeDecay();
 
     /**
      * 04:00 등급 승급/강등 배치.
+     * - GOLD 1년 무활동 → SILVER, GOURMET 최근 6개월 리뷰 10개 미만 → GOLD (bulk UPDATE)
+     * - 등급이 바뀐 회원의 PUBLIC 리뷰 기여분만 집계에서 옮긴다.
+     * @return 등급이 바뀐 회원 수
      */
     int runTierEvaluation();
 
     /**
      * 회원 tier 변경(관리자/배치)에 따른 소급 재계산 및 BLACK 제재 처리.
+     * - 해당 회원의 PUBLIC 리뷰 기여분만 이전 등급 → 새 등급으로 옮긴다(비용은 회원의 리뷰 수에 비례).
      */
     void handleMemberTierChanged(Long memberId, MemberTier oldTier, MemberTier newTier);
-}
 
+    /**
+     * 리뷰 수/도움됨 수가 바뀐 회원의 자동 등급 재계산 (카운터는 UPDATE로 이미 반영된 뒤 호출한다).
+     * - DB의 현재 값으로 다시 계산해 바뀐 회원만 등급 UPDATE + handleMemberTierChanged. BLACK은 자동 변경 대상이 아니다.
+     * - 등급이 바뀌면 영속성 컨텍스트가 비워지므로 호출부는 이후 엔티티를 다시 조회해야 한다.
+     * @return 등급이 바뀐 회원 수
+     */
+    int recalculateTiers(Collection<Long> memberIds);
+
+    /**
+     * 정책 배치 최근 실행 이력(최신순). 중단돼 재개를 기다리는 실행은 체크포인트 위치를 함께 준다.
+     * @param job NULL이면 전체 작업
+     */
+    List<JobRunResponse> findRecentRuns(PolicyJobType job, int limit);
+}
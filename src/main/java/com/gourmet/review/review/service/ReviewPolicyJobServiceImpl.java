@@ -1,23 +1,46 @@
 package com.gourmet.review.review.service;
 
+import com.gourmet.review.domain.entity.JobCheckpoint;
+import com.gourmet.review.domain.entity.JobRun;
+import com.gourmet.review.domain.entity.JobWatermark;
 import com.gourmet.review.domain.entity.Member;
 import com.gourmet.review.domain.entity.Review;
-import com.gourmet.review.domain.entity.Store;
-import com.gourmet.review.domain.entity.MemberStoreVisit;
+import com.gourmet.review.domain.enums.JobRunMode;
 import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
 import com.gourmet.review.domain.enums.ReviewStatus;
 import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.JobRunResponse;
+import com.gourmet.review.review.service.PolicyJobRunner.Chunk;
+import com.gourmet.review.review.service.PolicyJobRunner.JobDefinition;
+import com.gourmet.review.review.service.PolicyJobRunner.Phase;
+import com.gourmet.review.review.service.PolicyJobRunner.RunPlan;
+import com.gourmet.review.review.service.PolicyJobRunner.Shard;
+import com.gourmet.review.review.repository.JobWatermarkRepository;
 import com.gourmet.review.review.repository.ReviewRepository;
 import com.gourmet.review.store.repository.StoreRepository;
-import com.gourmet.review.review.repository.MemberStoreVisitRepository;
 import java.math.BigDecimal;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,84 +49,166 @@ public class ReviewPolicyJobServiceImpl implements ReviewPolicyJobService {
     private static final BigDecimal EXTREME_MIN = new BigDecimal("1.0");
     private static final BigDecimal EXTREME_MAX = new BigDecimal("5.0");
 
-    private static final int EXTREME_SAMPLE_SIZE = 20;
-    private static final BigDecimal EXTREME_RATIO_THRESHOLD = new BigDecimal("0.9");
-
-    private static final int COOLDOWN_HOURS = 12;
+    static final int EXTREME_SAMPLE_SIZE = 20;
+    /** 편차 보정 산정 시 한 트랜잭션에서 처리할 회원 수 */
+    private static final int DEVIATION_PAGE_SIZE = 1000;
+    /** 증분 실행이어도 마지막 전체 실행이 이보다 오래됐으면 전체 회원을 다시 본다 */
+    private static final Duration FULL_SWEEP_INTERVAL = Duration.ofDays(7);
+    private static final Duration INCREMENTAL_OVERLAP = Duration.ofMinutes(10);
+    static final BigDecimal EXTREME_RATIO_THRESHOLD = new BigDecimal("0.9");
+
+    static final int COOLDOWN_HOURS = 12;
+
+    /** GOURMET 유지 조건: 최근 6개월 검수 통과 리뷰 수 */
+    static final long GOURMET_MIN_RECENT_REVIEWS = 10;
+    static final List<ReviewStatus> MODERATED_STATUSES =
+            List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD, ReviewStatus.PUBLIC);
+    /** 등급 심사 청크(bulk UPDATE 1번) 회원 수(IN 절 크기 제한) */
+    private static final int TIER_PAGE_SIZE = 1000;
+    /** 시간감가/쿨다운 청크 가게 수(청크 1개 = 엔진 호출 1번 + 체크포인트 커밋 1번) */
+    private static final int STORE_PAGE_SIZE = 1000;
+
+    static final List<Function<LocalDateTime, LocalDateTime>> DECAY_BOUNDARIES = List.of(
+            t -> t.minusMonths(6),
+            t -> t.minusYears(1),
+            t -> t.minusYears(2),
+            t -> t.minusYears(3)
+    );
 
     private final ReviewRepository reviewRepository;
-    private final MemberRepository memberRepository;
     private final StoreRepository storeRepository;
-    private final MemberStoreVisitRepository memberStoreVisitRepository;
+    private final MemberRepository memberRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
 
-    private final ReviewScoreService reviewScoreService;
+    private final StoreScoreAggregateService storeScoreAggregateService;
+    private final MemberVisitCounter memberVisitCounter;
+    private final StoreScoreRecalculationEngine recalculationEngine;
+    private final StoreScoreRefreshQueue storeScoreRefreshQueue;
+    private final PolicyJobRunner jobRunner;
     private final Clock clock;
 
+    /**
+     * 만료 시각 처리는 CooldownExpiryTimer가 하고, 이 폴링은 타이머가 놓친 항목을 보정한다.
+     * 만료 리뷰가 있는 가게를 storeId 순 페이지로 읽어 StoreScoreRecalculationEngine 워커에서 병렬 처리한다
+     * (엔진 청크 1개 = 트랜잭션 1개). 페이지마다 체크포인트를 남기므로 중단되면 같은 cutoff로 다음 가게부터 이어서 처리한다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int processCooldownExpirations() {
-        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(COOLDOWN_HOURS);
-        List<Review> pending = reviewRepository.findByStatusAndCreatedAtBefore(ReviewStatus.PENDING, cutoff);
+        return jobRunner.run(JobDefinition.single(PolicyJobType.COOLDOWN,
+                        now -> new RunPlan(JobRunMode.FULL, null, now),
+                        run -> List.of(afterStoreId -> approveCooldownPage(
+                                run.getWatermarkTo().minusHours(COOLDOWN_HOURS), afterStoreId)),
+                        run -> { }))
+                .map(JobRun::getUpdatedCount)
+                .orElse(0);
+    }
 
-        int processed = 0;
-        for (Review review : pending) {
-            if (isCooldownTarget(review)) {
-                review.approve();
-                processed++;
-
-                // 쿨다운 만료로 APPROVED가 된 리뷰는, 기존 승인 흐름(블라인드 해제/공개 전환/점수 재계산)에 편입돼야 한다.
-                // - store별 5개 이상이면 APPROVED/BLIND_HELD를 PUBLIC으로 전환하고 점수 재계산
-                // - 아직 5개 미만이면 BLIND_HELD로 두고 점수는 미반영
-                handleApproveSideEffects(review.getStore());
-            }
+    private Chunk approveCooldownPage(LocalDateTime cutoff, long afterStoreId) {
+        List<Long> storeIds = reviewRepository.findStoreIdsWithCooldownExpired(cutoff, afterStoreId,
+                PageRequest.of(0, STORE_PAGE_SIZE));
+        if (storeIds.isEmpty()) {
+            return Chunk.of(storeIds, STORE_PAGE_SIZE, 0);
         }
-        return processed;
+        StoreScoreRecalculationEngine.RecalculationReport report = recalculationEngine.process(PolicyJobType.COOLDOWN,
+                storeIds, chunk -> approveGroupedByStore(
+                        reviewRepository.findByStoreIdInAndStatusAndCreatedAtLessThanEqual(chunk, ReviewStatus.PENDING, cutoff),
+                        cutoff));
+        requireSucceeded(report);
+        return Chunk.of(storeIds, STORE_PAGE_SIZE, report.processedCount());
     }
 
-    private void handleApproveSideEffects(Store store) {
-        if (store == null) {
-            return;
+    /**
+     * 엔진 청크가 재시도 끝에 실패했으면 실행을 실패시켜 체크포인트(해당 페이지 앞)부터 다시 처리하게 한다.
+     * 엔진 청크 작업은 다시 실행해도 결과가 같다.
+     */
+    private static void requireSucceeded(StoreScoreRecalculationEngine.RecalculationReport report) {
+        if (!report.succeeded()) {
+            throw new IllegalStateException("[" + report.job() + "] 가게 단위 배치 청크 실패: failedStoreIds="
+                    + report.failedStoreIds());
         }
+    }
 
-        long approvedCount = reviewRepository.countByStoreIdAndStatusIn(store.getId(),
-                List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD, ReviewStatus.PUBLIC));
+    @Override
+    @Transactional
+    public int approveCooldownExpired(Collection<Long> reviewIds) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusHours(COOLDOWN_HOURS);
+        List<Review> pending = reviewRepository.findWithStoreAndMemberByIdIn(reviewIds).stream()
+                .filter(review -> review.getStatus() == ReviewStatus.PENDING)
+                .toList();
+        return approveGroupedByStore(pending, cutoff);
+    }
 
-        if (approvedCount < 5) {
-            // 아직 블라인드 단계: APPROVED 상태 리뷰들을 BLIND_HELD로 유지(점수 미반영)
-            List<Review> toHold = reviewRepository.findByStoreIdAndStatusIn(store.getId(),
-                    List.of(ReviewStatus.APPROVED));
-            for (Review r : toHold) {
-                r.holdForBlind();
+    /**
+     * 만료된 쿨다운 대상 리뷰를 승인하고, 승인 후속 처리는 가게별로 한 번만 한다(ReviewServiceImpl 검수 승인과 같은 정책).
+     * - 승인 후 검수 통과(APPROVED/BLIND_HELD/PUBLIC) 리뷰가 5개 미만인 가게: PENDING → BLIND_HELD (점수 미반영)
+     * - 5개 이상인 가게: 승인 리뷰와 APPROVED/BLIND_HELD를 PUBLIC으로 전환하고 점수 갱신 예약
+     * 상태 전환은 status 조건부 UPDATE로 하므로, 타이머/폴링이 같은 리뷰를 동시에 승인해도 실제로 바꾼 쪽만 후속 처리를 한다.
+     * 리뷰 수 조회/상태 전환은 가게 목록 단위 쿼리 한 번씩이다.
+     * @return 승인한 리뷰 수
+     */
+    private int approveGroupedByStore(List<Review> pending, LocalDateTime cutoff) {
+        Map<Long, List<Long>> approvalsByStore = new LinkedHashMap<>();
+        for (Review review : pending) {
+            if (isCooldownTarget(review) && review.getCreatedAt() != null && !review.getCreatedAt().isAfter(cutoff)) {
+                approvalsByStore.computeIfAbsent(review.getStore().getId(), id -> new ArrayList<>()).add(review.getId());
             }
-            return;
+        }
+        if (approvalsByStore.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Long> moderatedCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countByStoreIdInAndStatusInGroupByStoreId(approvalsByStore.keySet(),
+                MODERATED_STATUSES)) {
+            moderatedCounts.put((Long) row[0], (Long) row[1]);
         }
 
-        // 5개 이상: APPROVED/BLIND_HELD를 PUBLIC으로 전환(방문횟수 반영은 ReviewServiceImpl approve와 동일 정책)
-        List<Review> publishTargets = reviewRepository.findByStoreIdAndStatusIn(store.getId(),
-                List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD));
-        for (Review target : publishTargets) {
-            if (target.publish()) {
-                applyVisitCount(target);
+        Set<Long> publishing = new LinkedHashSet<>();
+        Set<Long> publishingApprovals = new HashSet<>();
+        List<Long> held = new ArrayList<>();
+        approvalsByStore.forEach((storeId, reviewIds) -> {
+            if (moderatedCounts.getOrDefault(storeId, 0L) + reviewIds.size() < 5) {
+                held.addAll(reviewIds);
+            } else {
+                publishing.add(storeId);
+                publishingApprovals.addAll(reviewIds);
             }
+        });
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int approved = held.isEmpty() ? 0 : reviewRepository.holdPendingForBlind(held, now);
+        if (!publishing.isEmpty()) {
+            List<Long> publishedIds = reviewRepository.publishModerated(publishing, publishingApprovals, now);
+            approved += (int) publishedIds.stream().filter(publishingApprovals::contains).count();
+            applyPublished(publishedIds);
         }
-        reviewScoreService.recalculateStoreScores(store);
+        return approved;
     }
 
-    private void applyVisitCount(Review review) {
-        if (review == null || review.getMember() == null || review.getStore() == null) {
+    /**
+     * 방금 PUBLIC으로 전환한 리뷰의 점수 기여분/방문 횟수를 반영하고 가게 점수 갱신을 예약한다(가게당 1회).
+     */
+    private void applyPublished(List<Long> publishedIds) {
+        if (publishedIds.isEmpty()) {
             return;
         }
-        MemberStoreVisit visit = memberStoreVisitRepository
-                .findByMemberIdAndStoreId(review.getMember().getId(), review.getStore().getId())
-                .orElseGet(() -> memberStoreVisitRepository.save(MemberStoreVisit.builder()
-                        .member(review.getMember())
-                        .store(review.getStore())
-                        .build()));
-        int visitCount = visit.incrementVisitCount();
-        review.updateVisitCount(visitCount);
+        List<Review> published = reviewRepository.findWithStoreAndMemberByIdIn(publishedIds);
+        Set<Long> storeIds = new LinkedHashSet<>();
+        for (Review review : published) {
+            storeScoreAggregateService.add(ScoreContribution.from(review));
+            storeIds.add(review.getStore().getId());
+        }
+        memberVisitCounter.apply(published);
+        storeIds.forEach(storeScoreRefreshQueue::markDirty);
     }
 
-    private boolean isCooldownTarget(Review review) {
+    /**
+     * 쿨다운 대상: BRONZE/SILVER 회원의 1.0 또는 5.0점 리뷰 (CooldownExpiryTimer 예약 조건과 같다)
+     */
+    static boolean isCooldownTarget(Review review) {
         Member member = review.getMember();
         if (member == null) {
             return false;
@@ -118,110 +223,218 @@ public class ReviewPolicyJobServiceImpl implements ReviewPolicyJobService {
         return score.compareTo(EXTREME_MIN) == 0 || score.compareTo(EXTREME_MAX) == 0;
     }
 
+    /**
+     * 편차 보정 대상 산정.
+     * - 증분: 지난 성공 실행(DEVIATION 워터마크) 이후 리뷰가 바뀐 회원만 다시 본다.
+     * - 전체: 워터마크가 없거나 마지막 전체 실행이 FULL_SWEEP_INTERVAL 보다 오래됐으면 전체 회원을 본다
+     *   (리뷰 하드 삭제처럼 updated_at 에 남지 않는 변경의 안전망).
+     * - 회원 id 순 keyset 페이지마다 윈도 쿼리 1번으로 극단 점수 비율을 받아, 보정 여부가 바뀌는 회원만 갱신한다.
+     * - PolicyJobRunner 로 실행한다: 페이지마다 체크포인트를 커밋하고, 중단되면 같은 구간으로 이어서 실행한다.
+     *   성공해야 워터마크를 옮긴다. 분할 실행이 켜져 있으면 memberId 해시로 노드 간에 나눠 처리한다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public int refreshDeviationTargets() {
-        List<Member> members = memberRepository.findAll();
-        int updated = 0;
-
-        for (Member member : members) {
-            List<Review> recent = reviewRepository.findTop20ByMemberIdAndStatusOrderByCreatedAtDesc(member.getId(), ReviewStatus.PUBLIC);
-            boolean changed = false;
-
-            if (recent.size() < EXTREME_SAMPLE_SIZE) {
-                if (Boolean.TRUE.equals(member.getIsDeviationTarget())) {
-                    member.markAsDeviationTarget(false);
-                    updated++;
-                    changed = true;
-                }
-                if (changed) {
-                    triggerRecalculationForMemberStores(member.getId());
-                }
-                continue;
-            }
+        return jobRunner.run(JobDefinition.sharded(PolicyJobType.DEVIATION,
+                        this::planDeviation,
+                        (run, shard) -> List.of(afterMemberId ->
+                                refreshDeviationTargetPage(run.getWatermarkFrom(), shard, afterMemberId)),
+                        run -> advanceWatermark(PolicyJobType.DEVIATION, run.getWatermarkTo())))
+                .map(JobRun::getUpdatedCount)
+                .orElse(0);
+    }
 
-            int extremeCount = 0;
-            for (Review r : recent) {
-                BigDecimal score = r.getScoreCalculated();
-                if (score == null) {
-                    continue;
-                }
-                if (score.compareTo(EXTREME_MIN) == 0 || score.compareTo(EXTREME_MAX) == 0) {
-                    extremeCount++;
-                }
-            }
+    private RunPlan planDeviation(LocalDateTime startedAt) {
+        LocalDateTime watermarkAt = jobWatermarkRepository.findById(PolicyJobType.DEVIATION)
+                .map(JobWatermark::getWatermarkAt)
+                .orElse(null);
+        boolean fullSweepDue = jobRunner.findLastSucceeded(PolicyJobType.DEVIATION, JobRunMode.FULL)
+                .map(run -> !run.getStartedAt().isAfter(startedAt.minus(FULL_SWEEP_INTERVAL)))
+                .orElse(true);
+        // 실행 시작 시점에 커밋 전이던 변경도 다음 실행에서 보도록 구간을 조금 겹친다(재처리해도 결과는 같다).
+        LocalDateTime since = watermarkAt == null || fullSweepDue ? null : watermarkAt.minus(INCREMENTAL_OVERLAP);
+        return new RunPlan(since == null ? JobRunMode.FULL : JobRunMode.INCREMENTAL, since, startedAt);
+    }
 
-            BigDecimal ratio = new BigDecimal(extremeCount)
-                    .divide(new BigDecimal(EXTREME_SAMPLE_SIZE), 4, java.math.RoundingMode.HALF_UP);
-            boolean isTarget = ratio.compareTo(EXTREME_RATIO_THRESHOLD) >= 0;
+    /**
+     * @param since NULL이면 전체 회원, 아니면 since 이후 리뷰가 바뀐 회원만
+     */
+    private Chunk refreshDeviationTargetPage(LocalDateTime since, Shard shard, long afterMemberId) {
+        PageRequest page = PageRequest.of(0, DEVIATION_PAGE_SIZE);
+        List<Long> memberIds = since == null
+                ? memberRepository.findIdsAfter(afterMemberId, shard.count(), shard.index(), page)
+                : reviewRepository.findMemberIdsWithReviewsUpdatedAfter(since, afterMemberId,
+                        shard.count(), shard.index(), page);
+        if (memberIds.isEmpty()) {
+            return Chunk.of(memberIds, DEVIATION_PAGE_SIZE, 0);
+        }
 
-            if (!Boolean.valueOf(isTarget).equals(member.getIsDeviationTarget())) {
-                member.markAsDeviationTarget(isTarget);
-                updated++;
-                changed = true;
-            }
+        Map<Long, Boolean> flips = deviationFlips(
+                reviewRepository.findExtremeScoreRatiosByMemberIds(memberIds, EXTREME_SAMPLE_SIZE));
+        for (Member member : memberRepository.findAllById(flips.keySet())) {
+            boolean isTarget = flips.get(member.getId());
+            member.markAsDeviationTarget(isTarget);
+            moveMemberContributions(member.getId(), member.getTier(), !isTarget, member.getTier(), isTarget);
+        }
+        return Chunk.of(memberIds, DEVIATION_PAGE_SIZE, flips.size());
+    }
 
-            if (changed) {
-                triggerRecalculationForMemberStores(member.getId());
+    /**
+     * @param ratioRows ReviewRepository.findExtremeScoreRatiosByMemberIds 결과
+     * @return 보정 여부가 바뀌는 회원 → 새 보정 여부 (회원 id 순)
+     */
+    static Map<Long, Boolean> deviationFlips(List<Object[]> ratioRows) {
+        Map<Long, Boolean> flips = new LinkedHashMap<>();
+        for (Object[] row : ratioRows) {
+            // 표본이 20건 미만이면 비율이 NULL → 보정 해제
+            BigDecimal ratio = (BigDecimal) row[3];
+            boolean isTarget = ratio != null && ratio.compareTo(EXTREME_RATIO_THRESHOLD) >= 0;
+            if (isTarget != Boolean.TRUE.equals(row[1])) {
+                flips.put(((Number) row[0]).longValue(), isTarget);
             }
         }
+        return flips;
+    }
 
-        return updated;
+    private void advanceWatermark(PolicyJobType job, LocalDateTime watermarkAt) {
+        jobWatermarkRepository.findById(job).ifPresentOrElse(
+                watermark -> watermark.advanceTo(watermarkAt),
+                () -> jobWatermarkRepository.save(JobWatermark.builder()
+                        .jobName(job)
+                        .watermarkAt(watermarkAt)
+                        .build()));
     }
 
-    private void triggerRecalculationForMemberStores(Long memberId) {
-        if (memberId == null) {
-            return;
+    /**
+     * 회원의 PUBLIC 리뷰 기여분을 (이전 등급, 이전 보정 여부) → (새 등급, 새 보정 여부)로 옮기고 영향받은 store 점수 갱신을 예약한다.
+     * - 리뷰 엔티티를 읽지 않고 (storeId, 작성일, 점수)만 조회하므로 비용은 해당 회원의 리뷰 수에 비례한다.
+     */
+    private void moveMemberContributions(Long memberId,
+                                         MemberTier beforeTier, boolean beforeDeviationTarget,
+                                         MemberTier afterTier, boolean afterDeviationTarget) {
+        List<ScoreContribution> before = new ArrayList<>();
+        List<ScoreContribution> after = new ArrayList<>();
+        Set<Long> storeIds = new LinkedHashSet<>();
+        for (Object[] row : reviewRepository.findScoreRowsByMemberIdAndStatus(memberId, ReviewStatus.PUBLIC)) {
+            ScoreContribution contribution = new ScoreContribution((Long) row[0], beforeTier, beforeDeviationTarget,
+                    (LocalDateTime) row[1], (BigDecimal) row[2],
+                    (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6]);
+            before.add(contribution);
+            after.add(contribution.withTier(afterTier).withDeviationTarget(afterDeviationTarget));
+            storeIds.add(contribution.storeId());
         }
-        List<Long> storeIds = reviewRepository.findDistinctStoreIdsByMemberIdAndStatus(memberId, ReviewStatus.PUBLIC);
-        reviewScoreService.recalculateStoreScoresByStoreIds(storeIds);
+        storeScoreAggregateService.replaceAll(before, after);
+        storeIds.forEach(storeScoreRefreshQueue::markDirty);
     }
 
+    /**
+     * 문서 10.4: 감가 가중치는 6개월/1년/2년/3년 경계에서만 바뀐다.
+     * 지난 실행(from) 이후 경계를 넘은 PUBLIC 리뷰 = 작성일이 (from - 경계, to - 경계] 구간인 리뷰이고, 경계마다 단계 1개로 처리한다.
+     * 워터마크는 실행을 시작할 때(실행 이력과 같은 트랜잭션) 옮긴다. 재구축되는 집계 셀이 새 기준 시각으로 나뉘어야 하기 때문이다.
+     * 중단된 실행은 같은 구간으로 체크포인트부터 이어서 재계산한다.
+     * 분할 실행이 켜져 있으면 storeId 해시로 노드 간에 나눠 재계산한다(워터마크는 실행을 시작한 노드가 한 번만 옮긴다).
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public int recalculateStoresForTimeDecay() {
-        // 단순 구현(정확): PUBLIC 리뷰가 하나라도 있는 스토어는 전부 재계산
-        // 최적화는 추후(createdAt 구간 바뀐 리뷰가 있는 스토어만) 가능
-        List<Long> storeIds = reviewRepository.findDistinctStoreIdsByStatusAndStoreIdIn(
-                ReviewStatus.PUBLIC,
-                storeRepository.findAll().stream().map(Store::getId).toList()
-        );
-
-        reviewScoreService.recalculateStoreScoresByStoreIds(storeIds);
-        return storeIds.size();
+        return jobRunner.run(JobDefinition.sharded(PolicyJobType.TIME_DECAY,
+                        this::planTimeDecay,
+                        this::timeDecayPhases,
+                        run -> { }))
+                .map(JobRun::getScannedCount)
+                .orElse(0);
     }
 
-    @Override
-    @Transactional
-    public int runTierEvaluation() {
-        // 문서 기반 승급/강등 규칙이 상세하지만, 현재 엔티티/필드 스키마로는
-        // "검수 통과 리뷰 수" 같은 조건을 정확히 계산하기 어렵다.
-        // 따라서 본 구현은 최소한의 '활동성 기반 강등'만 반영한다.
-        // - GOLD: lastReviewAt 1년 이상이면 SILVER로 강등
-        // - GOURMET: 최근 6개월 내 리뷰 10개 미만이면 GOLD로 강등 -> 현재는 최근 6개월 리뷰 카운트 쿼리가 없어 TODO
+    private RunPlan planTimeDecay(LocalDateTime now) {
+        JobWatermark watermark = jobWatermarkRepository.findById(PolicyJobType.TIME_DECAY).orElse(null);
+        if (watermark == null) {
+            // 최초 실행(워터마크 없음): PUBLIC 리뷰가 하나라도 있는 스토어는 전부 집계 재구축 후 재계산
+            jobWatermarkRepository.save(JobWatermark.builder()
+                    .jobName(PolicyJobType.TIME_DECAY)
+                    .watermarkAt(now)
+                    .build());
+            return new RunPlan(JobRunMode.FULL, null, now);
+        }
+        LocalDateTime from = watermark.getWatermarkAt();
+        if (!now.isAfter(from)) {
+            return new RunPlan(JobRunMode.INCREMENTAL, from, from);
+        }
+        watermark.advanceTo(now);
+        return new RunPlan(JobRunMode.INCREMENTAL, from, now);
+    }
 
-        List<Member> members = memberRepository.findAll();
-        int changed = 0;
-        LocalDateTime now = LocalDateTime.now(clock);
+    private List<Phase> timeDecayPhases(JobRun run, Shard shard) {
+        if (run.getRunMode() == JobRunMode.FULL) {
+            return List.of(afterStoreId -> recalculateDecayPage(storeRepository.findIdsWithReviewStatusAfter(
+                    ReviewStatus.PUBLIC, afterStoreId, shard.count(), shard.index(), PageRequest.of(0, STORE_PAGE_SIZE))));
+        }
+        // 경계를 넘은 리뷰가 없는 스토어는 새 기준 시각에서도 셀 구성이 같으므로 재계산하지 않는다.
+        List<Phase> phases = new ArrayList<>();
+        for (Function<LocalDateTime, LocalDateTime> boundary : DECAY_BOUNDARIES) {
+            LocalDateTime from = boundary.apply(run.getWatermarkFrom());
+            LocalDateTime to = boundary.apply(run.getWatermarkTo());
+            phases.add(afterStoreId -> recalculateDecayPage(reviewRepository.findDistinctStoreIdsByStatusAndCreatedAtRange(
+                    ReviewStatus.PUBLIC, from, to, afterStoreId, shard.count(), shard.index(),
+                    PageRequest.of(0, STORE_PAGE_SIZE))));
+        }
+        return phases;
+    }
 
-        for (Member member : members) {
-            MemberTier oldTier = member.getTier();
-            MemberTier newTier = oldTier;
+    private Chunk recalculateDecayPage(List<Long> storeIds) {
+        if (!storeIds.isEmpty()) {
+            requireSucceeded(recalculationEngine.recalculate(PolicyJobType.TIME_DECAY, storeIds));
+        }
+        return Chunk.of(storeIds, STORE_PAGE_SIZE, storeIds.size());
+    }
 
-            if (oldTier == MemberTier.GOLD) {
-                if (member.getLastReviewAt() != null && member.getLastReviewAt().isBefore(now.minusYears(1))) {
-                    newTier = MemberTier.SILVER;
-                }
-            }
+    /**
+     * 등급 강등 심사(집합 단위).
+     * - GOLD: 마지막 리뷰가 1년 이상 전이면 SILVER
+     * - GOURMET: 최근 6개월 검수 통과 리뷰(APPROVED/BLIND_HELD/PUBLIC)가 10개 미만이면 GOLD
+     * 대상은 인덱스 조회로 id만 고르고, 회원 id 순 청크마다 bulk UPDATE ... RETURNING 후 실제로 바뀐 회원의 기여분만 집계에서 옮긴다.
+     * GOLD 심사를 먼저(단계 0) 해서 같은 실행에서 GOURMET → GOLD → SILVER로 두 단계 내려가지 않게 한다.
+     * 심사 기준 시각은 실행 구간의 watermarkTo 이며, 중단된 실행은 같은 기준 시각으로 체크포인트부터 이어서 심사한다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int runTierEvaluation() {
+        return jobRunner.run(JobDefinition.single(PolicyJobType.TIER_EVALUATION,
+                now -> new RunPlan(JobRunMode.FULL, null, now),
+                run -> {
+                    LocalDateTime now = run.getWatermarkTo();
+                    return List.<Phase>of(
+                            afterMemberId -> applyTierTransition(MemberTier.GOLD, MemberTier.SILVER,
+                                    memberRepository.findTierCandidatesIdleSince(MemberTier.GOLD, now.minusYears(1),
+                                            afterMemberId, PageRequest.of(0, TIER_PAGE_SIZE)), now),
+                            afterMemberId -> applyTierTransition(MemberTier.GOURMET, MemberTier.GOLD,
+                                    memberRepository.findTierCandidatesWithFewReviewsSince(MemberTier.GOURMET,
+                                            MODERATED_STATUSES, now.minusMonths(6), GOURMET_MIN_RECENT_REVIEWS,
+                                            afterMemberId, PageRequest.of(0, TIER_PAGE_SIZE)), now));
+                },
+                run -> { }))
+                .map(JobRun::getUpdatedCount)
+                .orElse(0);
+    }
 
-            if (newTier != oldTier) {
-                member.forceUpdateTier(newTier);
-                handleMemberTierChanged(member.getId(), oldTier, newTier);
-                changed++;
-            }
+    /**
+     * @param candidates [memberId, is_deviation_target] (회원 id 순 한 페이지)
+     */
+    private Chunk applyTierTransition(MemberTier fromTier, MemberTier toTier, List<Object[]> candidates, LocalDateTime now) {
+        List<Long> memberIds = candidates.stream().map(row -> (Long) row[0]).toList();
+        if (memberIds.isEmpty()) {
+            return Chunk.of(memberIds, TIER_PAGE_SIZE, 0);
         }
-
-        return changed;
+        // 조회 이후 다른 경로로 등급이 바뀐 회원은 UPDATE 되지 않으므로, 실제로 바뀐 회원의 기여분만 옮긴다.
+        List<Object[]> updated = memberRepository.updateTierReturning(memberIds, fromTier, toTier, now);
+        if (updated.size() != memberIds.size()) {
+            log.warn("[{}] {} → {} 대상 {}명 중 {}명만 변경됨(심사 중 등급 변경)",
+                    PolicyJobType.TIER_EVALUATION, fromTier, toTier, memberIds.size(), updated.size());
+        }
+        for (Object[] row : updated) {
+            boolean deviationTarget = Boolean.TRUE.equals(row[1]);
+            moveMemberContributions((Long) row[0], fromTier, deviationTarget, toTier, deviationTarget);
+        }
+        return Chunk.of(memberIds, TIER_PAGE_SIZE, updated.size());
     }
 
     @Override
@@ -230,19 +443,77 @@ public class ReviewPolicyJobServiceImpl implements ReviewPolicyJobService {
         if (memberId == null || oldTier == null || newTier == null || oldTier == newTier) {
             return;
         }
+        memberRepository.findById(memberId).ifPresent(member -> applyTierChange(member, oldTier, newTier));
+    }
 
-        // BLACK 전환: 해당 회원의 PUBLIC 리뷰를 SUSPENDED로 전환
-        if (newTier == MemberTier.BLACK) {
-            List<Review> publicReviews = reviewRepository.findByMemberId(memberId, org.springframework.data.domain.Pageable.unpaged()).getContent();
-            for (Review r : publicReviews) {
-                if (r.getStatus() == ReviewStatus.PUBLIC) {
-                    r.suspend("BLACK 등급 전환으로 인한 일시정지");
+    @Override
+    @Transactional
+    public int recalculateTiers(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return 0;
+        }
+        Map<List<MemberTier>, List<Long>> transitions = new LinkedHashMap<>();
+        for (Object[] row : memberRepository.findTierCountsByIdIn(memberIds)) {
+            MemberTier tier = (MemberTier) row[1];
+            if (tier == MemberTier.BLACK) {
+                continue;
+            }
+            MemberTier newTier = MemberTier.calculateTier((Integer) row[2], (Integer) row[3]);
+            if (newTier != tier) {
+                transitions.computeIfAbsent(List.of(tier, newTier), key -> new ArrayList<>()).add((Long) row[0]);
+            }
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        int changed = 0;
+        for (Map.Entry<List<MemberTier>, List<Long>> transition : transitions.entrySet()) {
+            MemberTier fromTier = transition.getKey().get(0);
+            MemberTier toTier = transition.getKey().get(1);
+            for (Long memberId : transition.getValue()) {
+                // 동시에 같은 회원을 재계산했으면 먼저 바꾼 쪽만 기여분을 옮긴다(fromTier 조건)
+                if (memberRepository.updateTier(List.of(memberId), fromTier, toTier, now) == 1) {
+                    handleMemberTierChanged(memberId, fromTier, toTier);
+                    changed++;
                 }
             }
         }
+        return changed;
+    }
+
+    /**
+     * 등급 변경의 리뷰/집계 반영(소급).
+     * - BLACK 전환: PUBLIC 리뷰를 UPDATE 한 번으로 SUSPENDED로 전환하고(리뷰 엔티티 로딩 없음),
+     *   돌려받은 기여분을 이전 등급 셀에서 빼고 영향받은 가게만 점수 갱신을 예약한다.
+     *   (영속성 컨텍스트가 비워지므로 호출부는 이후 엔티티를 다시 조회해야 한다)
+     * - 그 외: PUBLIC 리뷰 기여분을 이전 등급 셀에서 새 등급 셀로 이동
+     */
+    private void applyTierChange(Member member, MemberTier oldTier, MemberTier newTier) {
+        boolean deviationTarget = Boolean.TRUE.equals(member.getIsDeviationTarget());
+        if (newTier != MemberTier.BLACK) {
+            moveMemberContributions(member.getId(), oldTier, deviationTarget, newTier, deviationTarget);
+            return;
+        }
 
-        // 소급 재계산: 해당 회원이 PUBLIC 리뷰를 남긴 store 재계산
-        List<Long> storeIds = reviewRepository.findDistinctStoreIdsByMemberIdAndStatus(memberId, ReviewStatus.PUBLIC);
-        reviewScoreService.recalculateStoreScoresByStoreIds(storeIds);
+        List<ScoreContribution> suspended = new ArrayList<>();
+        Set<Long> storeIds = new LinkedHashSet<>();
+        for (Object[] row : reviewRepository.suspendPublicReviewsByMemberId(member.getId(),
+                "BLACK 등급 전환으로 인한 일시정지", LocalDateTime.now(clock))) {
+            ScoreContribution contribution = new ScoreContribution((Long) row[0], oldTier, deviationTarget,
+                    (LocalDateTime) row[1], (BigDecimal) row[2],
+                    (BigDecimal) row[3], (BigDecimal) row[4], (BigDecimal) row[5], (BigDecimal) row[6]);
+            suspended.add(contribution);
+            storeIds.add(contribution.storeId());
+        }
+        storeScoreAggregateService.replaceAll(suspended, List.of());
+        storeIds.forEach(storeScoreRefreshQueue::markDirty);
+    }
+
+    @Override
+    public List<JobRunResponse> findRecentRuns(PolicyJobType job, int limit) {
+        Map<Long, List<JobCheckpoint>> checkpointsByRun = new HashMap<>();
+        jobRunner.findCheckpoints().forEach(checkpoint ->
+                checkpointsByRun.computeIfAbsent(checkpoint.getRunId(), id -> new ArrayList<>()).add(checkpoint));
+        return jobRunner.findRecentRuns(job, Math.max(1, Math.min(limit, 100))).stream()
+                .map(run -> JobRunResponse.from(run, checkpointsByRun.getOrDefault(run.getId(), List.of())))
+                .toList();
     }
 }
@@ -1,6 +1,7 @@
 package com.gourmet.review.review.service;
 
 import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
 import java.util.Collection;
 
 /**
@@ -8,11 +9,24 @@ import java.util.Collection;
  * ReviewServiceImpl에 있던 계산 로직을 배치/정책에서도 재사용하기 위해 분리.
  */
 public interface ReviewScoreService {
+
+    /**
+     * 가게 점수 집계(StoreScoreBucket)로부터 점수/카운트를 갱신한다.
+     * - 리뷰 변화는 호출 전에 StoreScoreAggregateService로 delta 반영돼 있어야 한다.
+     */
     void recalculateStoreScores(Store store);
 
     /**
      * 여러 스토어 점수/카운트를 한 번에 재계산한다.
      * - storeIds는 중복/NULL이 섞여도 되며, 내부에서 정리 후 처리한다.
+     * - 집계를 PUBLIC 리뷰 전체 기준으로 재구축(full rebuild)한 뒤 점수를 갱신한다.
+     * - 점수가 바뀐 가게는 reason과 함께 점수 이력에 남는다.
+     */
+    void recalculateStoreScoresByStoreIds(Collection<Long> storeIds, ScoreChangeReason reason);
+
+    /**
+     * 여러 스토어의 점수/카운트를 집계 셀 기준으로 갱신한다(재구축 없음).
+     * - StoreScoreRefreshQueue가 커밋된 delta를 모아 한 번에 반영할 때 사용한다.
      */
-    void recalculateStoreScoresByStoreIds(Collection<Long> storeIds);
+    void refreshStoreScores(Collection<Long> storeIds);
 }
@@ -1,19 +1,18 @@
 package com.gourmet.review.review.service;
 
-import com.gourmet.review.domain.entity.Member;
-import com.gourmet.review.domain.entity.Review;
 import com.gourmet.review.domain.entity.Store;
-import com.gourmet.review.domain.enums.MemberTier;
-import com.gourmet.review.domain.enums.ReviewStatus;
-import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.review.service.StoreScoreHistoryService.ScorePoint;
+import com.gourmet.review.review.service.StoreScoreCalculator.DimensionScores;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
 import com.gourmet.review.store.repository.StoreRepository;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Clock;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,40 +23,29 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ReviewScoreServiceImpl implements ReviewScoreService {
 
-    private static final BigDecimal BASELINE_SCORE = new BigDecimal("3.0");
-    private static final BigDecimal MIN_REVIEW_WEIGHT = new BigDecimal("30.0");
-    private static final BigDecimal DEVIATION_ADJUSTMENT = new BigDecimal("0.5");
-    private static final BigDecimal MIN_SCORE = new BigDecimal("1.0");
-    private static final BigDecimal MAX_SCORE = new BigDecimal("5.0");
+    // NOTE: 점수 계산식(베이지안 평균/가중치/감가상각/편차 보정)은 StoreScoreCalculator에 있다.
 
-    private static final BigDecimal WEIGHT_BRONZE = new BigDecimal("0.5");
-    private static final BigDecimal WEIGHT_SILVER = new BigDecimal("1.0");
-    private static final BigDecimal WEIGHT_GOLD = new BigDecimal("1.5");
-    private static final BigDecimal WEIGHT_GOURMET = new BigDecimal("2.0");
-    private static final BigDecimal WEIGHT_BLACK = new BigDecimal("0.0");
+    /** IN 절 파라미터 수/영속성 컨텍스트 크기를 제한하기 위한 청크 크기 */
+    private static final int RECALCULATION_CHUNK_SIZE = 300;
 
-    private static final BigDecimal DECAY_RECENT = new BigDecimal("1.0");
-    private static final BigDecimal DECAY_6_TO_12 = new BigDecimal("0.8");
-    private static final BigDecimal DECAY_1_TO_2Y = new BigDecimal("0.5");
-    private static final BigDecimal DECAY_2_TO_3Y = new BigDecimal("0.2");
-    private static final BigDecimal DECAY_3Y_PLUS = new BigDecimal("0.1");
+    private static final StoreScoreResult EMPTY_RESULT = StoreScoreCalculator.calculate(List.of());
 
-    private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
-    private final Clock clock;
+    private final StoreScoreAggregateService storeScoreAggregateService;
+    private final ShadowScoringService shadowScoringService;
+    private final StoreScoreHistoryService storeScoreHistoryService;
 
     @Override
     @Transactional
     public void recalculateStoreScores(Store store) {
-        List<Review> publicReviews = reviewRepository.findByStoreIdAndStatus(store.getId(), ReviewStatus.PUBLIC);
-        store.updateReviewCountValid(publicReviews.size());
-        store.updateAvgRating(calculateAverageScore(publicReviews));
-        store.updateScoreWeighted(calculateWeightedScore(publicReviews));
+        List<ScorePoint> changed = new ArrayList<>(1);
+        apply(store, storeScoreAggregateService.summarize(store.getId()), ScoreChangeReason.SCORE_REFRESH, changed);
+        storeScoreHistoryService.append(changed);
     }
 
     @Override
     @Transactional
-    public void recalculateStoreScoresByStoreIds(Collection<Long> storeIds) {
+    public void recalculateStoreScoresByStoreIds(Collection<Long> storeIds, ScoreChangeReason reason) {
         if (storeIds == null || storeIds.isEmpty()) {
             return;
         }
@@ -70,96 +58,66 @@ public class ReviewScoreServiceImpl implements ReviewScoreService {
         if (unique.isEmpty()) {
             return;
         }
-        for (Long storeId : unique) {
-            Store store = storeRepository.findById(storeId).orElse(null);
-            if (store == null) {
-                continue;
-            }
-            recalculateStoreScores(store);
+        List<Long> ids = new ArrayList<>(unique);
+        for (int from = 0; from < ids.size(); from += RECALCULATION_CHUNK_SIZE) {
+            recalculateChunk(ids.subList(from, Math.min(from + RECALCULATION_CHUNK_SIZE, ids.size())), reason);
         }
     }
 
-    private BigDecimal calculateAverageScore(List<Review> reviews) {
-        if (reviews.isEmpty()) {
-            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
-        }
-        BigDecimal sum = BigDecimal.ZERO;
-        for (Review review : reviews) {
-            sum = sum.add(review.getScoreCalculated());
+    @Override
+    @Transactional
+    public void refreshStoreScores(Collection<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return;
         }
-        return sum.divide(BigDecimal.valueOf(reviews.size()), 2, RoundingMode.HALF_UP);
-    }
-
-    private BigDecimal calculateWeightedScore(List<Review> reviews) {
-        BigDecimal weightedSum = BigDecimal.ZERO;
-        BigDecimal totalWeight = BigDecimal.ZERO;
-
-        for (Review review : reviews) {
-            Member member = review.getMember();
-            BigDecimal score = applyDeviationAdjustment(review.getScoreCalculated(), member);
-            BigDecimal weight = getTierWeight(member.getTier()).multiply(getTimeDecay(review.getCreatedAt()));
-            weightedSum = weightedSum.add(score.multiply(weight));
-            totalWeight = totalWeight.add(weight);
+        List<Store> stores = storeRepository.findAllById(storeIds);
+        Map<Long, StoreScoreResult> results = storeScoreAggregateService.summarize(
+                stores.stream().map(Store::getId).toList());
+        List<ScorePoint> changed = new ArrayList<>();
+        for (Store store : stores) {
+            apply(store, results.getOrDefault(store.getId(), EMPTY_RESULT), ScoreChangeReason.SCORE_REFRESH, changed);
         }
-
-        BigDecimal average = totalWeight.compareTo(BigDecimal.ZERO) == 0
-                ? BASELINE_SCORE
-                : weightedSum.divide(totalWeight, 4, RoundingMode.HALF_UP);
-
-        BigDecimal finalScore = average.multiply(totalWeight)
-                .add(BASELINE_SCORE.multiply(MIN_REVIEW_WEIGHT))
-                .divide(totalWeight.add(MIN_REVIEW_WEIGHT), 4, RoundingMode.HALF_UP);
-
-        return finalScore.setScale(2, RoundingMode.HALF_UP);
+        storeScoreHistoryService.append(changed);
     }
 
-    private BigDecimal applyDeviationAdjustment(BigDecimal score, Member member) {
-        if (member == null || !Boolean.TRUE.equals(member.getIsDeviationTarget())) {
-            return score;
-        }
-        int compare = score.compareTo(BASELINE_SCORE);
-        BigDecimal adjusted = score;
-        if (compare > 0) {
-            adjusted = score.subtract(DEVIATION_ADJUSTMENT);
-        } else if (compare < 0) {
-            adjusted = score.add(DEVIATION_ADJUSTMENT);
-        }
-        if (adjusted.compareTo(MIN_SCORE) < 0) {
-            return MIN_SCORE;
+    /**
+     * 청크 단위 재계산: 셀 재구축 1회(DB 집계 쿼리)로 처리하고, 점수는 재구축한 셀로 계산한다(리뷰 순회 1회).
+     * 섀도 스코어링이 켜져 있으면 집계 쿼리 대신 리뷰를 한 번 읽어 셀 재구축과 후보 정책 점수 계산을 함께 한다.
+     */
+    private void recalculateChunk(List<Long> storeIds, ScoreChangeReason reason) {
+        List<Store> stores = storeRepository.findAllById(storeIds);
+        if (stores.isEmpty()) {
+            return;
         }
-        if (adjusted.compareTo(MAX_SCORE) > 0) {
-            return MAX_SCORE;
+        List<Long> existingIds = stores.stream().map(Store::getId).toList();
+        Map<Long, StoreScoreResult> results = shadowScoringService.isEnabled()
+                ? shadowScoringService.scoreWithCandidates(existingIds)
+                : storeScoreAggregateService.rebuild(existingIds);
+        List<ScorePoint> changed = new ArrayList<>();
+        for (Store store : stores) {
+            apply(store, results.getOrDefault(store.getId(), EMPTY_RESULT), reason, changed);
         }
-        return adjusted;
+        storeScoreHistoryService.append(changed);
     }
 
-    private BigDecimal getTierWeight(MemberTier tier) {
-        return switch (tier) {
-            case BRONZE -> WEIGHT_BRONZE;
-            case SILVER -> WEIGHT_SILVER;
-            case GOLD -> WEIGHT_GOLD;
-            case GOURMET -> WEIGHT_GOURMET;
-            case BLACK -> WEIGHT_BLACK;
-        };
+    /**
+     * 점수를 반영하고, 대표 점수(가중 점수/평균/유효 리뷰 수)가 바뀐 가게만 이력 대상으로 모은다.
+     */
+    private void apply(Store store, StoreScoreResult result, ScoreChangeReason reason, List<ScorePoint> changed) {
+        if (!sameScore(store.getScoreWeighted(), result.scoreWeighted())
+                || !sameScore(store.getAvgRating(), result.avgRating())
+                || !Objects.equals(store.getReviewCountValid(), result.reviewCount())) {
+            changed.add(new ScorePoint(store.getId(), result.scoreWeighted(), result.avgRating(),
+                    result.reviewCount(), reason));
+        }
+        store.updateReviewCountValid(result.reviewCount());
+        store.updateAvgRating(result.avgRating());
+        store.updateScoreWeighted(result.scoreWeighted());
+        DimensionScores dimensions = result.dimensions();
+        store.updateDimensionScores(dimensions.taste(), dimensions.value(), dimensions.ambiance(), dimensions.service());
     }
 
-    private BigDecimal getTimeDecay(LocalDateTime createdAt) {
-        if (createdAt == null) {
-            return DECAY_RECENT;
-        }
-        LocalDateTime now = LocalDateTime.now(clock);
-        if (createdAt.isAfter(now.minusMonths(6))) {
-            return DECAY_RECENT;
-        }
-        if (createdAt.isAfter(now.minusYears(1))) {
-            return DECAY_6_TO_12;
-        }
-        if (createdAt.isAfter(now.minusYears(2))) {
-            return DECAY_1_TO_2Y;
-        }
-        if (createdAt.isAfter(now.minusYears(3))) {
-            return DECAY_2_TO_3Y;
-        }
-        return DECAY_3Y_PLUS;
+    private static boolean sameScore(BigDecimal current, BigDecimal next) {
+        return current == null ? next == null : next != null && current.compareTo(next) == 0;
     }
 }
@@ -1,5 +1,7 @@
 package com.gourmet.review.review.service;
 
+import com.gourmet.review.review.dto.ReviewBulkModerationRequest;
+import com.gourmet.review.review.dto.ReviewBulkModerationResponse;
 import com.gourmet.review.review.dto.ReviewCreateRequest;
 import com.gourmet.review.review.dto.ReviewDetailResponse;
 import com.gourmet.review.review.dto.ReviewModerationResponse;
@@ -32,4 +34,10 @@ public interface ReviewService {
 
     void rejectReview(Long reviewId, ReviewRejectRequest request);
 
+    /**
+     * 검수 일괄 처리. 승인은 가게별로 묶어 블라인드 기준 판단/공개 전환/점수 갱신 예약을 가게당 한 번만 하고,
+     * 반려는 같은 사유끼리 한 번에 반영한다. 검증에 실패한 항목만 실패로 돌려준다.
+     */
+    ReviewBulkModerationResponse moderateReviews(ReviewBulkModerationRequest request);
+
 }
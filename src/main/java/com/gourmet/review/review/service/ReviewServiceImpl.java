@@ -4,29 +4,36 @@ import com.gourmet.review.common.exception.BusinessException;
 import com.gourmet.review.common.exception.ErrorCode;
 import com.gourmet.review.common.util.SecurityUtil;
 import com.gourmet.review.domain.entity.Member;
-import com.gourmet.review.domain.entity.MemberStoreVisit;
 import com.gourmet.review.domain.entity.Review;
-import com.gourmet.review.domain.entity.ReviewHelpful;
 import com.gourmet.review.domain.entity.ReviewImage;
 import com.gourmet.review.domain.entity.Store;
 import com.gourmet.review.domain.enums.MemberRole;
-import com.gourmet.review.domain.enums.MemberTier;
 import com.gourmet.review.domain.enums.ReviewStatus;
 import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.ReviewBulkModerationRequest;
+import com.gourmet.review.review.dto.ReviewBulkModerationResponse;
 import com.gourmet.review.review.dto.ReviewCreateRequest;
 import com.gourmet.review.review.dto.ReviewDetailResponse;
 import com.gourmet.review.review.dto.ReviewModerationResponse;
 import com.gourmet.review.review.dto.ReviewRejectRequest;
 import com.gourmet.review.review.dto.ReviewResponse;
 import com.gourmet.review.review.dto.ReviewUpdateRequest;
-import com.gourmet.review.review.repository.MemberStoreVisitRepository;
 import com.gourmet.review.review.repository.ReviewHelpfulRepository;
 import com.gourmet.review.review.repository.ReviewImageRepository;
 import com.gourmet.review.review.repository.ReviewRepository;
 import com.gourmet.review.store.repository.StoreRepository;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -40,18 +47,25 @@ public class ReviewServiceImpl implements ReviewService {
 
     // NOTE: 점수 계산(베이지안 평균/가중치/감가상각 등)은 ReviewScoreService로 분리되어 있다.
 
+    private static final List<ReviewStatus> MODERATED_STATUSES =
+            List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD, ReviewStatus.PUBLIC);
+
     // p0: 극단 점수 리뷰 쿨다운
-    // NOTE: 쿨다운은 '등록 차단'이 아니라 'PENDING 유지 후 배치 승인' 정책이므로,
-    //       여기서는 중복 차단 로직을 두지 않고 ReviewPolicyJobService.processCooldownExpirations()에서 처리한다.
+    // NOTE: 쿨다운은 '등록 차단'이 아니라 'PENDING 유지 후 12시간 뒤 승인' 정책이므로,
+    //       여기서는 CooldownExpiryTimer에 만료 시각만 예약하고 승인은 ReviewPolicyJobService에서 처리한다.
 
     private final ReviewRepository reviewRepository;
     private final StoreRepository storeRepository;
     private final MemberRepository memberRepository;
-    private final MemberStoreVisitRepository memberStoreVisitRepository;
+    private final MemberVisitCounter memberVisitCounter;
+    private final HelpfulCountBuffer helpfulCountBuffer;
     private final ReviewImageRepository reviewImageRepository;
     private final ReviewHelpfulRepository reviewHelpfulRepository;
-    private final ReviewScoreService reviewScoreService;
+    private final StoreScoreAggregateService storeScoreAggregateService;
+    private final StoreScoreRefreshQueue storeScoreRefreshQueue;
     private final ReviewPolicyJobService policyJobService;
+    private final CooldownExpiryTimer cooldownExpiryTimer;
+    private final Clock clock;
 
     @Override
     @Transactional
@@ -60,8 +74,6 @@ public class ReviewServiceImpl implements ReviewService {
         if (!Boolean.TRUE.equals(member.getIsPhoneVerified())) {
             throw new BusinessException(ErrorCode.PHONE_VERIFICATION_REQUIRED, "리뷰 작성 전 휴대폰 인증이 필요합니다.");
         }
-        MemberTier oldTier = member.getTier();
-
         Store store = storeRepository.findById(request.getStoreId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "가게 정보를 찾을 수 없습니다."));
 
@@ -81,16 +93,15 @@ public class ReviewServiceImpl implements ReviewService {
                 .build();
 
         Review saved = reviewRepository.save(review);
-        store.incrementReviewCount();
-        member.incrementReviewCount();
-
-        MemberTier newTier = member.getTier();
-        if (oldTier != null && newTier != null && oldTier != newTier) {
-            policyJobService.handleMemberTierChanged(member.getId(), oldTier, newTier);
-        }
+        storeRepository.incrementReviewCount(store.getId());
+        memberRepository.incrementReviewCount(member.getId(), LocalDateTime.now(clock));
 
         saveImages(saved, request.getImages());
-        return toReviewResponse(saved);
+        cooldownExpiryTimer.schedule(saved);
+        ReviewResponse response = toReviewResponse(saved);
+        // 등급이 바뀌면 영속성 컨텍스트가 비워지므로 응답을 만든 뒤에 재계산한다.
+        policyJobService.recalculateTiers(List.of(member.getId()));
+        return response;
     }
 
     @Override
@@ -98,12 +109,21 @@ public class ReviewServiceImpl implements ReviewService {
     public ReviewResponse updateReview(Long reviewId, ReviewUpdateRequest request) {
         Review review = getReviewOrThrow(reviewId);
         validateReviewOwnerOrAdmin(review);
+        boolean isPublic = review.getStatus() == ReviewStatus.PUBLIC;
+        ScoreContribution before = isPublic ? ScoreContribution.from(review) : null;
         review.updateReview(request.getTitle(), request.getPartySize(), request.getContent(),
                 request.getScoreTaste(), request.getScoreValue(), request.getScoreAmbiance(),
                 request.getScoreService());
 
-        if (review.getStatus() == ReviewStatus.PUBLIC) {
+        if (isPublic) {
+            // @PreUpdate는 flush 시점에 호출되므로, 집계 반영 전에 종합 점수를 먼저 갱신한다.
+            review.calculateScore();
+            storeScoreAggregateService.replace(before, ScoreContribution.from(review));
             recalculateStoreScores(review.getStore());
+        } else if (review.getStatus() == ReviewStatus.PENDING) {
+            // 수정으로 극단 점수가 된 대기 리뷰도 만료 시각에 승인되도록 예약
+            review.calculateScore();
+            cooldownExpiryTimer.schedule(review);
         }
         return toReviewResponse(review);
     }
@@ -115,11 +135,14 @@ public class ReviewServiceImpl implements ReviewService {
         validateReviewOwnerOrAdmin(review);
         boolean wasPublic = review.getStatus() == ReviewStatus.PUBLIC;
         Store store = review.getStore();
+        if (wasPublic) {
+            storeScoreAggregateService.subtract(ScoreContribution.from(review));
+        }
 
         reviewImageRepository.deleteByReviewId(reviewId);
         reviewHelpfulRepository.deleteByReviewId(reviewId);
         reviewRepository.delete(review);
-        store.decrementReviewCount();
+        storeRepository.decrementReviewCount(store.getId());
         if (wasPublic) {
             recalculateStoreScores(store);
         }
@@ -186,47 +209,36 @@ public class ReviewServiceImpl implements ReviewService {
                 .map(this::toReviewModerationResponse);
     }
 
+    /**
+     * INSERT 한 번(uk_review_helpful)으로 표시하고, 실제로 들어갔을 때만 도움됨 수를 버퍼에 더한다.
+     * 넣지 못했을 때만 원인(리뷰 없음/회원 없음/이미 표시)을 확인한다.
+     */
     @Override
     @Transactional
     public void markHelpful(Long reviewId) {
-        Review review = getReviewOrThrow(reviewId);
         Long memberId = getCurrentMemberIdOrThrow();
-        if (reviewHelpfulRepository.existsByReviewIdAndMemberId(reviewId, memberId)) {
-            throw new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 도움됨을 누른 리뷰입니다.");
-        }
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "회원 정보를 찾을 수 없습니다."));
-
-        // 도움됨을 누른 '현재 회원'의 tier는 이 로직에서 변하지 않는다.
-        // tier 변동 가능성이 있는 주체는 '리뷰 작성자'이므로, 해당 멤버의 tier 변경을 감지한다.
-        Member author = review.getMember();
-        MemberTier oldTier = author != null ? author.getTier() : null;
-
-        reviewHelpfulRepository.save(ReviewHelpful.builder()
-                .review(review)
-                .member(member)
-                .build());
-        review.incrementHelpfulCount();
-        review.getMember().incrementHelpfulCount();
-
-        if (author != null) {
-            MemberTier newTier = author.getTier();
-            if (oldTier != null && newTier != null && oldTier != newTier) {
-                policyJobService.handleMemberTierChanged(author.getId(), oldTier, newTier);
-            }
-        }
+        Long authorId = reviewHelpfulRepository.insertIfAbsent(reviewId, memberId, LocalDateTime.now(clock))
+                .orElseThrow(() -> {
+                    if (!reviewRepository.existsById(reviewId)) {
+                        return new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "리뷰 정보를 찾을 수 없습니다.");
+                    }
+                    if (!memberRepository.existsById(memberId)) {
+                        return new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "회원 정보를 찾을 수 없습니다.");
+                    }
+                    return new BusinessException(ErrorCode.DUPLICATE_RESOURCE, "이미 도움됨을 누른 리뷰입니다.");
+                });
+        // 리뷰/작성자 도움됨 수와 작성자 등급 재계산은 커밋 후 버퍼에 모아 주기적으로 반영한다.
+        helpfulCountBuffer.add(reviewId, authorId, 1);
     }
 
     @Override
     @Transactional
     public void unmarkHelpful(Long reviewId) {
-        Review review = getReviewOrThrow(reviewId);
         Long memberId = getCurrentMemberIdOrThrow();
-        ReviewHelpful helpful = reviewHelpfulRepository.findByReviewIdAndMemberId(reviewId, memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "도움됨 정보를 찾을 수 없습니다."));
-        reviewHelpfulRepository.delete(helpful);
-        review.decrementHelpfulCount();
-        review.getMember().decrementHelpfulCount();
+        if (reviewHelpfulRepository.deleteHelpful(reviewId, memberId) == 0) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "도움됨 정보를 찾을 수 없습니다.");
+        }
+        helpfulCountBuffer.add(reviewId, reviewRepository.findAuthorIdById(reviewId).orElse(null), -1);
     }
 
     @Override
@@ -236,24 +248,153 @@ public class ReviewServiceImpl implements ReviewService {
         if (review.getStatus() != ReviewStatus.PENDING) {
             throw new BusinessException(ErrorCode.INVALID_REQUEST, "검수 대기 상태가 아닙니다.");
         }
-        review.approve();
-        Store store = review.getStore();
+        approveGroupedByStore(List.of(review));
+    }
 
-        long approvedCount = reviewRepository.countByStoreIdAndStatusIn(store.getId(),
-                List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD, ReviewStatus.PUBLIC));
-        if (approvedCount < 5) {
-            review.holdForBlind();
-            return;
+    /**
+     * 항목별로 검증해 실패 항목은 사유와 함께 돌려주고, 나머지는 승인/반려를 모아서 처리한다.
+     * - 승인: 가게별로 묶어 블라인드 기준 판단/공개 전환/점수 갱신 예약을 가게당 한 번만 한다.
+     * - 반려: 같은 사유끼리 UPDATE 한 번
+     */
+    @Override
+    @Transactional
+    public ReviewBulkModerationResponse moderateReviews(ReviewBulkModerationRequest request) {
+        List<ReviewBulkModerationRequest.Item> items = request.getItems();
+        Map<Long, Review> reviews = new HashMap<>();
+        for (Review review : reviewRepository.findWithStoreAndMemberByIdIn(
+                items.stream().map(ReviewBulkModerationRequest.Item::getReviewId).filter(Objects::nonNull).toList())) {
+            reviews.put(review.getId(), review);
         }
 
-        List<Review> publishTargets = reviewRepository.findByStoreIdAndStatusIn(store.getId(),
-                List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD));
-        for (Review target : publishTargets) {
-            if (target.publish()) {
-                applyVisitCount(target);
+        ReviewBulkModerationResponse.ItemResult[] results = new ReviewBulkModerationResponse.ItemResult[items.size()];
+        Set<Long> requested = new HashSet<>();
+        List<Review> approvals = new ArrayList<>();
+        Map<String, List<Long>> rejectsByComment = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            ReviewBulkModerationRequest.Item item = items.get(i);
+            Review review = reviews.get(item.getReviewId());
+            String failure = null;
+            if (!requested.add(item.getReviewId())) {
+                failure = "같은 리뷰가 중복 요청되었습니다.";
+            } else if (review == null) {
+                failure = "리뷰 정보를 찾을 수 없습니다.";
+            } else if (review.getStatus() != ReviewStatus.PENDING) {
+                failure = "검수 대기 상태가 아닙니다.";
+            } else if (item.getDecision() == ReviewBulkModerationRequest.Decision.REJECT
+                    && (item.getAdminComment() == null || item.getAdminComment().isBlank())) {
+                failure = "반려 사유가 필요합니다.";
+            }
+            if (failure != null) {
+                results[i] = ReviewBulkModerationResponse.ItemResult.builder()
+                        .reviewId(item.getReviewId())
+                        .decision(item.getDecision())
+                        .success(false)
+                        .status(review == null ? null : review.getStatus())
+                        .message(failure)
+                        .build();
+            } else if (item.getDecision() == ReviewBulkModerationRequest.Decision.APPROVE) {
+                approvals.add(review);
+            } else {
+                rejectsByComment.computeIfAbsent(item.getAdminComment(), comment -> new ArrayList<>()).add(review.getId());
             }
         }
-        recalculateStoreScores(store);
+
+        ApprovalOutcome outcome = approveGroupedByStore(approvals);
+        LocalDateTime now = LocalDateTime.now(clock);
+        rejectsByComment.forEach((comment, reviewIds) -> {
+            if (reviewRepository.rejectPending(reviewIds, comment, now) != reviewIds.size()) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "다른 검수와 겹친 리뷰가 있습니다. 다시 시도해 주세요.");
+            }
+        });
+
+        int succeeded = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            ReviewBulkModerationRequest.Item item = items.get(i);
+            results[i] = ReviewBulkModerationResponse.ItemResult.builder()
+                    .reviewId(item.getReviewId())
+                    .decision(item.getDecision())
+                    .success(true)
+                    .status(item.getDecision() == ReviewBulkModerationRequest.Decision.APPROVE
+                            ? outcome.statuses().get(item.getReviewId())
+                            : ReviewStatus.REJECTED)
+                    .build();
+            succeeded++;
+        }
+        return ReviewBulkModerationResponse.builder()
+                .requestedCount(items.size())
+                .succeededCount(succeeded)
+                .failedCount(items.size() - succeeded)
+                .rescoredStoreCount(outcome.publishedStoreCount())
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * @param statuses 승인한 리뷰별 처리 후 상태 (BLIND_HELD 또는 PUBLIC)
+     * @param publishedStoreCount 공개 전환으로 점수 갱신을 예약한 가게 수
+     */
+    private record ApprovalOutcome(Map<Long, ReviewStatus> statuses, int publishedStoreCount) {
+    }
+
+    /**
+     * 검수 대기 리뷰 승인. 가게별로 묶어 검수 통과 리뷰 수 조회/공개 대상 조회를 가게 목록 단위로 한 번씩 한다.
+     * - 승인 후 검수 통과(APPROVED/BLIND_HELD/PUBLIC) 리뷰가 5개 미만인 가게: 승인 리뷰를 BLIND_HELD로(UPDATE 한 번, 점수 미반영)
+     * - 5개 이상인 가게: 승인 리뷰와 APPROVED/BLIND_HELD를 UPDATE ... RETURNING 한 번으로 PUBLIC으로 전환하고,
+     *   실제로 바뀐 리뷰에만 점수 기여분/방문 횟수를 반영한다(점수 갱신은 가게당 한 번 예약)
+     * 두 UPDATE 모두 status 조건부이므로 같은 리뷰를 동시에 검수하면 늦은 쪽은 예외로 롤백된다.
+     * 두 UPDATE 모두 영속성 컨텍스트를 비우므로 이후 리뷰 엔티티는 다시 조회해야 한다.
+     */
+    private ApprovalOutcome approveGroupedByStore(List<Review> approvals) {
+        Map<Long, ReviewStatus> statuses = new HashMap<>();
+        if (approvals.isEmpty()) {
+            return new ApprovalOutcome(statuses, 0);
+        }
+        Map<Long, List<Review>> approvalsByStore = new LinkedHashMap<>();
+        for (Review review : approvals) {
+            approvalsByStore.computeIfAbsent(review.getStore().getId(), id -> new ArrayList<>()).add(review);
+        }
+        Map<Long, Long> moderatedCounts = new HashMap<>();
+        for (Object[] row : reviewRepository.countByStoreIdInAndStatusInGroupByStoreId(approvalsByStore.keySet(),
+                MODERATED_STATUSES)) {
+            moderatedCounts.put((Long) row[0], (Long) row[1]);
+        }
+
+        Set<Long> publishing = new LinkedHashSet<>();
+        Set<Long> publishingApprovals = new HashSet<>();
+        List<Long> held = new ArrayList<>();
+        approvalsByStore.forEach((storeId, storeApprovals) -> {
+            if (moderatedCounts.getOrDefault(storeId, 0L) + storeApprovals.size() < 5) {
+                storeApprovals.forEach(review -> {
+                    held.add(review.getId());
+                    statuses.put(review.getId(), ReviewStatus.BLIND_HELD);
+                });
+            } else {
+                publishing.add(storeId);
+                storeApprovals.forEach(review -> publishingApprovals.add(review.getId()));
+            }
+        });
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (!publishing.isEmpty()) {
+            List<Long> publishedIds = reviewRepository.publishModerated(publishing, publishingApprovals, now);
+            if (!publishedIds.containsAll(publishingApprovals)) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST, "다른 검수와 겹친 리뷰가 있습니다. 다시 시도해 주세요.");
+            }
+            List<Review> published = reviewRepository.findWithStoreAndMemberByIdIn(publishedIds);
+            for (Review target : published) {
+                storeScoreAggregateService.add(ScoreContribution.from(target));
+                statuses.put(target.getId(), ReviewStatus.PUBLIC);
+            }
+            memberVisitCounter.apply(published);
+            publishing.forEach(storeScoreRefreshQueue::markDirty);
+        }
+        if (!held.isEmpty() && reviewRepository.holdPendingForBlind(held, now) != held.size()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "다른 검수와 겹친 리뷰가 있습니다. 다시 시도해 주세요.");
+        }
+        return new ApprovalOutcome(statuses, publishing.size());
     }
 
     @Override
@@ -386,20 +527,12 @@ public class ReviewServiceImpl implements ReviewService {
         }
     }
 
-    private void applyVisitCount(Review review) {
-        Member member = review.getMember();
-        Store store = review.getStore();
-        MemberStoreVisit visit = memberStoreVisitRepository.findByMemberIdAndStoreId(member.getId(), store.getId())
-                .orElseGet(() -> memberStoreVisitRepository.save(MemberStoreVisit.builder()
-                        .member(member)
-                        .store(store)
-                        .build()));
-        int visitCount = visit.incrementVisitCount();
-        review.updateVisitCount(visitCount);
-    }
 
+    /**
+     * 집계 셀에 delta 반영 후 가게 점수 갱신은 커밋 후 큐에서 모아서 처리한다.
+     */
     private void recalculateStoreScores(Store store) {
-        reviewScoreService.recalculateStoreScores(store);
+        storeScoreRefreshQueue.markDirty(store.getId());
     }
 
     /**
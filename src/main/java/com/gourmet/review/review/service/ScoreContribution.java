@@ -0,0 +1,50 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.enums.MemberTier;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * PUBLIC 리뷰 1건이 가게 점수 집계에 기여하는 값.
+ * - 등급/편차 보정 여부는 '집계에 반영된 시점' 기준이어야 하므로,
+ *   등급 변경 등으로 엔티티 값이 이미 바뀐 경우 withTier/withDeviationTarget으로 이전 값을 지정한다.
+ */
+public record ScoreContribution(
+        Long storeId,
+        MemberTier tier,
+        boolean deviationTarget,
+        LocalDateTime createdAt,
+        BigDecimal scoreCalculated,
+        BigDecimal scoreTaste,
+        BigDecimal scoreValue,
+        BigDecimal scoreAmbiance,
+        BigDecimal scoreService
+) {
+
+    public static ScoreContribution from(Review review) {
+        Member member = review.getMember();
+        return new ScoreContribution(
+                review.getStore().getId(),
+                member.getTier(),
+                Boolean.TRUE.equals(member.getIsDeviationTarget()),
+                review.getCreatedAt(),
+                review.getScoreCalculated(),
+                review.getScoreTaste(),
+                review.getScoreValue(),
+                review.getScoreAmbiance(),
+                review.getScoreService()
+        );
+    }
+
+    public ScoreContribution withTier(MemberTier newTier) {
+        return new ScoreContribution(storeId, newTier, deviationTarget, createdAt, scoreCalculated,
+                scoreTaste, scoreValue, scoreAmbiance, scoreService);
+    }
+
+    public ScoreContribution withDeviationTarget(boolean newDeviationTarget) {
+        return new ScoreContribution(storeId, tier, newDeviationTarget, createdAt, scoreCalculated,
+                scoreTaste, scoreValue, scoreAmbiance, scoreService);
+    }
+}
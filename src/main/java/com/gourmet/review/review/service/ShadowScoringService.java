@@ -0,0 +1,32 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.review.dto.ShadowScoreReportResponse;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 섀도 스코어링: 운영 점수 정책과 후보 정책을 같은 리뷰 순회에서 계산한다.
+ */
+public interface ShadowScoringService {
+
+    /**
+     * 섀도 스코어링이 켜져 있고 후보 정책이 1개 이상인지 여부
+     */
+    boolean isEnabled();
+
+    /**
+     * PUBLIC 리뷰를 한 번 읽어 집계 셀을 재구축(운영 점수)하고 후보 정책 점수를 함께 계산해 store_score_shadow에 기록한다.
+     *
+     * @return storeId → 운영 정책 점수 (PUBLIC 리뷰가 없는 가게는 없음)
+     */
+    Map<Long, StoreScoreResult> scoreWithCandidates(Collection<Long> storeIds);
+
+    /**
+     * 후보 정책별 운영 점수 대비 차이 리포트
+     *
+     * @param limit 정책별로 보여줄 차이가 큰 가게 수
+     */
+    List<ShadowScoreReportResponse> report(int limit);
+}
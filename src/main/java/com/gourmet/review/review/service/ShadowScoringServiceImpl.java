@@ -0,0 +1,196 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.ShadowScoringProperties;
+import com.gourmet.review.domain.entity.StoreScoreShadow;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.review.dto.ShadowScoreReportResponse;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.review.repository.StoreScoreShadowRepository;
+import com.gourmet.review.review.service.CandidateScorePolicy.Accumulator;
+import com.gourmet.review.review.service.CandidateScorePolicy.AuthorStats;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class ShadowScoringServiceImpl implements ShadowScoringService {
+
+    private final ReviewRepository reviewRepository;
+    private final StoreRepository storeRepository;
+    private final StoreScoreShadowRepository storeScoreShadowRepository;
+    private final StoreScoreAggregateService storeScoreAggregateService;
+    private final ShadowScoringProperties properties;
+    private final List<CandidateScorePolicy> policies;
+    private final Clock clock;
+
+    public ShadowScoringServiceImpl(ReviewRepository reviewRepository,
+                                    StoreRepository storeRepository,
+                                    StoreScoreShadowRepository storeScoreShadowRepository,
+                                    StoreScoreAggregateService storeScoreAggregateService,
+                                    ShadowScoringProperties properties,
+                                    Clock clock) {
+        this.reviewRepository = reviewRepository;
+        this.storeRepository = storeRepository;
+        this.storeScoreShadowRepository = storeScoreShadowRepository;
+        this.storeScoreAggregateService = storeScoreAggregateService;
+        this.properties = properties;
+        this.policies = properties.candidates().stream()
+                .<CandidateScorePolicy>map(InfluenceWeightPolicy::new)
+                .toList();
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.enabled() && !policies.isEmpty();
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, StoreScoreResult> scoreWithCandidates(Collection<Long> storeIds) {
+        Map<Long, StoreScoreResult> results = new HashMap<>();
+        if (storeIds.isEmpty()) {
+            return results;
+        }
+        LocalDateTime reference = storeScoreAggregateService.currentDecayReference();
+
+        // 리뷰 1회 순회: 운영 정책 입력(기여분)을 모으면서 후보 정책 누적기에 같은 행을 넘긴다.
+        List<ScoreContribution> contributions = new ArrayList<>();
+        Map<Long, List<Accumulator>> candidatesByStore = new HashMap<>();
+        for (Object[] row : reviewRepository.findShadowScoreRowsByStoreIds(storeIds)) {
+            Long storeId = ((Number) row[0]).longValue();
+            ScoreContribution contribution = new ScoreContribution(storeId,
+                    MemberTier.valueOf((String) row[1]),
+                    Boolean.TRUE.equals(row[2]),
+                    toLocalDateTime(row[3]),
+                    (BigDecimal) row[4],
+                    (BigDecimal) row[5], (BigDecimal) row[6], (BigDecimal) row[7], (BigDecimal) row[8]);
+            AuthorStats author = new AuthorStats((BigDecimal) row[9], ((Number) row[10]).longValue());
+
+            contributions.add(contribution);
+            for (Accumulator accumulator : candidatesByStore.computeIfAbsent(storeId, k -> newAccumulators(reference))) {
+                accumulator.add(contribution, author);
+            }
+        }
+        // 운영 점수는 같은 기여분으로 재구축한 집계 셀에서 계산한다(셀 재구축용으로 리뷰를 다시 읽지 않는다).
+        results.putAll(storeScoreAggregateService.rebuild(storeIds, contributions));
+
+        saveShadows(storeIds, results, candidatesByStore);
+        return results;
+    }
+
+    private List<Accumulator> newAccumulators(LocalDateTime reference) {
+        List<Accumulator> accumulators = new ArrayList<>(policies.size());
+        for (CandidateScorePolicy policy : policies) {
+            accumulators.add(policy.newAccumulator(reference));
+        }
+        return accumulators;
+    }
+
+    /**
+     * (storeId, 정책) 행을 갱신/추가하고, PUBLIC 리뷰가 없어진 가게와 설정에서 빠진 정책의 행은 지운다.
+     */
+    private void saveShadows(Collection<Long> storeIds, Map<Long, StoreScoreResult> results,
+                             Map<Long, List<Accumulator>> candidatesByStore) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, StoreScoreShadow> existing = new HashMap<>();
+        List<StoreScoreShadow> stale = new ArrayList<>();
+        Set<String> policyNames = new HashSet<>();
+        policies.forEach(policy -> policyNames.add(policy.name()));
+        for (StoreScoreShadow shadow : storeScoreShadowRepository.findByStoreIdIn(storeIds)) {
+            Long storeId = shadow.getStore().getId();
+            if (!results.containsKey(storeId) || !policyNames.contains(shadow.getPolicyName())) {
+                stale.add(shadow);
+            } else {
+                existing.put(key(storeId, shadow.getPolicyName()), shadow);
+            }
+        }
+        storeScoreShadowRepository.deleteAll(stale);
+
+        List<StoreScoreShadow> created = new ArrayList<>();
+        results.forEach((storeId, production) -> {
+            List<Accumulator> accumulators = candidatesByStore.get(storeId);
+            for (int i = 0; i < policies.size(); i++) {
+                String policyName = policies.get(i).name();
+                BigDecimal candidateScore = accumulators.get(i).score();
+                StoreScoreShadow shadow = existing.get(key(storeId, policyName));
+                if (shadow == null) {
+                    shadow = StoreScoreShadow.builder()
+                            .store(storeRepository.getReferenceById(storeId))
+                            .policyName(policyName)
+                            .build();
+                    created.add(shadow);
+                }
+                shadow.record(production.reviewCount(), production.scoreWeighted(), candidateScore, now);
+            }
+        });
+        storeScoreShadowRepository.saveAll(created);
+    }
+
+    @Override
+    public List<ShadowScoreReportResponse> report(int limit) {
+        List<ShadowScoreReportResponse> reports = new ArrayList<>();
+        for (Object[] row : storeScoreShadowRepository.summarizeByPolicy(properties.reportThreshold())) {
+            String policyName = (String) row[0];
+            List<ShadowScoreReportResponse.StoreDiff> largestDiffs = storeScoreShadowRepository
+                    .findLargestDiffs(policyName, PageRequest.of(0, limit)).stream()
+                    .map(shadow -> ShadowScoreReportResponse.StoreDiff.builder()
+                            .storeId(shadow.getStore().getId())
+                            .storeName(shadow.getStore().getName())
+                            .reviewCount(shadow.getReviewCount())
+                            .productionScore(shadow.getProductionScore())
+                            .candidateScore(shadow.getCandidateScore())
+                            .scoreDiff(shadow.getScoreDiff())
+                            .build())
+                    .toList();
+            reports.add(ShadowScoreReportResponse.builder()
+                    .policyName(policyName)
+                    .storeCount(((Number) row[1]).longValue())
+                    .meanAbsDiff(toScore(row[2]))
+                    .maxAbsDiff(toScore(row[3]))
+                    .changedStoreCount(((Number) row[4]).longValue())
+                    .reportThreshold(properties.reportThreshold())
+                    .lastEvaluatedAt((LocalDateTime) row[5])
+                    .largestDiffs(largestDiffs)
+                    .build());
+        }
+        return reports;
+    }
+
+    private static String key(Long storeId, String policyName) {
+        return storeId + ":" + policyName;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    /**
+     * avg 결과는 DB/타입에 따라 Double 또는 BigDecimal이므로 소수 2자리 BigDecimal로 맞춘다.
+     */
+    private static BigDecimal toScore(Object value) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal decimal = value instanceof BigDecimal bigDecimal ? bigDecimal : new BigDecimal(value.toString());
+        return decimal.setScale(2, RoundingMode.HALF_UP);
+    }
+}
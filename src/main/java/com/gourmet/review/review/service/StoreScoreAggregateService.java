@@ -0,0 +1,85 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.review.dto.StoreScoreConsistencyResponse;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 가게별 점수 집계(StoreScoreBucket) 관리 서비스.
+ * - 리뷰 1건의 변화는 add/subtract(delta)로 O(1)에 반영한다.
+ * - rebuild는 PUBLIC 리뷰를 DB에서 셀 단위로 다시 집계해 재구축한다(초기 적재/복구/감가 구간 이동용).
+ * - verify는 집계 결과를 full-scan 계산과 비교한다.
+ */
+public interface StoreScoreAggregateService {
+
+    void add(ScoreContribution contribution);
+
+    void subtract(ScoreContribution contribution);
+
+    /**
+     * 반영 중인 리뷰의 점수/등급/보정 여부가 바뀐 경우: 이전 기여분을 빼고 새 기여분을 더한다.
+     */
+    default void replace(ScoreContribution before, ScoreContribution after) {
+        subtract(before);
+        add(after);
+    }
+
+    /**
+     * 여러 리뷰의 기여분을 한 번에 바꾼다(회원 등급 변경/편차 보정 전환의 소급 반영).
+     * 셀별로 delta를 합산해 셀당 1회만 갱신하므로 비용은 해당 리뷰 수에 비례한다.
+     */
+    void replaceAll(Collection<ScoreContribution> before, Collection<ScoreContribution> after);
+
+    /**
+     * 집계 셀만으로 가게 점수를 계산한다(리뷰 조회 없음).
+     */
+    StoreScoreResult summarize(Long storeId);
+
+    /**
+     * 여러 가게의 집계 셀을 한 번에 읽어 가게별 점수를 계산한다. 셀이 없는 가게는 결과에 포함되지 않는다.
+     */
+    Map<Long, StoreScoreResult> summarize(Collection<Long> storeIds);
+
+    void rebuild(Long storeId);
+
+    /**
+     * 여러 가게의 집계 셀을 한 번의 DB 집계 쿼리로 재구축한다.
+     *
+     * @return 재구축한 셀로 계산한 가게별 점수(리뷰를 다시 읽지 않는다). PUBLIC 리뷰가 없는 가게는 없음
+     */
+    Map<Long, StoreScoreResult> rebuild(Collection<Long> storeIds);
+
+    /**
+     * 이미 읽은 PUBLIC 리뷰 기여분(가게별 전부)으로 집계 셀을 재구축한다(섀도 스코어링처럼 리뷰를 직접 순회하는 경로용).
+     *
+     * @return rebuild(storeIds) 와 같다
+     */
+    Map<Long, StoreScoreResult> rebuild(Collection<Long> storeIds, Collection<ScoreContribution> contributions);
+
+    /**
+     * PUBLIC 리뷰를 DB에서 가게별로 집계해 점수를 계산한다(엔티티 조회 없음, 가게당 1행).
+     * PUBLIC 리뷰가 없는 가게는 결과에 포함되지 않는다.
+     */
+    Map<Long, StoreScoreResult> aggregate(Collection<Long> storeIds);
+
+    /**
+     * aggregate 와 같지만 감가 구간을 주어진 기준 시각으로 나눈다(시간감가 미리보기용, 셀은 그대로).
+     */
+    Map<Long, StoreScoreResult> aggregate(Collection<Long> storeIds, LocalDateTime decayReference);
+
+    /**
+     * replaceAll 을 저장 없이 계산만 한다: 관련 가게의 셀을 메모리로 복사해 delta를 적용한 뒤 가게별 점수를 돌려준다.
+     * 결과에는 기여분이 바뀌는 가게만 들어간다(셀이 모두 비면 리뷰 0건 점수).
+     */
+    Map<Long, StoreScoreResult> simulateReplaceAll(Collection<ScoreContribution> before,
+                                                   Collection<ScoreContribution> after);
+
+    StoreScoreConsistencyResponse verify(Long storeId);
+
+    /**
+     * 시간 감가 구간을 나누는 기준 시각. 집계 셀은 모두 이 시각 기준으로 구간이 정해져 있다.
+     */
+    LocalDateTime currentDecayReference();
+}
@@ -0,0 +1,368 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.JobWatermark;
+import com.gourmet.review.domain.entity.StoreScoreBucket;
+import com.gourmet.review.domain.enums.DecayBucket;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.review.dto.StoreScoreConsistencyResponse;
+import com.gourmet.review.review.repository.JobWatermarkRepository;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.review.repository.StoreScoreBucketDeltaRepository.CellDelta;
+import com.gourmet.review.review.repository.StoreScoreBucketRepository;
+import com.gourmet.review.review.service.StoreScoreCalculator.DimensionScores;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreScoreAggregateServiceImpl implements StoreScoreAggregateService {
+
+    private static final BigDecimal ZERO_SCORE = BigDecimal.ZERO.setScale(2);
+
+    private final StoreScoreBucketRepository storeScoreBucketRepository;
+    private final ReviewRepository reviewRepository;
+    private final StoreRepository storeRepository;
+    private final JobWatermarkRepository jobWatermarkRepository;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public void add(ScoreContribution contribution) {
+        apply(contribution, 1);
+    }
+
+    @Override
+    @Transactional
+    public void subtract(ScoreContribution contribution) {
+        apply(contribution, -1);
+    }
+
+    private void apply(ScoreContribution contribution, int sign) {
+        if (contribution == null || contribution.storeId() == null || contribution.scoreCalculated() == null) {
+            return;
+        }
+        DecayBucket decayBucket = DecayBucket.of(contribution.createdAt(), currentDecayReference());
+        CellSums delta = new CellSums();
+        delta.add(sign, contribution);
+        storeScoreBucketRepository.applyDeltas(
+                List.of(delta.toCellDelta(new CellKey(contribution.storeId(), contribution.tier(), decayBucket))),
+                LocalDateTime.now(clock));
+    }
+
+    @Override
+    @Transactional
+    public void replaceAll(Collection<ScoreContribution> before, Collection<ScoreContribution> after) {
+        LocalDateTime reference = currentDecayReference();
+        Map<CellKey, CellSums> deltas = new HashMap<>();
+        collectDeltas(deltas, before, -1, reference);
+        collectDeltas(deltas, after, 1, reference);
+        deltas.values().removeIf(CellSums::isEmpty);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 읽고-더하고-쓰기 대신 DB에서 "col = col + delta" upsert로 반영한다(동시 반영 시 delta 유실 방지).
+        List<CellDelta> cellDeltas = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> cellDeltas.add(delta.toCellDelta(key)));
+        storeScoreBucketRepository.applyDeltas(cellDeltas, LocalDateTime.now(clock));
+    }
+
+    private void collectDeltas(Map<CellKey, CellSums> deltas, Collection<ScoreContribution> contributions,
+                               int sign, LocalDateTime reference) {
+        for (ScoreContribution contribution : contributions) {
+            if (contribution == null || contribution.storeId() == null || contribution.scoreCalculated() == null) {
+                continue;
+            }
+            CellKey key = new CellKey(contribution.storeId(), contribution.tier(),
+                    DecayBucket.of(contribution.createdAt(), reference));
+            deltas.computeIfAbsent(key, k -> new CellSums()).add(sign, contribution);
+        }
+    }
+
+    private List<StoreScoreBucket> saveNewBuckets(Map<CellKey, CellSums> cells) {
+        List<StoreScoreBucket> created = new ArrayList<>();
+        cells.forEach((key, sums) -> created.add(StoreScoreBucket.builder()
+                .store(storeRepository.getReferenceById(key.storeId()))
+                .tier(key.tier())
+                .decayBucket(key.decayBucket())
+                .reviewCount(sums.count)
+                .scoreSum(sums.scoreSum)
+                .rawScoreSum(sums.rawScoreSum)
+                .tasteSum(sums.tasteSum)
+                .valueSum(sums.valueSum)
+                .ambianceSum(sums.ambianceSum)
+                .serviceSum(sums.serviceSum)
+                .build()));
+        return storeScoreBucketRepository.saveAll(created);
+    }
+
+    @Override
+    public StoreScoreResult summarize(Long storeId) {
+        return StoreScoreCalculator.calculate(storeScoreBucketRepository.findByStoreId(storeId));
+    }
+
+    @Override
+    public Map<Long, StoreScoreResult> summarize(Collection<Long> storeIds) {
+        Map<Long, List<StoreScoreBucket>> bucketsByStore = new HashMap<>();
+        if (!storeIds.isEmpty()) {
+            for (StoreScoreBucket bucket : storeScoreBucketRepository.findByStoreIdIn(storeIds)) {
+                bucketsByStore.computeIfAbsent(bucket.getStore().getId(), k -> new ArrayList<>()).add(bucket);
+            }
+        }
+        Map<Long, StoreScoreResult> results = new HashMap<>();
+        bucketsByStore.forEach((storeId, buckets) -> results.put(storeId, StoreScoreCalculator.calculate(buckets)));
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public void rebuild(Long storeId) {
+        rebuild(List.of(storeId));
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, StoreScoreResult> rebuild(Collection<Long> storeIds) {
+        if (storeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        LocalDateTime reference = currentDecayReference();
+        Map<CellKey, CellSums> cells = new HashMap<>();
+        for (Object[] row : reviewRepository.aggregateScoreCellsByStoreIds(storeIds,
+                reference.minusMonths(6), reference.minusYears(1), reference.minusYears(2), reference.minusYears(3))) {
+            CellKey key = new CellKey(toLong(row[0]), MemberTier.valueOf((String) row[1]), DecayBucket.valueOf((String) row[2]));
+            cells.put(key, CellSums.ofRow(row));
+        }
+        return overwriteCells(storeIds, cells);
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, StoreScoreResult> rebuild(Collection<Long> storeIds, Collection<ScoreContribution> contributions) {
+        if (storeIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<CellKey, CellSums> cells = new HashMap<>();
+        collectDeltas(cells, contributions, 1, currentDecayReference());
+        return overwriteCells(storeIds, cells);
+    }
+
+    /**
+     * 가게들의 셀을 cells 로 덮어쓰고(없는 셀은 삭제/새 셀은 추가), 덮어쓴 셀로 가게별 점수를 계산한다.
+     */
+    private Map<Long, StoreScoreResult> overwriteCells(Collection<Long> storeIds, Map<CellKey, CellSums> cells) {
+        Map<Long, List<StoreScoreBucket>> cellsByStore = new HashMap<>();
+        List<StoreScoreBucket> stale = new ArrayList<>();
+        for (StoreScoreBucket bucket : storeScoreBucketRepository.findByStoreIdIn(storeIds)) {
+            CellSums sums = cells.remove(new CellKey(bucket.getStore().getId(), bucket.getTier(), bucket.getDecayBucket()));
+            if (sums == null) {
+                stale.add(bucket);
+            } else {
+                bucket.overwrite(sums.count, sums.scoreSum, sums.rawScoreSum,
+                        sums.tasteSum, sums.valueSum, sums.ambianceSum, sums.serviceSum);
+                cellsByStore.computeIfAbsent(bucket.getStore().getId(), k -> new ArrayList<>()).add(bucket);
+            }
+        }
+        storeScoreBucketRepository.deleteAll(stale);
+        for (StoreScoreBucket bucket : saveNewBuckets(cells)) {
+            cellsByStore.computeIfAbsent(bucket.getStore().getId(), k -> new ArrayList<>()).add(bucket);
+        }
+
+        Map<Long, StoreScoreResult> results = new HashMap<>();
+        cellsByStore.forEach((storeId, buckets) -> results.put(storeId, StoreScoreCalculator.calculate(buckets)));
+        return results;
+    }
+
+    @Override
+    public Map<Long, StoreScoreResult> aggregate(Collection<Long> storeIds) {
+        return storeIds.isEmpty() ? new HashMap<>() : aggregate(storeIds, currentDecayReference());
+    }
+
+    @Override
+    public Map<Long, StoreScoreResult> aggregate(Collection<Long> storeIds, LocalDateTime reference) {
+        Map<Long, StoreScoreResult> results = new HashMap<>();
+        if (storeIds.isEmpty()) {
+            return results;
+        }
+        for (Object[] row : reviewRepository.aggregateWeightedScoresByStoreIds(storeIds,
+                reference.minusMonths(6), reference.minusYears(1), reference.minusYears(2), reference.minusYears(3))) {
+            results.put(toLong(row[0]), StoreScoreCalculator.calculate(
+                    toInt(row[1]), (BigDecimal) row[2], (BigDecimal) row[3], (BigDecimal) row[4],
+                    new DimensionScores((BigDecimal) row[5], (BigDecimal) row[6], (BigDecimal) row[7], (BigDecimal) row[8])));
+        }
+        return results;
+    }
+
+    @Override
+    public Map<Long, StoreScoreResult> simulateReplaceAll(Collection<ScoreContribution> before,
+                                                          Collection<ScoreContribution> after) {
+        LocalDateTime reference = currentDecayReference();
+        Map<CellKey, CellSums> deltas = new HashMap<>();
+        collectDeltas(deltas, before, -1, reference);
+        collectDeltas(deltas, after, 1, reference);
+        deltas.values().removeIf(CellSums::isEmpty);
+        Map<Long, StoreScoreResult> results = new HashMap<>();
+        if (deltas.isEmpty()) {
+            return results;
+        }
+
+        // 영속 셀은 건드리지 않도록 값만 복사한 셀(store 없음)에 delta를 적용한다.
+        Set<Long> storeIds = new HashSet<>();
+        deltas.keySet().forEach(key -> storeIds.add(key.storeId()));
+        Map<CellKey, StoreScoreBucket> cells = new HashMap<>();
+        for (StoreScoreBucket bucket : storeScoreBucketRepository.findByStoreIdIn(storeIds)) {
+            cells.put(new CellKey(bucket.getStore().getId(), bucket.getTier(), bucket.getDecayBucket()),
+                    StoreScoreBucket.builder()
+                            .tier(bucket.getTier())
+                            .decayBucket(bucket.getDecayBucket())
+                            .reviewCount(bucket.getReviewCount())
+                            .scoreSum(bucket.getScoreSum())
+                            .rawScoreSum(bucket.getRawScoreSum())
+                            .tasteSum(bucket.getTasteSum())
+                            .valueSum(bucket.getValueSum())
+                            .ambianceSum(bucket.getAmbianceSum())
+                            .serviceSum(bucket.getServiceSum())
+                            .build());
+        }
+        deltas.forEach((key, delta) -> delta.applyTo(cells.computeIfAbsent(key, k -> StoreScoreBucket.builder()
+                .tier(k.tier())
+                .decayBucket(k.decayBucket())
+                .build())));
+
+        Map<Long, List<StoreScoreBucket>> cellsByStore = new HashMap<>();
+        cells.forEach((key, cell) -> cellsByStore.computeIfAbsent(key.storeId(), k -> new ArrayList<>()).add(cell));
+        storeIds.forEach(storeId -> results.put(storeId,
+                StoreScoreCalculator.calculate(cellsByStore.getOrDefault(storeId, List.of()))));
+        return results;
+    }
+
+    @Override
+    public StoreScoreConsistencyResponse verify(Long storeId) {
+        LocalDateTime reference = currentDecayReference();
+        StoreScoreResult aggregate = summarize(storeId);
+        StoreScoreResult fullScan = StoreScoreCalculator.calculate(
+                reviewRepository.findByStoreIdAndStatus(storeId, ReviewStatus.PUBLIC), reference);
+
+        return StoreScoreConsistencyResponse.builder()
+                .storeId(storeId)
+                .consistent(aggregate.sameAs(fullScan))
+                .decayReference(reference)
+                .aggregateReviewCount(aggregate.reviewCount())
+                .aggregateAvgRating(aggregate.avgRating())
+                .aggregateScoreWeighted(aggregate.scoreWeighted())
+                .fullScanReviewCount(fullScan.reviewCount())
+                .fullScanAvgRating(fullScan.avgRating())
+                .fullScanScoreWeighted(fullScan.scoreWeighted())
+                .build();
+    }
+
+    /**
+     * 감가 구간은 00:00 시간감가 배치가 성공할 때마다 갱신된다(TIME_DECAY 워터마크).
+     * 다음 배치 전까지 발생한 delta는 모두 워터마크 기준 구간에 반영된다.
+     * 워터마크가 아직 없으면(최초 배치 이전) 당일 00:00을 기준으로 한다.
+     */
+    @Override
+    public LocalDateTime currentDecayReference() {
+        return jobWatermarkRepository.findById(PolicyJobType.TIME_DECAY)
+                .map(JobWatermark::getWatermarkAt)
+                .orElseGet(() -> LocalDate.now(clock).atStartOfDay());
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    /**
+     * 셀 합계 컬럼(numeric(14, 2))과 같은 scale로 맞춘다. 리뷰 점수는 scale 2이므로 값은 바뀌지 않는다.
+     */
+    private static BigDecimal toScore(BigDecimal value) {
+        return value.setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private record CellKey(Long storeId, MemberTier tier, DecayBucket decayBucket) {
+    }
+
+    /**
+     * 셀 합계(재집계 결과) 또는 셀 증감(delta).
+     */
+    private static final class CellSums {
+        private int count;
+        private BigDecimal scoreSum = ZERO_SCORE;
+        private BigDecimal rawScoreSum = ZERO_SCORE;
+        private BigDecimal tasteSum = ZERO_SCORE;
+        private BigDecimal valueSum = ZERO_SCORE;
+        private BigDecimal ambianceSum = ZERO_SCORE;
+        private BigDecimal serviceSum = ZERO_SCORE;
+
+        /**
+         * ReviewRepository.aggregateScoreCellsByStoreIds 한 행(인덱스 3부터 합계 컬럼)
+         */
+        private static CellSums ofRow(Object[] row) {
+            CellSums sums = new CellSums();
+            sums.count = toInt(row[3]);
+            sums.scoreSum = toScore((BigDecimal) row[4]);
+            sums.rawScoreSum = toScore((BigDecimal) row[5]);
+            sums.tasteSum = toScore((BigDecimal) row[6]);
+            sums.valueSum = toScore((BigDecimal) row[7]);
+            sums.ambianceSum = toScore((BigDecimal) row[8]);
+            sums.serviceSum = toScore((BigDecimal) row[9]);
+            return sums;
+        }
+
+        private void add(int sign, ScoreContribution contribution) {
+            BigDecimal adjusted = StoreScoreCalculator.applyDeviationAdjustment(
+                    contribution.scoreCalculated(), contribution.deviationTarget());
+            count += sign;
+            scoreSum = plus(scoreSum, sign, adjusted);
+            rawScoreSum = plus(rawScoreSum, sign, contribution.scoreCalculated());
+            tasteSum = plus(tasteSum, sign, contribution.scoreTaste());
+            valueSum = plus(valueSum, sign, contribution.scoreValue());
+            ambianceSum = plus(ambianceSum, sign, contribution.scoreAmbiance());
+            serviceSum = plus(serviceSum, sign, contribution.scoreService());
+        }
+
+        private CellDelta toCellDelta(CellKey key) {
+            return new CellDelta(key.storeId(), key.tier(), key.decayBucket(), count,
+                    scoreSum, rawScoreSum, tasteSum, valueSum, ambianceSum, serviceSum);
+        }
+
+        private void applyTo(StoreScoreBucket bucket) {
+            bucket.applyDelta(count, scoreSum, rawScoreSum, tasteSum, valueSum, ambianceSum, serviceSum);
+        }
+
+        private boolean isEmpty() {
+            return count == 0 && scoreSum.signum() == 0 && rawScoreSum.signum() == 0
+                    && tasteSum.signum() == 0 && valueSum.signum() == 0
+                    && ambianceSum.signum() == 0 && serviceSum.signum() == 0;
+        }
+
+        private static BigDecimal plus(BigDecimal sum, int sign, BigDecimal value) {
+            if (value == null) {
+                return sum;
+            }
+            return sign > 0 ? sum.add(value) : sum.subtract(value);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.common.util.ScoreKernel;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.StoreScoreBucket;
+import com.gourmet.review.domain.enums.DecayBucket;
+import com.gourmet.review.domain.enums.MemberTier;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 가게 점수 계산식 (정책 문서 4.1 베이지안 평균).
+ * - 리뷰 전체를 순회하는 full-scan 계산과, 집계 셀(StoreScoreBucket)로부터의 계산을 같은 식으로 제공한다.
+ * - 두 계산은 같은 기준 시각에서 같은 결과를 내야 한다(집계 정합성 검증 기준).
+ * - 계산은 ScoreKernel(고정소수점 long)로 하고, 표현 범위를 벗어나는 입력만 BigDecimal로 계산한다.
+ * - 항목별(맛/가성비/분위기/서비스) 점수도 같은 순회에서 같은 가중치로 베이지안 평균을 낸다.
+ *   편차 보정은 종합 점수(score_calculated) 기준 정책이므로 항목별 점수에는 적용하지 않는다.
+ */
+public final class StoreScoreCalculator {
+
+    public static final BigDecimal BASELINE_SCORE = new BigDecimal("3.0");
+    public static final BigDecimal MIN_REVIEW_WEIGHT = new BigDecimal("30.0");
+    public static final BigDecimal DEVIATION_ADJUSTMENT = new BigDecimal("0.5");
+    public static final BigDecimal MIN_SCORE = new BigDecimal("1.0");
+    public static final BigDecimal MAX_SCORE = new BigDecimal("5.0");
+
+    public static final BigDecimal WEIGHT_BRONZE = new BigDecimal("0.5");
+    public static final BigDecimal WEIGHT_SILVER = new BigDecimal("1.0");
+    public static final BigDecimal WEIGHT_GOLD = new BigDecimal("1.5");
+    public static final BigDecimal WEIGHT_GOURMET = new BigDecimal("2.0");
+    public static final BigDecimal WEIGHT_BLACK = new BigDecimal("0.0");
+
+    /** [등급][감가 구간] 가중치, scale 2 (예: GOLD × 6개월~1년 = 1.5 × 0.8 = 120) */
+    private static final long[][] WEIGHT2 = new long[MemberTier.values().length][DecayBucket.values().length];
+
+    static {
+        for (MemberTier tier : MemberTier.values()) {
+            for (DecayBucket decayBucket : DecayBucket.values()) {
+                WEIGHT2[tier.ordinal()][decayBucket.ordinal()] = ScoreKernel.toScaled2(
+                        tierWeight(tier).multiply(decayBucket.getFactor()));
+            }
+        }
+    }
+
+    private StoreScoreCalculator() {
+    }
+
+    public record StoreScoreResult(int reviewCount, BigDecimal avgRating, BigDecimal scoreWeighted,
+                                   DimensionScores dimensions) {
+
+        public boolean sameAs(StoreScoreResult other) {
+            return other != null
+                    && reviewCount == other.reviewCount
+                    && avgRating.compareTo(other.avgRating) == 0
+                    && scoreWeighted.compareTo(other.scoreWeighted) == 0
+                    && dimensions.sameAs(other.dimensions);
+        }
+    }
+
+    /**
+     * 맛/가성비/분위기/서비스 4개 항목 값 묶음.
+     * 계산 결과로는 항목별 가중 평점, DB 집계 입력으로는 항목별 Σ(가중치 × 점수)를 담는다.
+     */
+    public record DimensionScores(BigDecimal taste, BigDecimal value, BigDecimal ambiance, BigDecimal service) {
+
+        private static DimensionScores ofScaled2(long[] scores2) {
+            return new DimensionScores(ScoreKernel.toDecimal2(scores2[TASTE]), ScoreKernel.toDecimal2(scores2[VALUE]),
+                    ScoreKernel.toDecimal2(scores2[AMBIANCE]), ScoreKernel.toDecimal2(scores2[SERVICE]));
+        }
+
+        private BigDecimal[] toArray() {
+            return new BigDecimal[] {taste, value, ambiance, service};
+        }
+
+        public boolean sameAs(DimensionScores other) {
+            return other != null
+                    && taste.compareTo(other.taste) == 0
+                    && value.compareTo(other.value) == 0
+                    && ambiance.compareTo(other.ambiance) == 0
+                    && service.compareTo(other.service) == 0;
+        }
+    }
+
+    private static final int TASTE = 0;
+    private static final int VALUE = 1;
+    private static final int AMBIANCE = 2;
+    private static final int SERVICE = 3;
+    private static final int DIMENSIONS = 4;
+
+    /**
+     * 리뷰 전체를 순회하는 계산(기존 ReviewScoreServiceImpl 방식).
+     */
+    public static StoreScoreResult calculate(List<Review> reviews, LocalDateTime now) {
+        return calculateContributions(toContributions(reviews), now);
+    }
+
+    /**
+     * 리뷰별 기여분을 순회하는 계산. 리뷰 엔티티 대신 조회 결과 행으로 계산할 때 쓴다.
+     */
+    public static StoreScoreResult calculateContributions(List<ScoreContribution> contributions, LocalDateTime now) {
+        long rawSum2 = 0;
+        long weightedSum4 = 0;
+        long totalWeight2 = 0;
+        long[] dimensionSum4 = new long[DIMENSIONS];
+        try {
+            for (ScoreContribution contribution : contributions) {
+                BigDecimal scoreCalculated = contribution.scoreCalculated();
+                BigDecimal[] dimensions = dimensionsOf(contribution);
+                if (!ScoreKernel.fitsScale2(scoreCalculated) || !fitScale2(dimensions)) {
+                    return calculateContributionsDecimal(contributions, now);
+                }
+                long raw2 = ScoreKernel.toScaled2(scoreCalculated);
+                long score2 = ScoreKernel.deviationAdjusted2(raw2, contribution.deviationTarget());
+                long weight2 = weight2(contribution.tier(), DecayBucket.of(contribution.createdAt(), now));
+                rawSum2 = Math.addExact(rawSum2, raw2);
+                weightedSum4 = Math.addExact(weightedSum4, Math.multiplyExact(score2, weight2));
+                totalWeight2 = Math.addExact(totalWeight2, weight2);
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    dimensionSum4[d] = Math.addExact(dimensionSum4[d],
+                            Math.multiplyExact(ScoreKernel.toScaled2(dimensions[d]), weight2));
+                }
+            }
+            return new StoreScoreResult(contributions.size(),
+                    ScoreKernel.toDecimal2(ScoreKernel.average2(rawSum2, contributions.size())),
+                    ScoreKernel.toDecimal2(ScoreKernel.bayesian2(weightedSum4, totalWeight2)),
+                    bayesian2(dimensionSum4, totalWeight2));
+        } catch (ArithmeticException overflow) {
+            return calculateContributionsDecimal(contributions, now);
+        }
+    }
+
+    /**
+     * 집계 셀로부터의 계산. 셀 수(등급 × 감가 구간)만큼만 순회한다.
+     */
+    public static StoreScoreResult calculate(Collection<StoreScoreBucket> buckets) {
+        int count = 0;
+        long rawSum2 = 0;
+        long weightedSum4 = 0;
+        long totalWeight2 = 0;
+        long[] dimensionSum4 = new long[DIMENSIONS];
+        try {
+            for (StoreScoreBucket bucket : buckets) {
+                if (bucket.getReviewCount() <= 0) {
+                    continue;
+                }
+                BigDecimal[] dimensionSums = dimensionSumsOf(bucket);
+                if (!ScoreKernel.fitsScale2(bucket.getScoreSum()) || !ScoreKernel.fitsScale2(bucket.getRawScoreSum())
+                        || !fitScale2(dimensionSums)) {
+                    return calculateDecimal(buckets);
+                }
+                long weight2 = weight2(bucket.getTier(), bucket.getDecayBucket());
+                count += bucket.getReviewCount();
+                rawSum2 = Math.addExact(rawSum2, ScoreKernel.toScaled2(bucket.getRawScoreSum()));
+                weightedSum4 = Math.addExact(weightedSum4,
+                        Math.multiplyExact(ScoreKernel.toScaled2(bucket.getScoreSum()), weight2));
+                totalWeight2 = Math.addExact(totalWeight2, Math.multiplyExact(weight2, (long) bucket.getReviewCount()));
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    dimensionSum4[d] = Math.addExact(dimensionSum4[d],
+                            Math.multiplyExact(ScoreKernel.toScaled2(dimensionSums[d]), weight2));
+                }
+            }
+            return new StoreScoreResult(count,
+                    ScoreKernel.toDecimal2(ScoreKernel.average2(rawSum2, count)),
+                    ScoreKernel.toDecimal2(ScoreKernel.bayesian2(weightedSum4, totalWeight2)),
+                    bayesian2(dimensionSum4, totalWeight2));
+        } catch (ArithmeticException overflow) {
+            return calculateDecimal(buckets);
+        }
+    }
+
+    /**
+     * DB 집계 결과(ReviewRepository.aggregateWeightedScoresByStoreIds)로부터의 계산.
+     *
+     * @param weightedSum          Σ(가중치 × 편차 보정 점수)
+     * @param totalWeight          Σ가중치
+     * @param weightedDimensionSums 항목별 Σ(가중치 × 항목 점수)
+     */
+    public static StoreScoreResult calculate(int reviewCount, BigDecimal rawSum,
+                                             BigDecimal weightedSum, BigDecimal totalWeight,
+                                             DimensionScores weightedDimensionSums) {
+        if (reviewCount == 0) {
+            return calculate(List.<StoreScoreBucket>of());
+        }
+        BigDecimal[] dimensionSums = weightedDimensionSums.toArray();
+        if (ScoreKernel.fitsScale2(rawSum) && ScoreKernel.fitsScale(weightedSum, 4) && ScoreKernel.fitsScale2(totalWeight)
+                && fitScale4(dimensionSums)) {
+            try {
+                long totalWeight2 = ScoreKernel.toScaled2(totalWeight);
+                long[] dimensionSum4 = new long[DIMENSIONS];
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    dimensionSum4[d] = ScoreKernel.toScaled(dimensionSums[d], 4);
+                }
+                return new StoreScoreResult(reviewCount,
+                        ScoreKernel.toDecimal2(ScoreKernel.average2(ScoreKernel.toScaled2(rawSum), reviewCount)),
+                        ScoreKernel.toDecimal2(ScoreKernel.bayesian2(ScoreKernel.toScaled(weightedSum, 4), totalWeight2)),
+                        bayesian2(dimensionSum4, totalWeight2));
+            } catch (ArithmeticException overflow) {
+                // BigDecimal 계산으로 진행
+            }
+        }
+        return new StoreScoreResult(reviewCount, average(rawSum, reviewCount), bayesian(weightedSum, totalWeight),
+                bayesian(dimensionSums, totalWeight));
+    }
+
+    public static BigDecimal applyDeviationAdjustment(BigDecimal score, boolean deviationTarget) {
+        if (!deviationTarget) {
+            return score;
+        }
+        if (ScoreKernel.fitsScale2(score)) {
+            return ScoreKernel.toDecimal2(ScoreKernel.deviationAdjusted2(ScoreKernel.toScaled2(score), true));
+        }
+        return applyDeviationAdjustmentDecimal(score);
+    }
+
+    /**
+     * 등급 × 감가 가중치(scale 2).
+     */
+    public static long weight2(MemberTier tier, DecayBucket decayBucket) {
+        return WEIGHT2[tier.ordinal()][decayBucket.ordinal()];
+    }
+
+    public static BigDecimal tierWeight(MemberTier tier) {
+        return switch (tier) {
+            case BRONZE -> WEIGHT_BRONZE;
+            case SILVER -> WEIGHT_SILVER;
+            case GOLD -> WEIGHT_GOLD;
+            case GOURMET -> WEIGHT_GOURMET;
+            case BLACK -> WEIGHT_BLACK;
+        };
+    }
+
+    private static BigDecimal[] dimensionsOf(ScoreContribution contribution) {
+        return new BigDecimal[] {contribution.scoreTaste(), contribution.scoreValue(),
+                contribution.scoreAmbiance(), contribution.scoreService()};
+    }
+
+    /**
+     * 계산에는 가게 식별자가 필요 없으므로 storeId 없이 변환한다.
+     */
+    private static List<ScoreContribution> toContributions(List<Review> reviews) {
+        List<ScoreContribution> contributions = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            Member member = review.getMember();
+            contributions.add(new ScoreContribution(null, member.getTier(),
+                    Boolean.TRUE.equals(member.getIsDeviationTarget()),
+                    review.getCreatedAt(), review.getScoreCalculated(),
+                    review.getScoreTaste(), review.getScoreValue(),
+                    review.getScoreAmbiance(), review.getScoreService()));
+        }
+        return contributions;
+    }
+
+    private static BigDecimal[] dimensionSumsOf(StoreScoreBucket bucket) {
+        return new BigDecimal[] {bucket.getTasteSum(), bucket.getValueSum(),
+                bucket.getAmbianceSum(), bucket.getServiceSum()};
+    }
+
+    private static boolean fitScale2(BigDecimal[] values) {
+        for (BigDecimal value : values) {
+            if (!ScoreKernel.fitsScale2(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean fitScale4(BigDecimal[] values) {
+        for (BigDecimal value : values) {
+            if (!ScoreKernel.fitsScale(value, 4)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static DimensionScores bayesian2(long[] dimensionSum4, long totalWeight2) {
+        long[] scores2 = new long[DIMENSIONS];
+        for (int d = 0; d < DIMENSIONS; d++) {
+            scores2[d] = ScoreKernel.bayesian2(dimensionSum4[d], totalWeight2);
+        }
+        return DimensionScores.ofScaled2(scores2);
+    }
+
+    // ===== BigDecimal 계산 (고정소수점으로 표현되지 않는 입력/오버플로 시) =====
+
+    static StoreScoreResult calculateDecimal(List<Review> reviews, LocalDateTime now) {
+        return calculateContributionsDecimal(toContributions(reviews), now);
+    }
+
+    static StoreScoreResult calculateContributionsDecimal(List<ScoreContribution> contributions, LocalDateTime now) {
+        BigDecimal rawSum = BigDecimal.ZERO;
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+        BigDecimal[] dimensionSums = zeros();
+
+        for (ScoreContribution contribution : contributions) {
+            BigDecimal score = applyDeviationAdjustmentDecimal(contribution.scoreCalculated(),
+                    contribution.deviationTarget());
+            BigDecimal weight = tierWeight(contribution.tier())
+                    .multiply(DecayBucket.of(contribution.createdAt(), now).getFactor());
+            rawSum = rawSum.add(contribution.scoreCalculated());
+            weightedSum = weightedSum.add(score.multiply(weight));
+            totalWeight = totalWeight.add(weight);
+            BigDecimal[] dimensions = dimensionsOf(contribution);
+            for (int d = 0; d < DIMENSIONS; d++) {
+                dimensionSums[d] = dimensionSums[d].add(dimensions[d].multiply(weight));
+            }
+        }
+        return new StoreScoreResult(contributions.size(),
+                average(rawSum, contributions.size()),
+                bayesian(weightedSum, totalWeight),
+                bayesian(dimensionSums, totalWeight));
+    }
+
+    static StoreScoreResult calculateDecimal(Collection<StoreScoreBucket> buckets) {
+        int count = 0;
+        BigDecimal rawSum = BigDecimal.ZERO;
+        BigDecimal weightedSum = BigDecimal.ZERO;
+        BigDecimal totalWeight = BigDecimal.ZERO;
+        BigDecimal[] dimensionSums = zeros();
+
+        for (StoreScoreBucket bucket : buckets) {
+            if (bucket.getReviewCount() <= 0) {
+                continue;
+            }
+            BigDecimal weight = tierWeight(bucket.getTier()).multiply(bucket.getDecayBucket().getFactor());
+            count += bucket.getReviewCount();
+            rawSum = rawSum.add(bucket.getRawScoreSum());
+            weightedSum = weightedSum.add(bucket.getScoreSum().multiply(weight));
+            totalWeight = totalWeight.add(weight.multiply(BigDecimal.valueOf(bucket.getReviewCount())));
+            BigDecimal[] bucketSums = dimensionSumsOf(bucket);
+            for (int d = 0; d < DIMENSIONS; d++) {
+                dimensionSums[d] = dimensionSums[d].add(bucketSums[d].multiply(weight));
+            }
+        }
+        return new StoreScoreResult(count, average(rawSum, count), bayesian(weightedSum, totalWeight),
+                bayesian(dimensionSums, totalWeight));
+    }
+
+    static BigDecimal applyDeviationAdjustmentDecimal(BigDecimal score, boolean deviationTarget) {
+        return deviationTarget ? applyDeviationAdjustmentDecimal(score) : score;
+    }
+
+    private static BigDecimal applyDeviationAdjustmentDecimal(BigDecimal score) {
+        int compare = score.compareTo(BASELINE_SCORE);
+        BigDecimal adjusted = score;
+        if (compare > 0) {
+            adjusted = score.subtract(DEVIATION_ADJUSTMENT);
+        } else if (compare < 0) {
+            adjusted = score.add(DEVIATION_ADJUSTMENT);
+        }
+        if (adjusted.compareTo(MIN_SCORE) < 0) {
+            return MIN_SCORE;
+        }
+        if (adjusted.compareTo(MAX_SCORE) > 0) {
+            return MAX_SCORE;
+        }
+        return adjusted;
+    }
+
+    static BigDecimal average(BigDecimal sum, int count) {
+        if (count == 0) {
+            return BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP);
+        }
+        return sum.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal[] zeros() {
+        BigDecimal[] values = new BigDecimal[DIMENSIONS];
+        Arrays.fill(values, BigDecimal.ZERO);
+        return values;
+    }
+
+    private static DimensionScores bayesian(BigDecimal[] weightedDimensionSums, BigDecimal totalWeight) {
+        return new DimensionScores(bayesian(weightedDimensionSums[TASTE], totalWeight),
+                bayesian(weightedDimensionSums[VALUE], totalWeight),
+                bayesian(weightedDimensionSums[AMBIANCE], totalWeight),
+                bayesian(weightedDimensionSums[SERVICE], totalWeight));
+    }
+
+    static BigDecimal bayesian(BigDecimal weightedSum, BigDecimal totalWeight) {
+        BigDecimal average = totalWeight.compareTo(BigDecimal.ZERO) == 0
+                ? BASELINE_SCORE
+                : weightedSum.divide(totalWeight, 4, RoundingMode.HALF_UP);
+
+        BigDecimal finalScore = average.multiply(totalWeight)
+                .add(BASELINE_SCORE.multiply(MIN_REVIEW_WEIGHT))
+                .divide(totalWeight.add(MIN_REVIEW_WEIGHT), 4, RoundingMode.HALF_UP);
+
+        return finalScore.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,38 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.review.dto.StoreScoreHistoryResponse;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 가게 점수 이력(시계열).
+ * - 점수 재계산에서 바뀐 가게 점수를 원본 이력으로 한 번에(batch) 추가한다.
+ * - 보관 기간이 지난 원본은 일 단위, 일 단위는 주 단위 롤업으로 압축한다.
+ */
+public interface StoreScoreHistoryService {
+
+    /**
+     * 재계산 결과 1건 (기록 시각은 append 시점)
+     */
+    record ScorePoint(Long storeId, BigDecimal scoreWeighted, BigDecimal avgRating, int reviewCountValid,
+                      ScoreChangeReason reason) {
+    }
+
+    /**
+     * 현재 트랜잭션에서 원본 이력을 JDBC batch insert 한다.
+     */
+    void append(Collection<ScorePoint> points);
+
+    /**
+     * 원본 → 일, 일 → 주 롤업 압축
+     * @return 압축(삭제)된 원본 이력 + 일 단위 롤업 수
+     */
+    int compact();
+
+    /**
+     * [from, to] 구간 이력. 압축된 구간은 롤업만 읽는다.
+     */
+    StoreScoreHistoryResponse findHistory(Long storeId, LocalDateTime from, LocalDateTime to);
+}
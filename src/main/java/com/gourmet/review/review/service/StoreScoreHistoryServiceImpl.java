@@ -0,0 +1,198 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.ScoreHistoryProperties;
+import com.gourmet.review.domain.entity.StoreScoreHistory;
+import com.gourmet.review.domain.entity.StoreScoreRollup;
+import com.gourmet.review.domain.enums.ScoreHistoryGranularity;
+import com.gourmet.review.review.dto.StoreScoreHistoryResponse;
+import com.gourmet.review.review.repository.StoreScoreHistoryRepository;
+import com.gourmet.review.review.repository.StoreScoreRollupRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StoreScoreHistoryServiceImpl implements StoreScoreHistoryService {
+
+    private static final String INSERT_SQL = """
+            insert into store_score_history (store_id, recorded_at, score_weighted, avg_rating, review_count_valid, reason)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final StoreScoreHistoryRepository storeScoreHistoryRepository;
+    private final StoreScoreRollupRepository storeScoreRollupRepository;
+    private final StoreRepository storeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScoreHistoryProperties properties;
+    private final Clock clock;
+
+    @Override
+    @Transactional
+    public void append(Collection<ScorePoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Object[]> rows = new ArrayList<>(points.size());
+        for (ScorePoint point : points) {
+            rows.add(new Object[] {point.storeId(), now, point.scoreWeighted(), point.avgRating(),
+                    point.reviewCountValid(), point.reason().name()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Override
+    @Transactional
+    public int compact() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate rawCutoff = today.minusDays(properties.rawRetentionDays());
+        // 주 단위는 월요일 시작 기간이 통째로 보관 기간을 넘었을 때만 압축한다.
+        LocalDate dailyCutoff = today.minusDays(properties.dailyRetentionDays())
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        int rawCompacted = 0;
+        for (List<Long> storeIds : chunks(storeScoreHistoryRepository.findStoreIdsRecordedBefore(rawCutoff.atStartOfDay()))) {
+            rawCompacted += compactRaw(storeIds, rawCutoff);
+        }
+        int dailyCompacted = 0;
+        for (List<Long> storeIds : chunks(storeScoreRollupRepository.findStoreIdsByGranularityAndPeriodStartBefore(
+                ScoreHistoryGranularity.DAILY, dailyCutoff))) {
+            dailyCompacted += compactDaily(storeIds, dailyCutoff);
+        }
+        if (rawCompacted + dailyCompacted > 0) {
+            log.info("가게 점수 이력 압축: 원본 {}건 → 일 단위, 일 단위 {}건 → 주 단위", rawCompacted, dailyCompacted);
+        }
+        return rawCompacted + dailyCompacted;
+    }
+
+    /**
+     * 원본 → 일 단위 롤업 (cutoff 이전 날짜만)
+     */
+    private int compactRaw(List<Long> storeIds, LocalDate cutoff) {
+        Map<RollupKey, StoreScoreRollup> rollups = loadRollups(storeIds, ScoreHistoryGranularity.DAILY, cutoff);
+        List<StoreScoreHistory> points = storeScoreHistoryRepository
+                .findByStoreIdInAndRecordedAtBeforeOrderByRecordedAtAsc(storeIds, cutoff.atStartOfDay());
+        for (StoreScoreHistory point : points) {
+            rollupFor(rollups, point.getStore().getId(), ScoreHistoryGranularity.DAILY, point.getRecordedAt().toLocalDate())
+                    .addPoint(point.getRecordedAt(), point.getScoreWeighted(), point.getAvgRating(), point.getReviewCountValid());
+        }
+        storeScoreRollupRepository.saveAll(rollups.values());
+        storeScoreHistoryRepository.deleteByStoreIdInAndRecordedAtBefore(storeIds, cutoff.atStartOfDay());
+        return points.size();
+    }
+
+    /**
+     * 일 단위 → 주 단위 롤업 (cutoff 이전 주만)
+     */
+    private int compactDaily(List<Long> storeIds, LocalDate cutoff) {
+        Map<RollupKey, StoreScoreRollup> weekly = loadRollups(storeIds, ScoreHistoryGranularity.WEEKLY, cutoff);
+        List<StoreScoreRollup> daily = storeScoreRollupRepository
+                .findByStoreIdInAndGranularityAndPeriodStartBefore(storeIds, ScoreHistoryGranularity.DAILY, cutoff);
+        for (StoreScoreRollup day : daily) {
+            LocalDate week = day.getPeriodStart().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            rollupFor(weekly, day.getStore().getId(), ScoreHistoryGranularity.WEEKLY, week).merge(day);
+        }
+        storeScoreRollupRepository.saveAll(weekly.values());
+        storeScoreRollupRepository.deleteAll(daily);
+        return daily.size();
+    }
+
+    private Map<RollupKey, StoreScoreRollup> loadRollups(List<Long> storeIds, ScoreHistoryGranularity granularity,
+                                                         LocalDate before) {
+        Map<RollupKey, StoreScoreRollup> rollups = new HashMap<>();
+        for (StoreScoreRollup rollup : storeScoreRollupRepository
+                .findByStoreIdInAndGranularityAndPeriodStartBefore(storeIds, granularity, before)) {
+            rollups.put(new RollupKey(rollup.getStore().getId(), rollup.getPeriodStart()), rollup);
+        }
+        return rollups;
+    }
+
+    private StoreScoreRollup rollupFor(Map<RollupKey, StoreScoreRollup> rollups, Long storeId,
+                                       ScoreHistoryGranularity granularity, LocalDate periodStart) {
+        return rollups.computeIfAbsent(new RollupKey(storeId, periodStart), key -> StoreScoreRollup.builder()
+                .store(storeRepository.getReferenceById(storeId))
+                .granularity(granularity)
+                .periodStart(periodStart)
+                .build());
+    }
+
+    @Override
+    public StoreScoreHistoryResponse findHistory(Long storeId, LocalDateTime from, LocalDateTime to) {
+        List<StoreScoreHistoryResponse.Point> points = new ArrayList<>();
+        // 주 단위 롤업은 기간 시작(월요일)이 from 이전이어도 구간과 겹칠 수 있다.
+        storeScoreRollupRepository.findByStoreIdAndGranularityAndPeriodStartBetweenOrderByPeriodStartAsc(
+                        storeId, ScoreHistoryGranularity.WEEKLY, from.toLocalDate().minusDays(6), to.toLocalDate())
+                .forEach(rollup -> points.add(toPoint(rollup)));
+        storeScoreRollupRepository.findByStoreIdAndGranularityAndPeriodStartBetweenOrderByPeriodStartAsc(
+                        storeId, ScoreHistoryGranularity.DAILY, from.toLocalDate(), to.toLocalDate())
+                .forEach(rollup -> points.add(toPoint(rollup)));
+        storeScoreHistoryRepository.findByStoreIdAndRecordedAtBetweenOrderByRecordedAtAsc(storeId, from, to)
+                .forEach(history -> points.add(toPoint(history)));
+        points.sort(Comparator.comparing(StoreScoreHistoryResponse.Point::getPeriodStart));
+
+        return StoreScoreHistoryResponse.builder()
+                .storeId(storeId)
+                .from(from)
+                .to(to)
+                .points(points)
+                .build();
+    }
+
+    private static StoreScoreHistoryResponse.Point toPoint(StoreScoreRollup rollup) {
+        return StoreScoreHistoryResponse.Point.builder()
+                .granularity(rollup.getGranularity())
+                .periodStart(rollup.getPeriodStart().atStartOfDay())
+                .scoreWeighted(rollup.getCloseScoreWeighted())
+                .openScoreWeighted(rollup.getOpenScoreWeighted())
+                .minScoreWeighted(rollup.getMinScoreWeighted())
+                .maxScoreWeighted(rollup.getMaxScoreWeighted())
+                .avgRating(rollup.getAvgRating())
+                .reviewCountValid(rollup.getReviewCountValid())
+                .pointCount(rollup.getPointCount())
+                .build();
+    }
+
+    private static StoreScoreHistoryResponse.Point toPoint(StoreScoreHistory history) {
+        return StoreScoreHistoryResponse.Point.builder()
+                .granularity(ScoreHistoryGranularity.RAW)
+                .periodStart(history.getRecordedAt())
+                .scoreWeighted(history.getScoreWeighted())
+                .openScoreWeighted(history.getScoreWeighted())
+                .minScoreWeighted(history.getScoreWeighted())
+                .maxScoreWeighted(history.getScoreWeighted())
+                .avgRating(history.getAvgRating())
+                .reviewCountValid(history.getReviewCountValid())
+                .pointCount(1)
+                .reason(history.getReason())
+                .build();
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.batchSize()) {
+            chunks.add(ids.subList(from, Math.min(from + properties.batchSize(), ids.size())));
+        }
+        return chunks;
+    }
+
+    private record RollupKey(Long storeId, LocalDate periodStart) {
+    }
+}
@@ -0,0 +1,250 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.StoreRecalculationProperties;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 배치(시간감가/편차 보정/등급 심사)용 가게 점수 재계산 엔진.
+ * - storeId 목록을 청크로 나눠 워커 스레드에서 병렬 처리한다(청크 1개 = 짧은 트랜잭션 1개).
+ * - 점수 재계산 외의 가게 단위 배치 작업(쿨다운 만료 승인 등)도 {@link #process}로 같은 방식으로 돌린다.
+ * - 워커 수는 DB 커넥션 풀 크기에서 reservedConnections 를 뺀 값을 넘지 않는다.
+ * - 실패한 청크는 maxAttempts 까지 재시도하고, 끝까지 실패한 storeId는 결과에 남긴다.
+ * - 미리보기(dry-run)처럼 쓰지 않는 작업은 {@link #read}로 같은 워커에서 읽기 전용 트랜잭션으로 돌린다.
+ */
+@Slf4j
+@Component
+public class StoreScoreRecalculationEngine {
+
+    private final ReviewScoreService reviewScoreService;
+    private final TransactionTemplate chunkTransaction;
+    private final TransactionTemplate readTransaction;
+    private final StoreRecalculationProperties properties;
+    private final ExecutorService executor;
+    private final int workerCount;
+
+    public StoreScoreRecalculationEngine(ReviewScoreService reviewScoreService,
+                                         PlatformTransactionManager transactionManager,
+                                         DataSource dataSource,
+                                         StoreRecalculationProperties properties) {
+        this.reviewScoreService = reviewScoreService;
+        this.properties = properties;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.workerCount = resolveWorkerCount(dataSource, properties);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "store-recalc-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param processedCount 성공한 청크 작업이 돌려준 처리 건수 합계
+     */
+    public record RecalculationReport(PolicyJobType job,
+                                      int storeCount,
+                                      int chunkCount,
+                                      int failedChunkCount,
+                                      List<Long> failedStoreIds,
+                                      int processedCount,
+                                      long elapsedMillis) {
+
+        public boolean succeeded() {
+            return failedChunkCount == 0;
+        }
+    }
+
+    /**
+     * 청크 단위 병렬 재계산. 모든 청크가 끝날 때까지 대기한다.
+     */
+    public RecalculationReport recalculate(PolicyJobType job, Collection<Long> storeIds) {
+        ScoreChangeReason reason = ScoreChangeReason.from(job);
+        return process(job, storeIds, chunk -> {
+            reviewScoreService.recalculateStoreScoresByStoreIds(chunk, reason);
+            return chunk.size();
+        });
+    }
+
+    /**
+     * storeId 청크마다 chunkWork 를 워커 스레드의 새 트랜잭션에서 실행한다. 모든 청크가 끝날 때까지 대기한다.
+     * 실패한 청크는 재시도되므로 chunkWork 는 같은 청크를 다시 실행해도 결과가 같아야 한다.
+     *
+     * @param chunkWork 청크의 storeId 목록을 받아 처리 건수를 돌려준다
+     */
+    public RecalculationReport process(PolicyJobType job, Collection<Long> storeIds, ToIntFunction<List<Long>> chunkWork) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> ids = distinct(storeIds);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += properties.chunkSize()) {
+            chunks.add(List.copyOf(ids.subList(from, Math.min(from + properties.chunkSize(), ids.size()))));
+        }
+
+        Progress progress = new Progress(job, chunks.size(), ids.size());
+        List<CompletableFuture<ChunkResult>> futures = new ArrayList<>();
+        for (List<Long> chunk : chunks) {
+            futures.add(CompletableFuture.supplyAsync(() -> runChunk(job, chunk, chunkWork, progress), executor));
+        }
+
+        List<Long> failedStoreIds = new ArrayList<>();
+        int failedChunkCount = 0;
+        int processedCount = 0;
+        for (CompletableFuture<ChunkResult> future : futures) {
+            ChunkResult result = future.join();
+            processedCount += result.processed();
+            if (!result.failedStoreIds().isEmpty()) {
+                failedChunkCount++;
+                failedStoreIds.addAll(result.failedStoreIds());
+            }
+        }
+
+        RecalculationReport report = new RecalculationReport(job, ids.size(), chunks.size(), failedChunkCount,
+                failedStoreIds, processedCount, System.currentTimeMillis() - startedAt);
+        if (report.succeeded()) {
+            log.info("[{}] 가게 단위 배치 완료: stores={}, chunks={}, processed={}, workers={}, elapsed={}ms",
+                    job, report.storeCount(), report.chunkCount(), processedCount, workerCount, report.elapsedMillis());
+        } else {
+            log.error("[{}] 가게 단위 배치 일부 실패: stores={}, failedChunks={}/{}, failedStoreIds={}",
+                    job, report.storeCount(), failedChunkCount, report.chunkCount(), failedStoreIds);
+        }
+        return report;
+    }
+
+    /**
+     * id 청크마다 chunkWork 를 워커 스레드의 읽기 전용 새 트랜잭션에서 실행하고 청크 결과를 청크 순서대로 돌려준다.
+     * 읽기만 하므로 재시도하지 않는다. 청크가 하나라도 실패하면 그 예외를 던진다.
+     *
+     * @param operation 로그에 남길 작업 이름
+     * @param ids storeId 또는 memberId 목록 (중복/NULL은 정리한다)
+     */
+    public <R> List<R> read(String operation, Collection<Long> ids, Function<List<Long>, R> chunkWork) {
+        List<Long> unique = distinct(ids);
+        List<CompletableFuture<R>> futures = new ArrayList<>();
+        for (int from = 0; from < unique.size(); from += properties.chunkSize()) {
+            List<Long> chunk = List.copyOf(unique.subList(from, Math.min(from + properties.chunkSize(), unique.size())));
+            futures.add(CompletableFuture.supplyAsync(() -> readTransaction.execute(status -> chunkWork.apply(chunk)),
+                    executor));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<R> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            log.warn("[{}] 읽기 전용 청크 실패: {}", operation, e.getCause().toString());
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return results;
+    }
+
+    /**
+     * @return 처리 건수와 끝까지 실패한 storeId 목록(성공 시 빈 목록)
+     */
+    private ChunkResult runChunk(PolicyJobType job, List<Long> chunk, ToIntFunction<List<Long>> chunkWork,
+                                 Progress progress) {
+        for (int attempt = 1; attempt <= properties.maxAttempts(); attempt++) {
+            try {
+                Integer processed = chunkTransaction.execute(status -> chunkWork.applyAsInt(chunk));
+                progress.completed(chunk.size());
+                return new ChunkResult(processed == null ? 0 : processed, List.of());
+            } catch (RuntimeException e) {
+                log.warn("[{}] 재계산 청크 실패 (attempt {}/{}, stores={}..): {}",
+                        job, attempt, properties.maxAttempts(), chunk.get(0), e.toString());
+                if (attempt < properties.maxAttempts() && !backoff(attempt)) {
+                    break;
+                }
+            }
+        }
+        progress.failed();
+        return new ChunkResult(0, chunk);
+    }
+
+    private record ChunkResult(int processed, List<Long> failedStoreIds) {
+    }
+
+    private boolean backoff(int attempt) {
+        try {
+            Thread.sleep(properties.retryBackoffMillis() * attempt);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static int resolveWorkerCount(DataSource dataSource, StoreRecalculationProperties properties) {
+        int workers = properties.threads();
+        if (dataSource instanceof HikariDataSource hikari) {
+            workers = Math.min(workers, hikari.getMaximumPoolSize() - properties.reservedConnections());
+        }
+        return Math.max(1, workers);
+    }
+
+    private static List<Long> distinct(Collection<Long> storeIds) {
+        if (storeIds == null || storeIds.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> unique = new LinkedHashSet<>();
+        storeIds.stream().filter(Objects::nonNull).forEach(unique::add);
+        return List.copyOf(unique);
+    }
+
+    /**
+     * 청크별 진행 상황(DEBUG). 실행 단위 결과는 recalculate 끝에 INFO로 한 번 남긴다.
+     */
+    private static final class Progress {
+        private final PolicyJobType job;
+        private final int totalChunks;
+        private final int totalStores;
+        private final AtomicInteger doneChunks = new AtomicInteger();
+        private final AtomicInteger doneStores = new AtomicInteger();
+
+        private Progress(PolicyJobType job, int totalChunks, int totalStores) {
+            this.job = job;
+            this.totalChunks = totalChunks;
+            this.totalStores = totalStores;
+        }
+
+        private void completed(int stores) {
+            int chunks = doneChunks.incrementAndGet();
+            log.debug("[{}] 재계산 진행 {}/{} chunks, {}/{} stores",
+                    job, chunks, totalChunks, doneStores.addAndGet(stores), totalStores);
+        }
+
+        private void failed() {
+            log.debug("[{}] 재계산 진행 {}/{} chunks (실패 포함)", job, doneChunks.incrementAndGet(), totalChunks);
+        }
+    }
+}
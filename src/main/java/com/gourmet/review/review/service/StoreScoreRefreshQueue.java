@@ -0,0 +1,170 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.StoreScoreRefreshProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 가게 점수(Store.avgRating/scoreWeighted/reviewCountValid) 반영 큐.
+ * - 리뷰 승인/수정/삭제/쿨다운 승인은 집계 셀에 delta만 반영하고, 가게 점수 갱신은 여기에 storeId로 예약한다.
+ * - 트랜잭션 커밋 후에만 큐에 들어가며(롤백 시 버려짐), 같은 가게는 한 번만 들어간다.
+ * - 백그라운드 워커가 windowMillis 주기로 큐를 비운다. 그 사이 같은 가게에 N번 변경이 있어도 점수 갱신은 1번.
+ */
+@Slf4j
+@Component
+public class StoreScoreRefreshQueue {
+
+    private final ReviewScoreService reviewScoreService;
+    private final StoreScoreRefreshProperties properties;
+    private final ScheduledExecutorService worker;
+
+    /** storeId → 최초 예약 시각(System.nanoTime) */
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final Object drainLock = new Object();
+    private final AtomicLong refreshedStores = new AtomicLong();
+    private final AtomicLong coalescedMarks = new AtomicLong();
+    private volatile long lastDrainedAtMillis;
+
+    public StoreScoreRefreshQueue(ReviewScoreService reviewScoreService, StoreScoreRefreshProperties properties) {
+        this.reviewScoreService = reviewScoreService;
+        this.properties = properties;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-score-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.worker.scheduleWithFixedDelay(this::drainQuietly,
+                properties.windowMillis(), properties.windowMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param depth           대기 중인 가게 수
+     * @param oldestLagMillis 가장 오래 기다린 가게의 대기 시간
+     * @param refreshedStores 지금까지 점수를 갱신한 가게 수(누적)
+     * @param coalescedMarks  이미 대기 중이라 합쳐진 예약 수(누적)
+     * @param lastDrainedAt   마지막으로 가게 점수를 갱신한 시각(epoch millis, 없으면 0)
+     */
+    public record Stats(int depth, long oldestLagMillis, long refreshedStores, long coalescedMarks, long lastDrainedAt) {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 가게 점수 갱신을 예약한다(트랜잭션이 없으면 즉시 예약).
+     */
+    public void markDirty(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(List.of(storeId));
+            return;
+        }
+        DirtyStores dirtyStores = null;
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof DirtyStores existing && existing.owner == this) {
+                dirtyStores = existing;
+                break;
+            }
+        }
+        if (dirtyStores == null) {
+            dirtyStores = new DirtyStores(this);
+            TransactionSynchronizationManager.registerSynchronization(dirtyStores);
+        }
+        dirtyStores.storeIds.add(storeId);
+    }
+
+    /**
+     * 대기 중인 가게 점수를 호출 스레드에서 바로 갱신한다(테스트/종료 시).
+     * @return 갱신한 가게 수
+     */
+    public int flush() {
+        synchronized (drainLock) {
+            int refreshed = 0;
+            while (!pending.isEmpty()) {
+                Map<Long, Long> batch = new LinkedHashMap<>();
+                for (Map.Entry<Long, Long> entry : pending.entrySet()) {
+                    if (batch.size() >= properties.batchSize()) {
+                        break;
+                    }
+                    batch.put(entry.getKey(), entry.getValue());
+                }
+                // 먼저 빼고 처리: 처리 중 커밋된 변경은 다시 예약돼 다음 주기에 반영된다.
+                batch.keySet().forEach(pending::remove);
+                try {
+                    reviewScoreService.refreshStoreScores(batch.keySet());
+                } catch (RuntimeException e) {
+                    batch.forEach(pending::putIfAbsent);
+                    throw e;
+                }
+                refreshed += batch.size();
+                refreshedStores.addAndGet(batch.size());
+            }
+            if (refreshed > 0) {
+                lastDrainedAtMillis = System.currentTimeMillis();
+            }
+            return refreshed;
+        }
+    }
+
+    public Stats stats() {
+        long now = System.nanoTime();
+        long oldest = pending.values().stream().mapToLong(Long::longValue).min().orElse(now);
+        return new Stats(pending.size(), TimeUnit.NANOSECONDS.toMillis(now - oldest),
+                refreshedStores.get(), coalescedMarks.get(), lastDrainedAtMillis);
+    }
+
+    private void enqueue(Collection<Long> storeIds) {
+        long now = System.nanoTime();
+        for (Long storeId : storeIds) {
+            if (pending.putIfAbsent(storeId, now) != null) {
+                coalescedMarks.incrementAndGet();
+            }
+        }
+    }
+
+    private void drainQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("가게 점수 반영 실패, 다음 주기에 재시도 (depth={}): {}", pending.size(), e.toString());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdown();
+        drainQuietly();
+    }
+
+    /**
+     * 트랜잭션 단위로 예약된 storeId를 모았다가 커밋 후 큐에 넣는다.
+     */
+    private static final class DirtyStores implements TransactionSynchronization {
+
+        private final StoreScoreRefreshQueue owner;
+        private final Set<Long> storeIds = new LinkedHashSet<>();
+
+        private DirtyStores(StoreScoreRefreshQueue owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public void afterCommit() {
+            owner.enqueue(new ArrayList<>(storeIds));
+        }
+    }
+}
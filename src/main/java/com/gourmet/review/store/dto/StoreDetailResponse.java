@@ -35,6 +35,17 @@ public class StoreDetailResponse {
 
     private BigDecimal avgRating;
 
+    /**
+     * 항목별 가중 평점 (블라인드 가게는 null)
+     */
+    private BigDecimal scoreTaste;
+
+    private BigDecimal scoreValue;
+
+    private BigDecimal scoreAmbiance;
+
+    private BigDecimal scoreService;
+
     private Boolean isBlind;
 
     private String blindMessage;
@@ -1,12 +1,16 @@
 package com.gourmet.review.store.repository;
 
 import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.ReviewStatus;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,6 +19,33 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @EntityGraph(attributePaths = {"category", "region"})
     Optional<Store> findWithCategoryAndRegionById(Long id);
 
+    // ===== 카운터 원자적 증감 =====
+    // 엔티티 로딩/dirty checking 없이 "col = col ± 1" UPDATE 한 번이라 동시 요청에도 유실되지 않는다.
+    // 영속성 컨텍스트는 비우지 않으므로 이미 로딩된 Store의 카운터 값은 갱신 전 값이다.
+    // 그래서 카운터를 이렇게 바꾸는 엔티티(Store, Member, Review)는 @DynamicUpdate 로 변경된 컬럼만 UPDATE 한다:
+    // 같은 트랜잭션에서 다른 필드를 바꿔 저장해도 갱신 전 카운터 값으로 덮어쓰지 않는다.
+    // 감소는 0 아래로 내려가지 않는다. 반환값은 변경된 행 수(0이면 가게 없음 또는 이미 0).
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Store s set s.reviewCount = s.reviewCount + 1 where s.id = :storeId")
+    int incrementReviewCount(@Param("storeId") Long storeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Store s set s.reviewCount = s.reviewCount - 1 where s.id = :storeId and s.reviewCount > 0")
+    int decrementReviewCount(@Param("storeId") Long storeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Store s set s.scrapCount = s.scrapCount + 1 where s.id = :storeId")
+    int incrementScrapCount(@Param("storeId") Long storeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Store s set s.scrapCount = s.scrapCount - 1 where s.id = :storeId and s.scrapCount > 0")
+    int decrementScrapCount(@Param("storeId") Long storeId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Store s set s.viewCount = s.viewCount + 1 where s.id = :storeId")
+    int incrementViewCount(@Param("storeId") Long storeId);
+
     @Query("""
             select s from Store s
             where (:keyword is null or lower(s.name) like lower(concat('%', :keyword, '%')))
@@ -30,4 +61,28 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
                              @Param("minScore") BigDecimal minScore,
                              @Param("maxScore") BigDecimal maxScore,
                              Pageable pageable);
+
+    /**
+     * 해당 상태의 리뷰가 하나라도 있는 storeId를 afterStoreId 다음부터 id 순으로 반환한다(엔티티 없이 id만).
+     * store PK를 keyset으로 따라가며 가게마다 idx_review_store_status 로 존재만 확인하므로,
+     * review 전체를 distinct 정렬하지 않고 페이지 크기만큼만 읽는다. mod(storeId, shardCount) = shardIndex 분할만.
+     */
+    @Query("""
+            select s.id from Store s
+            where s.id > :afterStoreId
+              and mod(s.id, :shardCount) = :shardIndex
+              and exists (select 1 from Review r where r.store = s and r.status = :status)
+            order by s.id
+            """)
+    List<Long> findIdsWithReviewStatusAfter(@Param("status") ReviewStatus status,
+                                            @Param("afterStoreId") Long afterStoreId,
+                                            @Param("shardCount") int shardCount,
+                                            @Param("shardIndex") int shardIndex,
+                                            Pageable pageable);
+
+    /**
+     * 가게에 반영돼 있는 점수 [storeId, scoreWeighted, avgRating, reviewCountValid] (엔티티 조회 없음, 미리보기 비교용)
+     */
+    @Query("select s.id, s.scoreWeighted, s.avgRating, s.reviewCountValid from Store s where s.id in :ids")
+    List<Object[]> findScoreRowsByIdIn(@Param("ids") Collection<Long> ids);
 }
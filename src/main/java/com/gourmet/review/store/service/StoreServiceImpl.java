@@ -80,11 +80,11 @@ public class StoreServiceImpl implements StoreService {
     @Override
     @Transactional
     public StoreDetailResponse getStoreDetail(Long storeId) {
+        // 조회수는 UPDATE 한 번으로 먼저 올리고, 올린 값을 포함해 읽는다.
+        storeRepository.incrementViewCount(storeId);
         Store store = storeRepository.findWithCategoryAndRegionById(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "가게 정보를 찾을 수 없습니다."));
 
-        store.incrementViewCount();
-
         int collectedCount = Math.toIntExact(reviewRepository.countByStoreIdAndStatusIn(storeId,
                 List.of(ReviewStatus.APPROVED, ReviewStatus.BLIND_HELD, ReviewStatus.PUBLIC)));
 
@@ -112,6 +112,10 @@ public class StoreServiceImpl implements StoreService {
                     .longitude(store.getLongitude())
                     .scoreWeighted(null)
                     .avgRating(null)
+                    .scoreTaste(null)
+                    .scoreValue(null)
+                    .scoreAmbiance(null)
+                    .scoreService(null)
                     .isBlind(true)
                     .blindMessage("현재 " + collectedCount + "개의 리뷰가 수집되었습니다. 곧 평점이 공개됩니다.")
                     .reviewCount(store.getReviewCount())
@@ -140,6 +144,10 @@ public class StoreServiceImpl implements StoreService {
                 .longitude(store.getLongitude())
                 .scoreWeighted(store.getScoreWeighted())
                 .avgRating(store.getAvgRating())
+                .scoreTaste(store.getScoreTaste())
+                .scoreValue(store.getScoreValue())
+                .scoreAmbiance(store.getScoreAmbiance())
+                .scoreService(store.getScoreService())
                 .isBlind(store.getIsBlind())
                 .reviewCount(store.getReviewCount())
                 .reviewCountValid(store.getReviewCountValid())
@@ -187,7 +195,7 @@ public class StoreServiceImpl implements StoreService {
                 .member(member)
                 .build());
 
-        store.incrementScrapCount();
+        storeRepository.incrementScrapCount(storeId);
     }
 
     @Override
@@ -198,7 +206,7 @@ public class StoreServiceImpl implements StoreService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "스크랩 정보를 찾을 수 없습니다."));
 
         storeScrapRepository.delete(scrap);
-        scrap.getStore().decrementScrapCount();
+        storeRepository.decrementScrapCount(storeId);
     }
 
     @Override
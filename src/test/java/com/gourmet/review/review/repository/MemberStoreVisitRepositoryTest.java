@@ -0,0 +1,89 @@
+package com.gourmet.review.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.support.TestJpaAuditingConfig;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(TestJpaAuditingConfig.class)
+class MemberStoreVisitRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private MemberStoreVisitRepository memberStoreVisitRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void incrementVisitCount_createsRowThenIncrements() {
+        Member member = entityManager.persist(member("visit1"));
+        Store store = entityManager.persist(store("visit-store"));
+
+        assertThat(memberStoreVisitRepository.incrementVisitCount(member.getId(), store.getId(), NOW)).isEqualTo(1);
+        assertThat(memberStoreVisitRepository.incrementVisitCount(member.getId(), store.getId(), NOW)).isEqualTo(2);
+
+        entityManager.clear();
+        assertThat(memberStoreVisitRepository.findByMemberIdAndStoreId(member.getId(), store.getId()))
+                .get()
+                .extracting("visitCount")
+                .isEqualTo(2);
+    }
+
+    @Test
+    void incrementVisitCounts_upsertsEveryMemberOfStoreInOneCall() {
+        Member existing = entityManager.persist(member("visit-existing"));
+        Member fresh = entityManager.persist(member("visit-fresh"));
+        Store store = entityManager.persist(store("visit-batch"));
+        memberStoreVisitRepository.incrementVisitCount(existing.getId(), store.getId(), NOW);
+
+        Map<Long, Integer> increments = new LinkedHashMap<>();
+        increments.put(existing.getId(), 2);
+        increments.put(fresh.getId(), 1);
+        Map<Long, Integer> visitCounts = memberStoreVisitRepository.incrementVisitCounts(store.getId(), increments, NOW);
+
+        assertThat(visitCounts).containsEntry(existing.getId(), 3).containsEntry(fresh.getId(), 1);
+        assertThat(memberStoreVisitRepository.count()).isEqualTo(2);
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@example.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build();
+    }
+
+    private Store store(String name) {
+        Category category = entityManager.persist(Category.builder().name(name).depth(1).build());
+        Region region = entityManager.persist(Region.builder().name(name).depth(1).build());
+        return Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.gourmet.review.review.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.support.TestJpaAuditingConfig;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(TestJpaAuditingConfig.class)
+class ReviewHelpfulRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private ReviewHelpfulRepository reviewHelpfulRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void insertIfAbsent_insertsOnceAndReturnsAuthor() {
+        Member author = entityManager.persist(member("helpful-author"));
+        Member voter = entityManager.persist(member("helpful-voter"));
+        Review review = entityManager.persist(review(author));
+
+        assertThat(reviewHelpfulRepository.insertIfAbsent(review.getId(), voter.getId(), NOW)).contains(author.getId());
+        // 두 번째 표시는 아무것도 넣지 않는다
+        assertThat(reviewHelpfulRepository.insertIfAbsent(review.getId(), voter.getId(), NOW)).isEmpty();
+        assertThat(reviewHelpfulRepository.existsByReviewIdAndMemberId(review.getId(), voter.getId())).isTrue();
+        assertThat(reviewHelpfulRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void insertIfAbsent_missingReviewOrMember_insertsNothing() {
+        Member author = entityManager.persist(member("helpful-missing"));
+        Review review = entityManager.persist(review(author));
+
+        assertThat(reviewHelpfulRepository.insertIfAbsent(-1L, author.getId(), NOW)).isEmpty();
+        assertThat(reviewHelpfulRepository.insertIfAbsent(review.getId(), -1L, NOW)).isEmpty();
+        assertThat(reviewHelpfulRepository.count()).isZero();
+    }
+
+    @Test
+    void deleteHelpful_returnsDeletedRowCount() {
+        Member author = entityManager.persist(member("unhelpful-author"));
+        Member voter = entityManager.persist(member("unhelpful-voter"));
+        Review review = entityManager.persist(review(author));
+        reviewHelpfulRepository.insertIfAbsent(review.getId(), voter.getId(), NOW);
+
+        assertThat(reviewHelpfulRepository.deleteHelpful(review.getId(), voter.getId())).isEqualTo(1);
+        assertThat(reviewHelpfulRepository.deleteHelpful(review.getId(), voter.getId())).isZero();
+    }
+
+    private Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@example.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build();
+    }
+
+    private Review review(Member author) {
+        Category category = entityManager.persist(Category.builder().name(author.getNickname()).depth(1).build());
+        Region region = entityManager.persist(Region.builder().name(author.getNickname()).depth(1).build());
+        Store store = entityManager.persist(Store.builder()
+                .name(author.getNickname())
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+        BigDecimal value = new BigDecimal("4.0");
+        return Review.builder()
+                .store(store)
+                .member(author)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .scoreCalculated(value)
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.CooldownTimerProperties;
+import com.gourmet.review.review.repository.ReviewRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class CooldownExpiryTimerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private CooldownExpiryTimer timer;
+
+    @AfterEach
+    void tearDown() {
+        if (timer != null) {
+            timer.shutdown();
+        }
+    }
+
+    @Test
+    void schedule_reviewsExpiringTogether_shouldBeApprovedInOneBatchAtExpiry() {
+        // given: 200ms 뒤에 12시간이 되는 리뷰 3건(같은 리뷰 중복 예약 포함, 만료 여유 1초)
+        ReviewPolicyJobService policyJobService = Mockito.mock(ReviewPolicyJobService.class);
+        timer = newTimer(policyJobService, 60_000);
+        LocalDateTime createdAt = NOW.minusHours(12).plusNanos(200_000_000);
+
+        // when
+        timer.schedule(1L, createdAt);
+        timer.schedule(2L, createdAt);
+        timer.schedule(3L, createdAt);
+        timer.schedule(1L, createdAt);
+
+        // then
+        assertThat(timer.size()).isEqualTo(3);
+        verify(policyJobService, timeout(3_000)).approveCooldownExpired(
+                argThat((Collection<Long> ids) -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+        assertThat(timer.size()).isZero();
+    }
+
+    @Test
+    void schedule_notYetExpired_shouldWaitUntilTwelveHours() throws InterruptedException {
+        // given
+        ReviewPolicyJobService policyJobService = Mockito.mock(ReviewPolicyJobService.class);
+        timer = newTimer(policyJobService, 60_000);
+
+        // when: 만료까지 1시간 남음
+        timer.schedule(1L, NOW.minusHours(11));
+        Thread.sleep(200);
+
+        // then
+        Mockito.verifyNoInteractions(policyJobService);
+        assertThat(timer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void fire_failedApproval_shouldRetryAfterDelay() {
+        // given: 첫 승인 트랜잭션 실패
+        ReviewPolicyJobService policyJobService = Mockito.mock(ReviewPolicyJobService.class);
+        Mockito.when(policyJobService.approveCooldownExpired(anyCollection()))
+                .thenThrow(new IllegalStateException("deadlock"))
+                .thenReturn(1);
+        timer = newTimer(policyJobService, 50);
+
+        // when
+        timer.schedule(1L, NOW.minusHours(13));
+
+        // then
+        verify(policyJobService, timeout(3_000).times(2)).approveCooldownExpired(List.of(1L));
+    }
+
+    private static CooldownExpiryTimer newTimer(ReviewPolicyJobService policyJobService, long retryDelayMillis) {
+        return new CooldownExpiryTimer(
+                policyJobService,
+                Mockito.mock(ReviewRepository.class),
+                new CooldownTimerProperties(true, 100, retryDelayMillis),
+                CLOCK
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext
+class HelpfulCountBufferTest {
+
+    @Autowired HelpfulCountBuffer helpfulCountBuffer;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void add_concurrentVotes_shouldFlushSummedDeltasAndPromoteAuthor() throws Exception {
+        // given: 도움됨 95개인 SILVER 작성자(리뷰 30개) - 도움됨 100개부터 GOLD
+        Long[] ids = transactionTemplate.execute(status -> {
+            Member author = memberRepository.save(Member.builder()
+                    .email("helpful@test.com")
+                    .nickname("helpful")
+                    .password("pw")
+                    .role(MemberRole.USER)
+                    .tier(MemberTier.SILVER)
+                    .reviewCount(30)
+                    .helpfulCount(95)
+                    .build());
+            Review review = createPublicReview(createStore("helpful-store"), author);
+            return new Long[] {review.getId(), author.getId()};
+        });
+        Long reviewId = ids[0];
+        Long authorId = ids[1];
+        helpfulCountBuffer.flush();
+
+        // when: 8개 스레드가 10번씩 도움됨, 1개 스레드가 5번 취소
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10; i++) {
+                    transactionTemplate.executeWithoutResult(status -> helpfulCountBuffer.add(reviewId, authorId, 1));
+                }
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            for (int i = 0; i < 5; i++) {
+                helpfulCountBuffer.add(reviewId, authorId, -1);
+            }
+        }));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        // 롤백된 트랜잭션의 도움됨은 버려진다
+        transactionTemplate.executeWithoutResult(status -> {
+            helpfulCountBuffer.add(reviewId, authorId, 1);
+            status.setRollbackOnly();
+        });
+
+        // then: 반영 전에는 행이 바뀌지 않는다
+        assertThat(reviewRepository.findById(reviewId).orElseThrow().getHelpfulCount()).isZero();
+        assertThat(memberRepository.findById(authorId).orElseThrow().getHelpfulCount()).isEqualTo(95);
+
+        assertThat(helpfulCountBuffer.flush()).isEqualTo(1);
+        assertThat(reviewRepository.findById(reviewId).orElseThrow().getHelpfulCount()).isEqualTo(75);
+        Member author = memberRepository.findById(authorId).orElseThrow();
+        assertThat(author.getHelpfulCount()).isEqualTo(170);
+        assertThat(author.getTier()).isEqualTo(MemberTier.GOLD);
+
+        // 변화가 없으면 아무것도 반영하지 않는다
+        assertThat(helpfulCountBuffer.flush()).isZero();
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+
+    private Review createPublicReview(Store store, Member member) {
+        BigDecimal value = new BigDecimal("4.0");
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .scoreCalculated(value)
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+}
@@ -0,0 +1,105 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.JobClusterProperties;
+import com.gourmet.review.domain.entity.JobRun;
+import com.gourmet.review.domain.enums.JobRunMode;
+import com.gourmet.review.domain.enums.JobRunStatus;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.review.repository.JobCheckpointRepository;
+import com.gourmet.review.review.repository.JobLeaseRepository;
+import com.gourmet.review.review.repository.JobRunRepository;
+import com.gourmet.review.review.service.PolicyJobRunner.Chunk;
+import com.gourmet.review.review.service.PolicyJobRunner.JobDefinition;
+import com.gourmet.review.review.service.PolicyJobRunner.RunPlan;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class JobLeaseManagerTest {
+
+    @Autowired JobLeaseRepository jobLeaseRepository;
+    @Autowired JobRunRepository jobRunRepository;
+    @Autowired JobCheckpointRepository jobCheckpointRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired Clock clock;
+
+    @Test
+    void tryAcquire_heldByOtherNode_shouldFailUntilReleased() {
+        // given
+        JobLeaseManager nodeA = newLeaseManager("node-a", false);
+        JobLeaseManager nodeB = newLeaseManager("node-b", false);
+
+        // when & then
+        assertThat(nodeA.tryAcquire("TEST")).isTrue();
+        assertThat(nodeB.tryAcquire("TEST")).isFalse();
+        assertThat(nodeA.tryAcquire("TEST")).isTrue();
+
+        nodeA.release("TEST", true);
+        assertThat(nodeB.tryAcquire("TEST")).isTrue();
+        assertThatThrownBy(() -> nodeA.renew("TEST")).isInstanceOf(IllegalStateException.class);
+        assertThat(jobLeaseRepository.findById("TEST").orElseThrow().getOwnerId()).isEqualTo("node-b");
+    }
+
+    @Test
+    void run_sharded_shouldSplitKeysByHashAndSkipOnNodeWithoutLease() {
+        // given: 살아 있는 노드 2개 → 분할 2개. 키 1..10
+        JobLeaseManager nodeA = newLeaseManager("node-a", true);
+        JobLeaseManager nodeB = newLeaseManager("node-b", true);
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+        Map<Integer, List<Long>> processed = new ConcurrentHashMap<>();
+        JobDefinition definition = JobDefinition.sharded(PolicyJobType.TIME_DECAY,
+                now -> new RunPlan(JobRunMode.FULL, null, now),
+                (run, shard) -> List.of(afterKey -> {
+                    List<Long> keys = LongStream.rangeClosed(afterKey + 1, 10)
+                            .filter(key -> key % shard.count() == shard.index())
+                            .boxed()
+                            .toList();
+                    processed.put(shard.index(), keys);
+                    return Chunk.of(keys, 100, keys.size());
+                }),
+                run -> { });
+
+        // when: A가 작업 임대를 잡은 채로 B가 실행하면(진행 중인 분할 실행 없음) 건너뛴다
+        assertThat(nodeA.tryAcquire(PolicyJobType.TIME_DECAY.name())).isTrue();
+        Optional<JobRun> skipped = newRunner(nodeB).run(definition);
+        nodeA.release(PolicyJobType.TIME_DECAY.name(), false);
+        JobRun run = newRunner(nodeA).run(definition).orElseThrow();
+
+        // then
+        assertThat(skipped).isEmpty();
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getShardCount()).isEqualTo(2);
+        assertThat(run.getScannedCount()).isEqualTo(10);
+        assertThat(processed.get(0)).containsExactly(2L, 4L, 6L, 8L, 10L);
+        assertThat(processed.get(1)).containsExactly(1L, 3L, 5L, 7L, 9L);
+        assertThat(jobCheckpointRepository.findByRunId(run.getId())).isEmpty();
+    }
+
+    private JobLeaseManager newLeaseManager(String nodeId, boolean sharding) {
+        return new JobLeaseManager(jobLeaseRepository,
+                new JobClusterProperties(true, nodeId, 600_000, 0, sharding, 16, 10_000, 0),
+                transactionManager, clock);
+    }
+
+    private PolicyJobRunner newRunner(JobLeaseManager leaseManager) {
+        return new PolicyJobRunner(jobRunRepository, jobCheckpointRepository, leaseManager, transactionTemplate, clock);
+    }
+}
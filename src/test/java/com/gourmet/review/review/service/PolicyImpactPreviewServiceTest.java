@@ -0,0 +1,179 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.JobWatermark;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.PolicyImpactPreviewResponse;
+import com.gourmet.review.review.repository.JobWatermarkRepository;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class PolicyImpactPreviewServiceTest {
+
+    @Autowired PolicyImpactPreviewService policyImpactPreviewService;
+    @Autowired ReviewPolicyJobService policyJobService;
+    @Autowired ReviewScoreService reviewScoreService;
+    @Autowired StoreScoreRefreshQueue storeScoreRefreshQueue;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired JobWatermarkRepository jobWatermarkRepository;
+    @Autowired jakarta.persistence.EntityManager entityManager;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void previewTimeDecay_shouldReportCrossingStoresWithoutChangingScoresOrWatermark() {
+        // given: 고정 시계 2025-01-01T00:00, 지난 실행 2024-12-31T00:00. 미리보기는 워커 트랜잭션에서 읽으므로 커밋해 둔다.
+        List<Long> storeIds = transactionTemplate.execute(status -> {
+            jobWatermarkRepository.save(JobWatermark.builder()
+                    .jobName(PolicyJobType.TIME_DECAY)
+                    .watermarkAt(LocalDateTime.of(2024, 12, 31, 0, 0))
+                    .build());
+            Member member = saveMember("pv-decay", MemberTier.SILVER);
+            Store crossing = saveStore("pv-crossing");
+            Store untouched = saveStore("pv-untouched");
+            Review crossingReview = savePublicReview(crossing, member, "5.0");
+            Review untouchedReview = savePublicReview(untouched, member, "5.0");
+            entityManager.flush();
+            // 6개월 경계를 넘은 리뷰 / 넘지 않은 리뷰
+            setCreatedAt(crossingReview, LocalDateTime.of(2024, 6, 30, 12, 0));
+            setCreatedAt(untouchedReview, LocalDateTime.of(2024, 10, 1, 0, 0));
+            return List.of(crossing.getId(), untouched.getId());
+        });
+        reviewScoreService.recalculateStoreScoresByStoreIds(storeIds, ScoreChangeReason.REBUILD);
+        BigDecimal scoreBefore = storeRepository.findById(storeIds.get(0)).orElseThrow().getScoreWeighted();
+
+        // when
+        PolicyImpactPreviewResponse preview = policyImpactPreviewService.previewTimeDecay(10);
+
+        // then: 경계를 넘은 가게만 다시 계산되고, 감가로 기준 점수(3.0) 쪽으로 내려간다
+        assertThat(preview.getScannedStoreCount()).isEqualTo(1);
+        assertThat(preview.getAffectedStoreCount()).isEqualTo(1);
+        PolicyImpactPreviewResponse.StoreDelta delta = preview.getLargestDeltas().get(0);
+        assertThat(delta.getStoreId()).isEqualTo(storeIds.get(0));
+        assertThat(delta.getCurrentScore()).isEqualByComparingTo(scoreBefore);
+        assertThat(delta.getScoreDelta().signum()).isNegative();
+        assertThat(delta.getPreviewReviewCount()).isEqualTo(delta.getCurrentReviewCount());
+
+        assertThat(storeRepository.findById(storeIds.get(0)).orElseThrow().getScoreWeighted())
+                .isEqualByComparingTo(scoreBefore);
+        assertThat(jobWatermarkRepository.findById(PolicyJobType.TIME_DECAY).orElseThrow().getWatermarkAt())
+                .isEqualTo(LocalDateTime.of(2024, 12, 31, 0, 0));
+    }
+
+    @Test
+    void previewMemberTierChange_black_shouldMatchScoreAfterRealChangeAndWriteNothing() {
+        // given: 가게 1곳에 GOLD 회원 리뷰(제재 대상) + SILVER 회원 리뷰
+        Long[] ids = transactionTemplate.execute(status -> {
+            Member gold = saveMember("pv-gold", MemberTier.GOLD);
+            Member silver = saveMember("pv-silver", MemberTier.SILVER);
+            Store store = saveStore("pv-black");
+            savePublicReview(store, gold, "4.0");
+            savePublicReview(store, silver, "4.0");
+            return new Long[] {gold.getId(), store.getId()};
+        });
+        Long memberId = ids[0];
+        Long storeId = ids[1];
+        reviewScoreService.recalculateStoreScoresByStoreIds(List.of(storeId), ScoreChangeReason.REBUILD);
+
+        // when
+        PolicyImpactPreviewResponse preview = policyImpactPreviewService.previewMemberTierChange(memberId, MemberTier.BLACK, 10);
+
+        // then: 미리보기 결과
+        assertThat(preview.getMemberChangeCount()).isEqualTo(1);
+        assertThat(preview.getMemberChanges().get(0).getToTier()).isEqualTo(MemberTier.BLACK);
+        assertThat(preview.getAffectedStoreCount()).isEqualTo(1);
+        PolicyImpactPreviewResponse.StoreDelta delta = preview.getLargestDeltas().get(0);
+        assertThat(delta.getCurrentReviewCount()).isEqualTo(2);
+        assertThat(delta.getPreviewReviewCount()).isEqualTo(1);
+
+        // 아무것도 바뀌지 않았다
+        assertThat(memberRepository.findById(memberId).orElseThrow().getTier()).isEqualTo(MemberTier.GOLD);
+        assertThat(storeRepository.findById(storeId).orElseThrow().getReviewCountValid()).isEqualTo(2);
+        assertThat(reviewRepository.findByStoreIdAndStatus(storeId, ReviewStatus.PUBLIC)).hasSize(2);
+
+        // 실제로 바꾸면 미리보기 점수와 같다
+        storeScoreRefreshQueue.flush();
+        transactionTemplate.executeWithoutResult(status ->
+                policyJobService.handleMemberTierChanged(memberId, MemberTier.GOLD, MemberTier.BLACK));
+        storeScoreRefreshQueue.flush();
+        Store applied = storeRepository.findById(storeId).orElseThrow();
+        assertThat(applied.getReviewCountValid()).isEqualTo(1);
+        assertThat(applied.getScoreWeighted()).isEqualByComparingTo(delta.getPreviewScore());
+    }
+
+    private Member saveMember(String nickname, MemberTier tier) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(tier)
+                .build());
+    }
+
+    private Store saveStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+
+    private Review savePublicReview(Store store, Member member, String score) {
+        BigDecimal value = new BigDecimal(score);
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .scoreCalculated(value)
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+
+    private void setCreatedAt(Review review, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("update review set created_at = :createdAt where id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", review.getId())
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,193 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.ReviewBulkModerationRequest;
+import com.gourmet.review.review.dto.ReviewBulkModerationRequest.Decision;
+import com.gourmet.review.review.dto.ReviewBulkModerationResponse;
+import com.gourmet.review.review.dto.StoreScoreConsistencyResponse;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ReviewBulkModerationTest {
+
+    @Autowired ReviewService reviewService;
+    @Autowired StoreScoreRefreshQueue storeScoreRefreshQueue;
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void moderateReviews_shouldPublishStoreCrossingThresholdAndHoldOthers() {
+        // given: 가게 A는 BLIND_HELD 2개 + PENDING 3개, 가게 B는 PENDING 3개
+        Member member = saveMember("bulk");
+        Store storeA = saveStore("bulk-a");
+        Store storeB = saveStore("bulk-b");
+        saveReview(storeA, member, ReviewStatus.BLIND_HELD);
+        saveReview(storeA, member, ReviewStatus.BLIND_HELD);
+        Long a1 = saveReview(storeA, member, ReviewStatus.PENDING).getId();
+        Long a2 = saveReview(storeA, member, ReviewStatus.PENDING).getId();
+        Long a3 = saveReview(storeA, member, ReviewStatus.PENDING).getId();
+        Long b1 = saveReview(storeB, member, ReviewStatus.PENDING).getId();
+        Long b2 = saveReview(storeB, member, ReviewStatus.PENDING).getId();
+        Long b3 = saveReview(storeB, member, ReviewStatus.PENDING).getId();
+
+        // when: A 3건 승인, B 1건 승인/1건 반려, 실패 항목(반려 사유 없음/중복/없는 리뷰) 포함
+        ReviewBulkModerationResponse response = reviewService.moderateReviews(new ReviewBulkModerationRequest(List.of(
+                item(a1, Decision.APPROVE, null),
+                item(a2, Decision.APPROVE, null),
+                item(b1, Decision.APPROVE, null),
+                item(b2, Decision.REJECT, "광고성 리뷰"),
+                item(b3, Decision.REJECT, " "),
+                item(a3, Decision.APPROVE, null),
+                item(a1, Decision.REJECT, "중복"),
+                item(-1L, Decision.APPROVE, null))));
+
+        // then: 항목별 결과는 요청 순서대로
+        assertThat(response.getRequestedCount()).isEqualTo(8);
+        assertThat(response.getSucceededCount()).isEqualTo(5);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getRescoredStoreCount()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(ReviewBulkModerationResponse.ItemResult::getStatus)
+                .containsExactly(ReviewStatus.PUBLIC, ReviewStatus.PUBLIC, ReviewStatus.BLIND_HELD,
+                        ReviewStatus.REJECTED, ReviewStatus.PENDING, ReviewStatus.PUBLIC, ReviewStatus.PENDING, null);
+        assertThat(response.getResults()).extracting(ReviewBulkModerationResponse.ItemResult::getSuccess)
+                .containsExactly(true, true, true, true, false, true, false, false);
+
+        // 가게 A는 기존 BLIND_HELD까지 모두 공개, 가게 B는 기준 미달로 블라인드 유지
+        assertThat(reviewRepository.findByStoreIdAndStatus(storeA.getId(), ReviewStatus.PUBLIC)).hasSize(5);
+        assertThat(reviewRepository.findById(b1).orElseThrow().getStatus()).isEqualTo(ReviewStatus.BLIND_HELD);
+        Review rejected = reviewRepository.findById(b2).orElseThrow();
+        assertThat(rejected.getStatus()).isEqualTo(ReviewStatus.REJECTED);
+        assertThat(rejected.getAdminComment()).isEqualTo("광고성 리뷰");
+        assertThat(reviewRepository.findById(b3).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PENDING);
+
+        storeScoreRefreshQueue.flush();
+        assertThat(storeRepository.findById(storeA.getId()).orElseThrow().getReviewCountValid()).isEqualTo(5);
+        assertThat(storeRepository.findById(storeB.getId()).orElseThrow().getReviewCountValid()).isZero();
+    }
+
+    @Test
+    void moderateReviews_concurrentApprovals_shouldPublishAndApplyContributionsOnce() throws Exception {
+        // given: BLIND_HELD 2개 + PENDING 3개(승인하면 5개가 되어 공개 전환)
+        Member member = saveMember("bulk-race");
+        Store store = saveStore("bulk-race");
+        saveReview(store, member, ReviewStatus.BLIND_HELD);
+        saveReview(store, member, ReviewStatus.BLIND_HELD);
+        List<Long> pendingIds = List.of(
+                saveReview(store, member, ReviewStatus.PENDING).getId(),
+                saveReview(store, member, ReviewStatus.PENDING).getId(),
+                saveReview(store, member, ReviewStatus.PENDING).getId());
+        ReviewBulkModerationRequest request = new ReviewBulkModerationRequest(pendingIds.stream()
+                .map(id -> item(id, Decision.APPROVE, null))
+                .toList());
+
+        // when: 관리자 여러 명이 같은 리뷰를 동시에 승인
+        int moderators = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(moderators);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReviewBulkModerationResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < moderators; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return reviewService.moderateReviews(request);
+            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<ReviewBulkModerationResponse> future : futures) {
+            try {
+                succeeded += future.get().getSucceededCount();
+            } catch (ExecutionException e) {
+                // 겹친 검수는 BusinessException으로 롤백된다
+            }
+        }
+        executor.shutdown();
+
+        // then: 한 번만 승인되고 기여분도 한 번만 반영된다
+        assertThat(succeeded).isEqualTo(3);
+        assertThat(reviewRepository.findByStoreIdAndStatus(store.getId(), ReviewStatus.PUBLIC)).hasSize(5);
+        StoreScoreConsistencyResponse report = storeScoreAggregateService.verify(store.getId());
+        assertThat(report.getConsistent()).isTrue();
+        assertThat(report.getAggregateReviewCount()).isEqualTo(5);
+    }
+
+    private static ReviewBulkModerationRequest.Item item(Long reviewId, Decision decision, String adminComment) {
+        return new ReviewBulkModerationRequest.Item(reviewId, decision, adminComment);
+    }
+
+    private Member saveMember(String nickname) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+    }
+
+    private Store saveStore(String name) {
+        return transactionTemplate.execute(status -> {
+            Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+            Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+            return storeRepository.save(Store.builder()
+                    .name(name)
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build());
+        });
+    }
+
+    private Review saveReview(Store store, Member member, ReviewStatus status) {
+        BigDecimal value = new BigDecimal("4.0");
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .scoreCalculated(value)
+                .status(status)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+}
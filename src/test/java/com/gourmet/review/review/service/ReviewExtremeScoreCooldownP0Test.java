@@ -9,7 +9,7 @@ import com.gourmet.review.domain.enums.MemberRole;
 import com.gourmet.review.domain.enums.MemberTier;
 import com.gourmet.review.domain.enums.ReviewStatus;
 import com.gourmet.review.member.repository.MemberRepository;
-import com.gourmet.review.review.repository.MemberStoreVisitRepository;
+import com.gourmet.review.review.repository.JobWatermarkRepository;
 import com.gourmet.review.review.repository.ReviewRepository;
 import com.gourmet.review.store.repository.StoreRepository;
 import java.math.BigDecimal;
@@ -59,15 +59,19 @@ class ReviewExtremeScoreCooldownP0Test {
         ReviewRepository reviewRepository = Mockito.mock(ReviewRepository.class);
         MemberRepository memberRepository = Mockito.mock(MemberRepository.class);
         StoreRepository storeRepository = Mockito.mock(StoreRepository.class);
-        MemberStoreVisitRepository memberStoreVisitRepository = Mockito.mock(MemberStoreVisitRepository.class);
-        ReviewScoreService reviewScoreService = Mockito.mock(ReviewScoreService.class);
+        JobWatermarkRepository jobWatermarkRepository = Mockito.mock(JobWatermarkRepository.class);
+        StoreScoreAggregateService storeScoreAggregateService = Mockito.mock(StoreScoreAggregateService.class);
 
         ReviewPolicyJobServiceImpl impl = new ReviewPolicyJobServiceImpl(
                 reviewRepository,
-                memberRepository,
                 storeRepository,
-                memberStoreVisitRepository,
-                reviewScoreService,
+                memberRepository,
+                jobWatermarkRepository,
+                storeScoreAggregateService,
+                Mockito.mock(MemberVisitCounter.class),
+                Mockito.mock(StoreScoreRecalculationEngine.class),
+                Mockito.mock(StoreScoreRefreshQueue.class),
+                Mockito.mock(PolicyJobRunner.class),
                 java.time.Clock.systemUTC()
         );
 
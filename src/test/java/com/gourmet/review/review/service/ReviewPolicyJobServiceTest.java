@@ -1,25 +1,48 @@
 package com.gourmet.review.review.service;
 
 import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.JobCheckpoint;
+import com.gourmet.review.domain.entity.JobRun;
+import com.gourmet.review.domain.entity.JobWatermark;
 import com.gourmet.review.domain.entity.Member;
 import com.gourmet.review.domain.entity.Region;
 import com.gourmet.review.domain.entity.Review;
 import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.JobRunMode;
+import com.gourmet.review.domain.enums.JobRunStatus;
 import com.gourmet.review.domain.enums.MemberRole;
 import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.PolicyJobType;
 import com.gourmet.review.domain.enums.ReviewStatus;
 import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.JobRunResponse;
+import com.gourmet.review.review.dto.StoreScoreConsistencyResponse;
+import com.gourmet.review.review.repository.JobCheckpointRepository;
+import com.gourmet.review.review.repository.JobRunRepository;
+import com.gourmet.review.review.repository.JobWatermarkRepository;
 import com.gourmet.review.review.repository.ReviewRepository;
 import com.gourmet.review.store.repository.CategoryRepository;
 import com.gourmet.review.store.repository.RegionRepository;
 import com.gourmet.review.store.repository.StoreRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -34,7 +57,17 @@ class ReviewPolicyJobServiceTest {
     @Autowired StoreRepository storeRepository;
     @Autowired CategoryRepository categoryRepository;
     @Autowired RegionRepository regionRepository;
+    @Autowired JobWatermarkRepository jobWatermarkRepository;
+    @Autowired JobRunRepository jobRunRepository;
+    @Autowired JobCheckpointRepository jobCheckpointRepository;
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
     @Autowired jakarta.persistence.EntityManager entityManager;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired StoreScoreRefreshQueue storeScoreRefreshQueue;
+    @Autowired MemberVisitCounter memberVisitCounter;
+    @Autowired StoreScoreRecalculationEngine recalculationEngine;
+    @Autowired PolicyJobRunner policyJobRunner;
+    @Autowired java.time.Clock clock;
 
     @Test
     @org.junit.jupiter.api.Disabled("Auditing createdAt 조작이 DB에 반영되지 않아 쿼리 기반 만료 테스트가 불안정함. 로직 단위 테스트로 대체.")
@@ -183,6 +216,624 @@ class ReviewPolicyJobServiceTest {
         assertThat(reloaded.getIsDeviationTarget()).isTrue();
     }
 
+    @Test
+    @Transactional
+    void handleMemberTierChanged_black_shouldSuspendAllPublicReviewsInBulkAndKeepAggregateConsistent() {
+        // given: 가게 2곳에 PUBLIC 리뷰 3건 + 승인 대기 1건, 다른 회원 PUBLIC 1건
+        Member banned = saveMember("bulk-banned", MemberTier.SILVER, null);
+        Member other = saveMember("bulk-other", MemberTier.SILVER, null);
+        Category category = categoryRepository.save(Category.builder().name("c12").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r12").depth(1).build());
+        List<Store> stores = new java.util.ArrayList<>();
+        for (String name : List.of("s12-a", "s12-b")) {
+            stores.add(storeRepository.save(Store.builder()
+                    .name(name)
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build()));
+        }
+        List<Review> publicReviews = List.of(savePublicReview(stores.get(0), banned),
+                savePublicReview(stores.get(0), banned), savePublicReview(stores.get(1), banned),
+                savePublicReview(stores.get(0), other));
+        publicReviews.forEach(review -> storeScoreAggregateService.add(ScoreContribution.from(review)));
+        Review pending = savePendingReview(stores.get(1), banned, "4.0");
+
+        // when
+        banned.forceUpdateTier(MemberTier.BLACK);
+        policyJobService.handleMemberTierChanged(banned.getId(), MemberTier.SILVER, MemberTier.BLACK);
+
+        // then
+        for (int i = 0; i < 3; i++) {
+            Review suspended = reviewRepository.findById(publicReviews.get(i).getId()).orElseThrow();
+            assertThat(suspended.getStatus()).isEqualTo(ReviewStatus.SUSPENDED);
+            assertThat(suspended.getAdminComment()).isEqualTo("BLACK 등급 전환으로 인한 일시정지");
+        }
+        assertThat(reviewRepository.findById(publicReviews.get(3).getId()).orElseThrow().getStatus())
+                .isEqualTo(ReviewStatus.PUBLIC);
+        assertThat(reviewRepository.findById(pending.getId()).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PENDING);
+        for (Store store : stores) {
+            assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isTrue();
+        }
+    }
+
+    @Test
+    @Transactional
+    void handleMemberTierChanged_promotion_shouldMoveMemberContributionsInAggregate() {
+        // given
+        Member promoted = memberRepository.save(Member.builder()
+                .email("e@test.com")
+                .nickname("e")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+        Member other = memberRepository.save(Member.builder()
+                .email("f@test.com")
+                .nickname("f")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.BRONZE)
+                .build());
+
+        Category category = categoryRepository.save(Category.builder().name("c5").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r5").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s5")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+
+        for (Review review : List.of(savePublicReview(store, promoted), savePublicReview(store, promoted),
+                savePublicReview(store, other))) {
+            storeScoreAggregateService.add(ScoreContribution.from(review));
+        }
+
+        // when
+        promoted.forceUpdateTier(MemberTier.GOLD);
+        policyJobService.handleMemberTierChanged(promoted.getId(), MemberTier.SILVER, MemberTier.GOLD);
+
+        // then
+        assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void refreshDeviationTargets_flip_shouldMoveMemberContributionsInAggregate() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .email("g@test.com")
+                .nickname("g")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.GOLD)
+                .build());
+
+        Category category = categoryRepository.save(Category.builder().name("c6").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r6").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s6")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+
+        for (int i = 0; i < 20; i++) {
+            BigDecimal score = new BigDecimal(i % 2 == 0 ? "5.0" : "1.0");
+            Review review = reviewRepository.save(Review.builder()
+                    .store(store)
+                    .member(member)
+                    .content("c" + i)
+                    .partySize(1)
+                    .scoreTaste(score)
+                    .scoreValue(score)
+                    .scoreAmbiance(score)
+                    .scoreService(score)
+                    .status(ReviewStatus.PUBLIC)
+                    .visitDate(LocalDate.now())
+                    .build());
+            storeScoreAggregateService.add(ScoreContribution.from(review));
+        }
+
+        // when
+        policyJobService.refreshDeviationTargets();
+
+        // then
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getIsDeviationTarget()).isTrue();
+        assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void refreshDeviationTargets_shouldUseOnlyLatestTwentyReviewsAndClearMembersWithoutSample() {
+        // given: 오래된 보통 점수 3건 + 최근 극단 점수 20건 → 최근 20건 기준 비율 1.0 (전체 기준이면 0.87)
+        Member extreme = memberRepository.save(Member.builder()
+                .email("h@test.com")
+                .nickname("h")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+        // 이전에 보정 대상이었지만 리뷰가 없는 회원
+        Member cleared = memberRepository.save(Member.builder()
+                .email("i@test.com")
+                .nickname("i")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+        cleared.markAsDeviationTarget(true);
+
+        Category category = categoryRepository.save(Category.builder().name("c7").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r7").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s7")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            savePublicReview(store, extreme);
+        }
+        for (int i = 0; i < 20; i++) {
+            BigDecimal score = new BigDecimal("5.0");
+            reviewRepository.save(Review.builder()
+                    .store(store)
+                    .member(extreme)
+                    .content("e" + i)
+                    .partySize(1)
+                    .scoreTaste(score)
+                    .scoreValue(score)
+                    .scoreAmbiance(score)
+                    .scoreService(score)
+                    .scoreCalculated(score)
+                    .status(ReviewStatus.PUBLIC)
+                    .visitDate(LocalDate.now())
+                    .build());
+        }
+        entityManager.flush();
+
+        // when
+        int updated = policyJobService.refreshDeviationTargets();
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(memberRepository.findById(extreme.getId()).orElseThrow().getIsDeviationTarget()).isTrue();
+        assertThat(memberRepository.findById(cleared.getId()).orElseThrow().getIsDeviationTarget()).isFalse();
+    }
+
+    @Test
+    @Transactional
+    void refreshDeviationTargets_incremental_shouldOnlyScanMembersWithChangedReviews() {
+        // given: 최근 전체 실행 성공(2024-12-30) + 워터마크 2024-12-31 → 증분 실행
+        jobRunRepository.save(JobRun.builder()
+                .jobName(PolicyJobType.DEVIATION)
+                .runMode(JobRunMode.FULL)
+                .status(JobRunStatus.SUCCEEDED)
+                .watermarkTo(LocalDateTime.of(2024, 12, 30, 0, 0))
+                .startedAt(LocalDateTime.of(2024, 12, 30, 0, 0))
+                .build());
+        jobWatermarkRepository.save(JobWatermark.builder()
+                .jobName(PolicyJobType.DEVIATION)
+                .watermarkAt(LocalDateTime.of(2024, 12, 31, 0, 0))
+                .build());
+
+        Member changed = memberRepository.save(Member.builder()
+                .email("j@test.com")
+                .nickname("j")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+        // 리뷰 변경이 없는 회원은 증분 실행에서 건드리지 않는다(전체 실행이었다면 해제됐을 상태)
+        Member untouched = memberRepository.save(Member.builder()
+                .email("k@test.com")
+                .nickname("k")
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+        untouched.markAsDeviationTarget(true);
+
+        Category category = categoryRepository.save(Category.builder().name("c8").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r8").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s8")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+        for (int i = 0; i < 20; i++) {
+            BigDecimal score = new BigDecimal("1.0");
+            reviewRepository.save(Review.builder()
+                    .store(store)
+                    .member(changed)
+                    .content("j" + i)
+                    .partySize(1)
+                    .scoreTaste(score)
+                    .scoreValue(score)
+                    .scoreAmbiance(score)
+                    .scoreService(score)
+                    .scoreCalculated(score)
+                    .status(ReviewStatus.PUBLIC)
+                    .visitDate(LocalDate.now())
+                    .build());
+        }
+        entityManager.flush();
+
+        // when
+        int updated = policyJobService.refreshDeviationTargets();
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberRepository.findById(changed.getId()).orElseThrow().getIsDeviationTarget()).isTrue();
+        assertThat(memberRepository.findById(untouched.getId()).orElseThrow().getIsDeviationTarget()).isTrue();
+
+        JobRun run = jobRunRepository.findFirstByJobNameAndRunModeAndStatusOrderByStartedAtDesc(
+                PolicyJobType.DEVIATION, JobRunMode.INCREMENTAL, JobRunStatus.SUCCEEDED).orElseThrow();
+        assertThat(run.getScannedCount()).isEqualTo(1);
+        assertThat(run.getUpdatedCount()).isEqualTo(1);
+        assertThat(run.getWatermarkFrom()).isEqualTo(LocalDateTime.of(2024, 12, 30, 23, 50));
+        assertThat(run.getDurationMillis()).isNotNull();
+        assertThat(jobWatermarkRepository.findById(PolicyJobType.DEVIATION).orElseThrow().getWatermarkAt())
+                .isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @Test
+    @Transactional
+    void refreshDeviationTargets_interruptedRun_shouldResumeFromCheckpoint() {
+        // given: 극단 점수 패턴 회원 2명, 첫 번째 회원까지 처리하고 중단된 전체 실행
+        Category category = categoryRepository.save(Category.builder().name("c11").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r11").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s11")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+        Member done = saveMember("resume-done", MemberTier.SILVER, null);
+        Member remaining = saveMember("resume-remaining", MemberTier.SILVER, null);
+        for (Member member : List.of(done, remaining)) {
+            for (int i = 0; i < 20; i++) {
+                BigDecimal score = new BigDecimal("5.0");
+                reviewRepository.save(Review.builder()
+                        .store(store)
+                        .member(member)
+                        .content(member.getNickname() + i)
+                        .partySize(1)
+                        .scoreTaste(score)
+                        .scoreValue(score)
+                        .scoreAmbiance(score)
+                        .scoreService(score)
+                        .scoreCalculated(score)
+                        .status(ReviewStatus.PUBLIC)
+                        .visitDate(LocalDate.now())
+                        .build());
+            }
+        }
+        JobRun interrupted = jobRunRepository.save(JobRun.builder()
+                .jobName(PolicyJobType.DEVIATION)
+                .runMode(JobRunMode.FULL)
+                .status(JobRunStatus.FAILED)
+                .watermarkTo(LocalDateTime.of(2024, 12, 31, 2, 0))
+                .scannedCount(1)
+                .chunkCount(1)
+                .startedAt(LocalDateTime.of(2024, 12, 31, 2, 0))
+                .durationMillis(100L)
+                .build());
+        jobCheckpointRepository.save(JobCheckpoint.builder()
+                .checkpointKey(JobCheckpoint.keyOf(PolicyJobType.DEVIATION, 0))
+                .jobName(PolicyJobType.DEVIATION)
+                .shardIndex(0)
+                .runId(interrupted.getId())
+                .lastKey(done.getId())
+                .build());
+        entityManager.flush();
+
+        // when
+        int updated = policyJobService.refreshDeviationTargets();
+
+        // then: 체크포인트 다음 회원만 처리하고, 같은 실행을 원래 구간으로 마무리한다
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberRepository.findById(done.getId()).orElseThrow().getIsDeviationTarget()).isFalse();
+        assertThat(memberRepository.findById(remaining.getId()).orElseThrow().getIsDeviationTarget()).isTrue();
+
+        JobRun run = jobRunRepository.findById(interrupted.getId()).orElseThrow();
+        assertThat(run.getStatus()).isEqualTo(JobRunStatus.SUCCEEDED);
+        assertThat(run.getResumeCount()).isEqualTo(1);
+        assertThat(run.getScannedCount()).isEqualTo(2);
+        assertThat(run.getChunkCount()).isEqualTo(2);
+        assertThat(run.getDurationMillis()).isGreaterThanOrEqualTo(100L);
+        assertThat(jobRunRepository.count()).isEqualTo(1);
+        assertThat(jobCheckpointRepository.findByJobNameOrderByShardIndex(PolicyJobType.DEVIATION)).isEmpty();
+        assertThat(jobWatermarkRepository.findById(PolicyJobType.DEVIATION).orElseThrow().getWatermarkAt())
+                .isEqualTo(LocalDateTime.of(2024, 12, 31, 2, 0));
+
+        JobRunResponse response = policyJobService.findRecentRuns(PolicyJobType.DEVIATION, 20).get(0);
+        assertThat(response.getId()).isEqualTo(run.getId());
+        assertThat(response.getShards()).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void runTierEvaluation_shouldDemoteIdleGoldAndInactiveGourmetAndMoveContributions() {
+        // given: 기준 시각 2025-01-01
+        Member idleGold = saveMember("l", MemberTier.GOLD, LocalDateTime.of(2023, 12, 1, 0, 0));
+        Member activeGold = saveMember("m", MemberTier.GOLD, LocalDateTime.of(2024, 12, 1, 0, 0));
+        Member inactiveGourmet = saveMember("n", MemberTier.GOURMET, LocalDateTime.of(2024, 12, 1, 0, 0));
+        Member activeGourmet = saveMember("o", MemberTier.GOURMET, LocalDateTime.of(2024, 12, 1, 0, 0));
+
+        Category category = categoryRepository.save(Category.builder().name("c9").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r9").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s9")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+        storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(store, idleGold)));
+        for (int i = 0; i < 2; i++) {
+            storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(store, inactiveGourmet)));
+        }
+        for (int i = 0; i < 10; i++) {
+            storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(store, activeGourmet)));
+        }
+
+        // when
+        int changed = policyJobService.runTierEvaluation();
+
+        // then: GOURMET → GOLD 강등자는 같은 실행에서 SILVER까지 내려가지 않는다
+        assertThat(changed).isEqualTo(2);
+        assertThat(memberRepository.findById(idleGold.getId()).orElseThrow().getTier()).isEqualTo(MemberTier.SILVER);
+        assertThat(memberRepository.findById(activeGold.getId()).orElseThrow().getTier()).isEqualTo(MemberTier.GOLD);
+        assertThat(memberRepository.findById(inactiveGourmet.getId()).orElseThrow().getTier()).isEqualTo(MemberTier.GOLD);
+        assertThat(memberRepository.findById(activeGourmet.getId()).orElseThrow().getTier()).isEqualTo(MemberTier.GOURMET);
+        assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isTrue();
+    }
+
+    @Test
+    @Transactional
+    void runTierEvaluation_candidateChangedAfterScan_shouldNotMoveItsContributions() {
+        // given: 1년 넘게 리뷰가 없는 GOLD 회원 2명
+        Member demoted = saveMember("p", MemberTier.GOLD, LocalDateTime.of(2023, 12, 1, 0, 0));
+        Member changed = saveMember("q", MemberTier.GOLD, LocalDateTime.of(2023, 12, 1, 0, 0));
+
+        Category category = categoryRepository.save(Category.builder().name("c13").depth(1).build());
+        Region region = regionRepository.save(Region.builder().name("r13").depth(1).build());
+        Store store = storeRepository.save(Store.builder()
+                .name("s13")
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+        storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(store, demoted)));
+        storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(store, changed)));
+
+        // 후보 조회 직후 한 회원의 등급이 다른 경로(관리자 변경)로 SILVER가 된다(그쪽에서 기여분을 이미 옮김)
+        MemberRepository racingRepository = Mockito.mock(MemberRepository.class, AdditionalAnswers.delegatesTo(memberRepository));
+        Mockito.doAnswer(invocation -> {
+            List<Object[]> candidates = memberRepository.findTierCandidatesIdleSince(invocation.getArgument(0),
+                    invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3));
+            memberRepository.updateTier(List.of(changed.getId()), MemberTier.GOLD, MemberTier.SILVER,
+                    LocalDateTime.now(clock));
+            policyJobService.handleMemberTierChanged(changed.getId(), MemberTier.GOLD, MemberTier.SILVER);
+            return candidates;
+        }).when(racingRepository).findTierCandidatesIdleSince(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        ReviewPolicyJobServiceImpl racingService = new ReviewPolicyJobServiceImpl(reviewRepository, storeRepository,
+                racingRepository, jobWatermarkRepository, storeScoreAggregateService, memberVisitCounter,
+                recalculationEngine, storeScoreRefreshQueue, policyJobRunner, clock);
+
+        // when
+        int updated = racingService.runTierEvaluation();
+
+        // then: 실제로 강등된 회원의 기여분만 옮겨진다
+        assertThat(updated).isEqualTo(1);
+        assertThat(memberRepository.findById(demoted.getId()).orElseThrow().getTier()).isEqualTo(MemberTier.SILVER);
+        assertThat(memberRepository.findById(changed.getId()).orElseThrow().getTier()).isEqualTo(MemberTier.SILVER);
+        StoreScoreConsistencyResponse report = storeScoreAggregateService.verify(store.getId());
+        assertThat(report.getConsistent()).isTrue();
+        assertThat(report.getAggregateReviewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void recalculateStoresForTimeDecay_shouldOnlyRescoreStoresCrossingDecayBoundary() {
+        // given: 고정 시계 2025-01-01T00:00, 지난 실행 2024-12-31T00:00
+        // 재계산은 배치 트랜잭션 커밋 후 별도 트랜잭션에서 실행되므로 given 데이터도 커밋해 둔다.
+        List<Long> storeIds = transactionTemplate.execute(status -> {
+            jobWatermarkRepository.save(JobWatermark.builder()
+                    .jobName(PolicyJobType.TIME_DECAY)
+                    .watermarkAt(LocalDateTime.of(2024, 12, 31, 0, 0))
+                    .build());
+
+            Member member = memberRepository.save(Member.builder()
+                    .email("d@test.com")
+                    .nickname("d")
+                    .password("pw")
+                    .role(MemberRole.USER)
+                    .tier(MemberTier.SILVER)
+                    .build());
+
+            Category category = categoryRepository.save(Category.builder().name("c4").depth(1).build());
+            Region region = regionRepository.save(Region.builder().name("r4").depth(1).build());
+            Store crossing = storeRepository.save(Store.builder()
+                    .name("s4-crossing")
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build());
+            Store untouched = storeRepository.save(Store.builder()
+                    .name("s4-untouched")
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build());
+
+            Review crossingReview = savePublicReview(crossing, member);
+            Review untouchedReview = savePublicReview(untouched, member);
+            entityManager.flush();
+
+            // 6개월 경계(2024-07-01T00:00 → 2024-06-30T00:00 사이)를 넘은 리뷰 / 넘지 않은 리뷰
+            setCreatedAt(crossingReview, LocalDateTime.of(2024, 6, 30, 12, 0));
+            setCreatedAt(untouchedReview, LocalDateTime.of(2024, 10, 1, 0, 0));
+            return List.of(crossing.getId(), untouched.getId());
+        });
+        Long crossingId = storeIds.get(0);
+        Long untouchedId = storeIds.get(1);
+
+        // when
+        int rescored = policyJobService.recalculateStoresForTimeDecay();
+
+        // then
+        assertThat(rescored).isEqualTo(1);
+        assertThat(jobWatermarkRepository.findById(PolicyJobType.TIME_DECAY).orElseThrow().getWatermarkAt())
+                .isEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(storeScoreAggregateService.verify(crossingId).getConsistent()).isTrue();
+        assertThat(storeRepository.findById(crossingId).orElseThrow().getReviewCountValid()).isEqualTo(1);
+        assertThat(storeRepository.findById(untouchedId).orElseThrow().getReviewCountValid()).isZero();
+    }
+
+    @Test
+    void processCooldownExpirations_shouldPublishOncePerStoreAndHoldStoresBelowBlindThreshold() {
+        // given: 고정 시계 2025-01-01T00:00 → 2024-12-31T12:00 이전 작성분이 만료
+        // 가게 단위 청크는 워커 트랜잭션에서 실행되므로 given 데이터도 커밋해 둔다.
+        storeScoreRefreshQueue.flush();
+        Map<String, Long> ids = transactionTemplate.execute(status -> {
+            Member member = saveMember("p", MemberTier.BRONZE, null);
+            Category category = categoryRepository.save(Category.builder().name("c10").depth(1).build());
+            Region region = regionRepository.save(Region.builder().name("r10").depth(1).build());
+            Store open = storeRepository.save(Store.builder()
+                    .name("s10-open")
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build());
+            Store blind = storeRepository.save(Store.builder()
+                    .name("s10-blind")
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build());
+
+            for (int i = 0; i < 3; i++) {
+                storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(open, member)));
+            }
+            Review extreme1 = savePendingReview(open, member, "5.0");
+            Review extreme2 = savePendingReview(open, member, "1.0");
+            Review normal = savePendingReview(open, member, "4.0");
+            Review blindExtreme = savePendingReview(blind, member, "5.0");
+            entityManager.flush();
+            for (Review review : List.of(extreme1, extreme2, normal, blindExtreme)) {
+                setCreatedAt(review, LocalDateTime.of(2024, 12, 31, 0, 0));
+            }
+            return Map.of("open", open.getId(), "blind", blind.getId(),
+                    "extreme1", extreme1.getId(), "extreme2", extreme2.getId(),
+                    "normal", normal.getId(), "blindExtreme", blindExtreme.getId());
+        });
+
+        // when
+        int approved = policyJobService.processCooldownExpirations();
+
+        // then
+        assertThat(approved).isEqualTo(3);
+        assertThat(reviewRepository.findById(ids.get("extreme1")).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PUBLIC);
+        assertThat(reviewRepository.findById(ids.get("extreme2")).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PUBLIC);
+        assertThat(reviewRepository.findById(ids.get("normal")).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PENDING);
+        assertThat(reviewRepository.findById(ids.get("blindExtreme")).orElseThrow().getStatus()).isEqualTo(ReviewStatus.BLIND_HELD);
+
+        // 공개 전환된 가게만, 한 번 점수 갱신 예약
+        assertThat(storeScoreRefreshQueue.stats().depth()).isEqualTo(1);
+        storeScoreRefreshQueue.flush();
+        assertThat(storeRepository.findById(ids.get("open")).orElseThrow().getReviewCountValid()).isEqualTo(5);
+        assertThat(storeScoreAggregateService.verify(ids.get("open")).getConsistent()).isTrue();
+        assertThat(storeRepository.findById(ids.get("blind")).orElseThrow().getReviewCountValid()).isZero();
+    }
+
+    @Test
+    void approveCooldownExpired_concurrentCallers_shouldPublishAndApplyContributionsOnce() throws Exception {
+        // given: 공개 리뷰 3개 + 만료된 쿨다운 리뷰 2개인 가게(승인하면 5개가 되어 공개 전환)
+        storeScoreRefreshQueue.flush();
+        Map<String, Long> ids = transactionTemplate.execute(status -> {
+            Member member = saveMember("race", MemberTier.BRONZE, null);
+            Category category = categoryRepository.save(Category.builder().name("c14").depth(1).build());
+            Region region = regionRepository.save(Region.builder().name("r14").depth(1).build());
+            Store store = storeRepository.save(Store.builder()
+                    .name("s14")
+                    .category(category)
+                    .region(region)
+                    .address("addr")
+                    .latitude(new BigDecimal("37.0"))
+                    .longitude(new BigDecimal("127.0"))
+                    .build());
+            for (int i = 0; i < 3; i++) {
+                storeScoreAggregateService.add(ScoreContribution.from(savePublicReview(store, member)));
+            }
+            Review extreme1 = savePendingReview(store, member, "5.0");
+            Review extreme2 = savePendingReview(store, member, "1.0");
+            entityManager.flush();
+            setCreatedAt(extreme1, LocalDateTime.of(2024, 12, 31, 0, 0));
+            setCreatedAt(extreme2, LocalDateTime.of(2024, 12, 31, 0, 0));
+            return Map.of("store", store.getId(), "extreme1", extreme1.getId(), "extreme2", extreme2.getId());
+        });
+        List<Long> reviewIds = List.of(ids.get("extreme1"), ids.get("extreme2"));
+
+        // when: 타이머와 폴링이 겹친 것처럼 같은 리뷰를 동시에 승인
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return policyJobService.approveCooldownExpired(reviewIds);
+            }));
+        }
+        start.countDown();
+        int approved = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                approved += future.get();
+            } catch (ExecutionException e) {
+                // 잠금 충돌로 실패한 호출은 아무것도 반영하지 않는다(타이머는 재시도한다)
+            }
+        }
+        executor.shutdown();
+
+        // then: 공개 전환/기여분 반영은 한 번만
+        assertThat(approved).isEqualTo(2);
+        assertThat(reviewRepository.findById(ids.get("extreme1")).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PUBLIC);
+        assertThat(reviewRepository.findById(ids.get("extreme2")).orElseThrow().getStatus()).isEqualTo(ReviewStatus.PUBLIC);
+        StoreScoreConsistencyResponse report = storeScoreAggregateService.verify(ids.get("store"));
+        assertThat(report.getConsistent()).isTrue();
+        assertThat(report.getAggregateReviewCount()).isEqualTo(5);
+        assertThat(storeScoreRefreshQueue.stats().depth()).isEqualTo(1);
+    }
+
     @Test
     void cooldownExpiration_pendingExtremeBronze_shouldApprove_logicOnly() throws Exception {
         // given
@@ -227,4 +878,54 @@ class ReviewPolicyJobServiceTest {
         // then
         assertThat(isTarget).isTrue();
     }
+
+    private Member saveMember(String nickname, MemberTier tier, LocalDateTime lastReviewAt) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(tier)
+                .lastReviewAt(lastReviewAt)
+                .build());
+    }
+
+    private Review savePublicReview(Store store, Member member) {
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(new BigDecimal("4.0"))
+                .scoreValue(new BigDecimal("4.0"))
+                .scoreAmbiance(new BigDecimal("4.0"))
+                .scoreService(new BigDecimal("4.0"))
+                .scoreCalculated(new BigDecimal("4.0"))
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+
+    private Review savePendingReview(Store store, Member member, String score) {
+        BigDecimal value = new BigDecimal(score);
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .status(ReviewStatus.PENDING)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+
+    private void setCreatedAt(Review review, LocalDateTime createdAt) {
+        entityManager.createNativeQuery("update review set created_at = :createdAt where id = :id")
+                .setParameter("createdAt", createdAt)
+                .setParameter("id", review.getId())
+                .executeUpdate();
+    }
 }
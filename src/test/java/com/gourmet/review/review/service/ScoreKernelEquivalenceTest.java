@@ -0,0 +1,162 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.common.util.ScoreKernel;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ScoreKernel(고정소수점)과 기존 BigDecimal 계산의 결과가 값/스케일까지 같은지 무작위 입력으로 검증한다.
+ */
+class ScoreKernelEquivalenceTest {
+
+    private static final long SEED = 20250101L;
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void reviewScore_shouldMatchBigDecimal() {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < 2_000_000; i++) {
+            BigDecimal taste = randomScore(random);
+            BigDecimal value = randomScore(random);
+            BigDecimal ambiance = randomScore(random);
+            BigDecimal service = randomScore(random);
+
+            BigDecimal expected = taste.multiply(new BigDecimal("0.40"))
+                    .add(value.multiply(new BigDecimal("0.30")))
+                    .add(ambiance.multiply(new BigDecimal("0.15")))
+                    .add(service.multiply(new BigDecimal("0.15")))
+                    .setScale(2, RoundingMode.HALF_UP);
+            BigDecimal actual = ScoreKernel.toDecimal2(ScoreKernel.reviewScore2(
+                    ScoreKernel.toScaled2(taste), ScoreKernel.toScaled2(value),
+                    ScoreKernel.toScaled2(ambiance), ScoreKernel.toScaled2(service)));
+
+            if (!expected.equals(actual)) {
+                assertThat(actual).as("taste=%s value=%s ambiance=%s service=%s", taste, value, ambiance, service)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void reviewEntity_shouldMatchBigDecimal_includingHighScaleFallback() {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        for (int i = 0; i < 200_000; i++) {
+            BigDecimal taste = random.nextInt(10) == 0
+                    ? BigDecimal.valueOf(random.nextInt(1000, 5001), 3)
+                    : randomScore(random);
+            BigDecimal value = randomScore(random);
+            Review review = Review.builder()
+                    .scoreTaste(taste)
+                    .scoreValue(value)
+                    .scoreAmbiance(value)
+                    .scoreService(taste)
+                    .build();
+
+            review.calculateScore();
+
+            BigDecimal expected = taste.multiply(new BigDecimal("0.40"))
+                    .add(value.multiply(new BigDecimal("0.30")))
+                    .add(value.multiply(new BigDecimal("0.15")))
+                    .add(taste.multiply(new BigDecimal("0.15")))
+                    .setScale(2, RoundingMode.HALF_UP);
+            if (!expected.equals(review.getScoreCalculated())) {
+                assertThat(review.getScoreCalculated()).as("taste=%s value=%s", taste, value).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void deviationAdjustment_shouldMatchBigDecimal() {
+        for (int score2 = 0; score2 <= 600; score2++) {
+            BigDecimal score = BigDecimal.valueOf(score2, 2);
+            for (boolean target : new boolean[] {true, false}) {
+                BigDecimal expected = StoreScoreCalculator.applyDeviationAdjustmentDecimal(score, target);
+                long actual = ScoreKernel.deviationAdjusted2(score2, target);
+                assertThat(ScoreKernel.toDecimal2(actual)).as("score=%s target=%s", score, target)
+                        .isEqualByComparingTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void averageAndBayesian_shouldMatchBigDecimal() {
+        SplittableRandom random = new SplittableRandom(SEED + 2);
+        for (int i = 0; i < 2_000_000; i++) {
+            int count = random.nextInt(0, 5_000);
+            long totalWeight2 = random.nextInt(8) == 0 ? 0 : random.nextLong(1, 200L * count + 2);
+            long weightedSum4 = random.nextLong(100L * totalWeight2, 500L * totalWeight2 + 1);
+            long rawSum2 = random.nextLong(100L * count, 500L * count + 1);
+
+            BigDecimal expectedAverage = StoreScoreCalculator.average(BigDecimal.valueOf(rawSum2, 2), count);
+            BigDecimal actualAverage = ScoreKernel.toDecimal2(ScoreKernel.average2(rawSum2, count));
+            if (!expectedAverage.equals(actualAverage)) {
+                assertThat(actualAverage).as("rawSum=%s count=%s", rawSum2, count).isEqualTo(expectedAverage);
+            }
+
+            BigDecimal expectedScore = StoreScoreCalculator.bayesian(
+                    BigDecimal.valueOf(weightedSum4, 4), BigDecimal.valueOf(totalWeight2, 2));
+            BigDecimal actualScore = ScoreKernel.toDecimal2(ScoreKernel.bayesian2(weightedSum4, totalWeight2));
+            if (!expectedScore.equals(actualScore)) {
+                assertThat(actualScore).as("weightedSum=%s totalWeight=%s", weightedSum4, totalWeight2)
+                        .isEqualTo(expectedScore);
+            }
+        }
+    }
+
+    @Test
+    void storeScore_fullScan_shouldMatchBigDecimal() {
+        SplittableRandom random = new SplittableRandom(SEED + 3);
+        MemberTier[] tiers = MemberTier.values();
+        List<Member> members = new ArrayList<>();
+        for (MemberTier tier : tiers) {
+            for (boolean target : new boolean[] {true, false}) {
+                members.add(Member.builder().tier(tier).isDeviationTarget(target).build());
+            }
+        }
+
+        for (int store = 0; store < 20_000; store++) {
+            int size = random.nextInt(0, 60);
+            List<Review> reviews = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                reviews.add(Review.builder()
+                        .member(members.get(random.nextInt(members.size())))
+                        .scoreCalculated(randomScore(random))
+                        .scoreTaste(randomScore(random))
+                        .scoreValue(randomScore(random))
+                        .scoreAmbiance(randomScore(random))
+                        .scoreService(randomScore(random))
+                        .createdAt(NOW.minusHours(random.nextLong(0, 24L * 365 * 4)))
+                        .build());
+            }
+
+            StoreScoreResult expected = StoreScoreCalculator.calculateDecimal(reviews, NOW);
+            StoreScoreResult actual = StoreScoreCalculator.calculate(reviews, NOW);
+            assertThat(actual.reviewCount()).isEqualTo(expected.reviewCount());
+            assertThat(actual.avgRating()).isEqualTo(expected.avgRating());
+            assertThat(actual.scoreWeighted()).isEqualTo(expected.scoreWeighted());
+            assertThat(actual.dimensions()).isEqualTo(expected.dimensions());
+        }
+    }
+
+    /**
+     * 1.00 ~ 5.00 점수. 일부는 scale 0/1로 생성해 입력 스케일이 섞인 경우도 검증한다.
+     */
+    private static BigDecimal randomScore(SplittableRandom random) {
+        return switch (random.nextInt(10)) {
+            case 0 -> BigDecimal.valueOf(random.nextInt(1, 6));
+            case 1 -> BigDecimal.valueOf(random.nextInt(10, 51), 1);
+            default -> BigDecimal.valueOf(random.nextInt(100, 501), 2);
+        };
+    }
+}
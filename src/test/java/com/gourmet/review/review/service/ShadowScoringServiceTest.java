@@ -0,0 +1,128 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.entity.StoreScoreShadow;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.ShadowScoreReportResponse;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.review.repository.StoreScoreShadowRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class},
+        properties = {
+                "gourmet.shadow-scoring.enabled=true",
+                "gourmet.shadow-scoring.candidates[0].name=influence-test",
+                "gourmet.shadow-scoring.candidates[0].beta=0.35",
+                "gourmet.shadow-scoring.candidates[0].min-factor=0.70",
+                "gourmet.shadow-scoring.candidates[0].min-reviews-for-user-mean=1"
+        })
+@ActiveProfiles("test")
+@Transactional
+class ShadowScoringServiceTest {
+
+    @Autowired ReviewScoreService reviewScoreService;
+    @Autowired ShadowScoringService shadowScoringService;
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
+    @Autowired StoreScoreShadowRepository storeScoreShadowRepository;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void recalculate_shouldRecordCandidateScoreWithoutChangingProductionScore() {
+        // given: 후한 작성자(평균 5.0) 2건 + 보통 작성자(평균 3.0) 1건, 모두 SILVER 최근 리뷰
+        Store store = createStore("shadow");
+        Member generous = createMember("shadow-generous");
+        Member neutral = createMember("shadow-neutral");
+        createPublicReview(store, generous, "5.00");
+        createPublicReview(store, generous, "5.00");
+        createPublicReview(store, neutral, "3.00");
+        entityManager.flush();
+
+        // when
+        reviewScoreService.recalculateStoreScoresByStoreIds(List.of(store.getId()), ScoreChangeReason.REBUILD);
+
+        // then: 운영 = (13 + 90) / 33, 후보 = 후한 작성자 가중치 0.7 → (10 + 90) / 32.4
+        Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+        assertThat(reloaded.getScoreWeighted()).isEqualByComparingTo(new BigDecimal("3.12"));
+        assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isTrue();
+
+        StoreScoreShadow shadow = storeScoreShadowRepository.findByStoreIdIn(List.of(store.getId())).get(0);
+        assertThat(shadow.getPolicyName()).isEqualTo("influence-test");
+        assertThat(shadow.getReviewCount()).isEqualTo(3);
+        assertThat(shadow.getProductionScore()).isEqualByComparingTo(new BigDecimal("3.12"));
+        assertThat(shadow.getCandidateScore()).isEqualByComparingTo(new BigDecimal("3.09"));
+        assertThat(shadow.getScoreDiff()).isEqualByComparingTo(new BigDecimal("-0.03"));
+
+        List<ShadowScoreReportResponse> report = shadowScoringService.report(5);
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0).getStoreCount()).isEqualTo(1);
+        assertThat(report.get(0).getMaxAbsDiff()).isEqualByComparingTo(new BigDecimal("0.03"));
+        assertThat(report.get(0).getChangedStoreCount()).isZero();
+        assertThat(report.get(0).getLargestDiffs()).extracting(ShadowScoreReportResponse.StoreDiff::getStoreId)
+                .containsExactly(store.getId());
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+
+    private Member createMember(String nickname) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+    }
+
+    private Review createPublicReview(Store store, Member member, String score) {
+        BigDecimal value = new BigDecimal(score);
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+}
@@ -0,0 +1,207 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.StoreScoreConsistencyResponse;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.review.service.StoreScoreCalculator.StoreScoreResult;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@Transactional
+class StoreScoreAggregateServiceTest {
+
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
+    @Autowired ReviewScoreService reviewScoreService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void deltas_shouldMatchFullScan() {
+        // given
+        Store store = createStore("agg-delta");
+        Member gold = createMember("agg-gold", MemberTier.GOLD, false);
+        Member bronze = createMember("agg-bronze", MemberTier.BRONZE, true);
+
+        List<Review> reviews = new ArrayList<>();
+        reviews.add(createPublicReview(store, gold, "4.50"));
+        reviews.add(createPublicReview(store, gold, "3.25"));
+        reviews.add(createPublicReview(store, bronze, "5.00"));
+        reviews.add(createPublicReview(store, bronze, "1.00"));
+
+        // when
+        for (Review review : reviews) {
+            storeScoreAggregateService.add(ScoreContribution.from(review));
+        }
+        storeScoreAggregateService.subtract(ScoreContribution.from(reviews.get(1)));
+        reviews.get(1).suspend("test");
+
+        // then
+        StoreScoreConsistencyResponse report = storeScoreAggregateService.verify(store.getId());
+        assertThat(report.getConsistent()).isTrue();
+        assertThat(report.getAggregateReviewCount()).isEqualTo(3);
+    }
+
+    @Test
+    void rebuild_shouldRepairDriftedAggregate() {
+        // given
+        Store store = createStore("agg-rebuild");
+        Member silver = createMember("agg-silver", MemberTier.SILVER, false);
+        Review review = createPublicReview(store, silver, "4.00");
+        createPublicReview(store, silver, "2.00");
+        storeScoreAggregateService.add(ScoreContribution.from(review));
+        assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isFalse();
+
+        // when
+        reviewScoreService.recalculateStoreScoresByStoreIds(List.of(store.getId()), ScoreChangeReason.REBUILD);
+
+        // then
+        StoreScoreConsistencyResponse report = storeScoreAggregateService.verify(store.getId());
+        assertThat(report.getConsistent()).isTrue();
+        Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+        assertThat(reloaded.getReviewCountValid()).isEqualTo(2);
+        assertThat(reloaded.getAvgRating()).isEqualByComparingTo(new BigDecimal("3.00"));
+        assertThat(reloaded.getScoreWeighted()).isEqualByComparingTo(report.getFullScanScoreWeighted());
+    }
+
+    @Test
+    void databaseAggregation_shouldMatchJavaFullScan() {
+        // given: 등급/편차 보정/감가 구간이 섞인 가게 3곳
+        LocalDateTime reference = storeScoreAggregateService.currentDecayReference();
+        List<Store> stores = List.of(createStore("agg-db-1"), createStore("agg-db-2"), createStore("agg-db-3"));
+        List<Member> members = new ArrayList<>();
+        for (MemberTier tier : MemberTier.values()) {
+            members.add(createMember("agg-db-" + tier.name().toLowerCase(), tier, false));
+            members.add(createMember("agg-db-" + tier.name().toLowerCase() + "-dev", tier, true));
+        }
+        String[] scores = {"1.00", "1.30", "2.75", "3.00", "3.40", "4.55", "4.80", "5.00"};
+        long[] ageDays = {0, 30, 200, 400, 800, 1200, 2000};
+        int seq = 0;
+        for (int s = 0; s < stores.size(); s++) {
+            for (int i = 0; i < 15 + s * 10; i++, seq++) {
+                Review review = createPublicReview(stores.get(s), members.get(seq % members.size()), scores[seq % scores.length]);
+                entityManager.flush();
+                entityManager.createNativeQuery("update review set created_at = :createdAt where id = :id")
+                        .setParameter("createdAt", reference.minusDays(ageDays[seq % ageDays.length]).minusHours(1))
+                        .setParameter("id", review.getId())
+                        .executeUpdate();
+            }
+        }
+        entityManager.clear();
+        List<Long> storeIds = stores.stream().map(Store::getId).toList();
+
+        // when
+        Map<Long, StoreScoreResult> aggregated = storeScoreAggregateService.aggregate(storeIds);
+        Map<Long, StoreScoreResult> rebuilt = storeScoreAggregateService.rebuild(storeIds);
+
+        // then
+        for (Long storeId : storeIds) {
+            assertThat(rebuilt.get(storeId).sameAs(aggregated.get(storeId))).isTrue();
+            StoreScoreResult javaResult = StoreScoreCalculator.calculate(
+                    reviewRepository.findByStoreIdAndStatus(storeId, ReviewStatus.PUBLIC), reference);
+            assertThat(aggregated.get(storeId).sameAs(javaResult))
+                    .as("store %d: db=%s java=%s", storeId, aggregated.get(storeId), javaResult)
+                    .isTrue();
+            assertThat(storeScoreAggregateService.verify(storeId).getConsistent()).isTrue();
+        }
+    }
+
+    @Test
+    void dimensionScores_shouldBeWeightedInSamePassAndMatchDatabaseAggregation() {
+        // given: SILVER(가중치 1.0) 최근 리뷰 2건, 항목별 점수가 서로 다름
+        Store store = createStore("agg-dimension");
+        Member silver = createMember("agg-dimension", MemberTier.SILVER, false);
+        for (Review review : List.of(
+                createPublicReview(store, silver, "5.00", "3.00", "1.00", "4.50"),
+                createPublicReview(store, silver, "4.00", "3.00", "2.00", "4.50"))) {
+            storeScoreAggregateService.add(ScoreContribution.from(review));
+        }
+
+        // when
+        reviewScoreService.refreshStoreScores(List.of(store.getId()));
+
+        // then: (Σ점수 + 3.0 × 30) / (2 + 30)
+        Store reloaded = storeRepository.findById(store.getId()).orElseThrow();
+        assertThat(reloaded.getScoreTaste()).isEqualByComparingTo(new BigDecimal("3.09"));
+        assertThat(reloaded.getScoreValue()).isEqualByComparingTo(new BigDecimal("3.00"));
+        assertThat(reloaded.getScoreAmbiance()).isEqualByComparingTo(new BigDecimal("2.91"));
+        assertThat(reloaded.getScoreService()).isEqualByComparingTo(new BigDecimal("3.09"));
+
+        StoreScoreResult database = storeScoreAggregateService.aggregate(List.of(store.getId())).get(store.getId());
+        assertThat(database.sameAs(storeScoreAggregateService.summarize(store.getId()))).isTrue();
+        assertThat(storeScoreAggregateService.verify(store.getId()).getConsistent()).isTrue();
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+
+    private Member createMember(String nickname, MemberTier tier, boolean deviationTarget) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(tier)
+                .isDeviationTarget(deviationTarget)
+                .build());
+    }
+
+    private Review createPublicReview(Store store, Member member, String score) {
+        return createPublicReview(store, member, score, score, score, score);
+    }
+
+    private Review createPublicReview(Store store, Member member,
+                                      String taste, String value, String ambiance, String service) {
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(new BigDecimal(taste))
+                .scoreValue(new BigDecimal(value))
+                .scoreAmbiance(new BigDecimal(ambiance))
+                .scoreService(new BigDecimal(service))
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+}
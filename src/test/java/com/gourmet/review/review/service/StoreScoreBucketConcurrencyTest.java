@@ -0,0 +1,101 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.entity.StoreScoreBucket;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.review.repository.StoreScoreBucketRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext
+class StoreScoreBucketConcurrencyTest {
+
+    private static final int WRITERS = 100;
+
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
+    @Autowired StoreScoreBucketRepository storeScoreBucketRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void add_100ParallelWriters_shouldKeepCellSumsExact() throws Exception {
+        // given: 셀이 아직 없는 가게 1곳(모든 스레드가 같은 셀을 처음 만들고 갱신)
+        Long storeId = transactionTemplate.execute(status -> createStore("bucket-race").getId());
+        LocalDateTime createdAt = LocalDateTime.of(2024, 12, 31, 12, 0);
+
+        // when: 절반은 add, 절반은 replaceAll(추가 2건 - 제외 1건)을 동시에 실행
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            boolean replace = i % 2 == 1;
+            futures.add(executor.submit(() -> {
+                start.await();
+                ScoreContribution contribution = contribution(storeId, createdAt, "4.00");
+                if (replace) {
+                    storeScoreAggregateService.replaceAll(List.of(contribution(storeId, createdAt, "1.00")),
+                            List.of(contribution, contribution(storeId, createdAt, "1.00")));
+                } else {
+                    storeScoreAggregateService.add(contribution);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then: 잃어버린 delta가 없고 셀은 하나만 만들어진다
+        List<StoreScoreBucket> buckets = storeScoreBucketRepository.findByStoreId(storeId);
+        assertThat(buckets).hasSize(1);
+        StoreScoreBucket bucket = buckets.get(0);
+        assertThat(bucket.getReviewCount()).isEqualTo(WRITERS);
+        assertThat(bucket.getRawScoreSum()).isEqualByComparingTo(new BigDecimal("400.00"));
+        assertThat(bucket.getScoreSum()).isEqualByComparingTo(new BigDecimal("400.00"));
+        assertThat(bucket.getTasteSum()).isEqualByComparingTo(new BigDecimal("400.00"));
+        assertThat(bucket.getServiceSum()).isEqualByComparingTo(new BigDecimal("400.00"));
+    }
+
+    private static ScoreContribution contribution(Long storeId, LocalDateTime createdAt, String score) {
+        BigDecimal value = new BigDecimal(score);
+        return new ScoreContribution(storeId, MemberTier.SILVER, false, createdAt, value, value, value, value, value);
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+}
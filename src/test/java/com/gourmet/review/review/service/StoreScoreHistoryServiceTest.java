@@ -0,0 +1,167 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.domain.enums.ScoreChangeReason;
+import com.gourmet.review.domain.enums.ScoreHistoryGranularity;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.StoreScoreHistoryResponse;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.review.repository.StoreScoreHistoryRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@Transactional
+class StoreScoreHistoryServiceTest {
+
+    @Autowired StoreScoreHistoryService storeScoreHistoryService;
+    @Autowired StoreScoreHistoryRepository storeScoreHistoryRepository;
+    @Autowired ReviewScoreService reviewScoreService;
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+
+    @Test
+    void refresh_changedScoreOnly_shouldAppendHistoryPoint() {
+        // given
+        Store store = createStore("history-append");
+        Member member = createMember("history-append");
+        Review review = createPublicReview(store, member, "4.00");
+        storeScoreAggregateService.add(ScoreContribution.from(review));
+
+        // when: 두 번째 갱신은 점수 변화 없음
+        reviewScoreService.refreshStoreScores(List.of(store.getId()));
+        reviewScoreService.refreshStoreScores(List.of(store.getId()));
+        entityManager.flush();
+
+        // then
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        StoreScoreHistoryResponse history = storeScoreHistoryService.findHistory(store.getId(), now.minusDays(1), now);
+        assertThat(history.getPoints()).hasSize(1);
+        StoreScoreHistoryResponse.Point point = history.getPoints().get(0);
+        assertThat(point.getGranularity()).isEqualTo(ScoreHistoryGranularity.RAW);
+        assertThat(point.getReason()).isEqualTo(ScoreChangeReason.SCORE_REFRESH);
+        assertThat(point.getReviewCountValid()).isEqualTo(1);
+        assertThat(point.getAvgRating()).isEqualByComparingTo(new BigDecimal("4.00"));
+        assertThat(point.getScoreWeighted()).isEqualByComparingTo(store.getScoreWeighted());
+    }
+
+    @Test
+    void compact_shouldRollOldPointsIntoDailyAndWeeklyBuckets() {
+        // given: 기준일 2025-01-01, 원본 보관 7일(12-25 이전 압축), 일 단위 보관 90일(2024-09-30 주 이전 압축)
+        Store store = createStore("history-compact");
+        entityManager.flush();
+        insertRaw(store, "2024-09-02T10:00:00", "3.10");
+        insertRaw(store, "2024-09-04T10:00:00", "3.50");
+        insertRaw(store, "2024-12-10T09:00:00", "3.20");
+        insertRaw(store, "2024-12-10T18:00:00", "3.40");
+        insertRaw(store, "2024-12-11T12:00:00", "3.30");
+        insertRaw(store, "2024-12-31T12:00:00", "3.60");
+
+        // when: 1회차 원본 → 일, 2회차에 오래된 일 단위 → 주
+        int first = storeScoreHistoryService.compact();
+        entityManager.flush();
+        entityManager.clear();
+        int second = storeScoreHistoryService.compact();
+        entityManager.flush();
+
+        // then
+        assertThat(first).isEqualTo(5 + 2);
+        assertThat(second).isZero();
+        assertThat(storeScoreHistoryRepository.count()).isEqualTo(1);
+
+        StoreScoreHistoryResponse history = storeScoreHistoryService.findHistory(store.getId(),
+                LocalDateTime.of(2024, 9, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0));
+        assertThat(history.getPoints())
+                .extracting(StoreScoreHistoryResponse.Point::getGranularity,
+                        StoreScoreHistoryResponse.Point::getPeriodStart,
+                        StoreScoreHistoryResponse.Point::getPointCount)
+                .containsExactly(
+                        tuple(ScoreHistoryGranularity.WEEKLY, LocalDateTime.of(2024, 9, 2, 0, 0), 2),
+                        tuple(ScoreHistoryGranularity.DAILY, LocalDateTime.of(2024, 12, 10, 0, 0), 2),
+                        tuple(ScoreHistoryGranularity.DAILY, LocalDateTime.of(2024, 12, 11, 0, 0), 1),
+                        tuple(ScoreHistoryGranularity.RAW, LocalDateTime.of(2024, 12, 31, 12, 0), 1));
+
+        StoreScoreHistoryResponse.Point week = history.getPoints().get(0);
+        assertThat(week.getOpenScoreWeighted()).isEqualByComparingTo(new BigDecimal("3.10"));
+        assertThat(week.getScoreWeighted()).isEqualByComparingTo(new BigDecimal("3.50"));
+        StoreScoreHistoryResponse.Point day = history.getPoints().get(1);
+        assertThat(day.getMinScoreWeighted()).isEqualByComparingTo(new BigDecimal("3.20"));
+        assertThat(day.getMaxScoreWeighted()).isEqualByComparingTo(new BigDecimal("3.40"));
+        assertThat(day.getScoreWeighted()).isEqualByComparingTo(new BigDecimal("3.40"));
+    }
+
+    private void insertRaw(Store store, String recordedAt, String score) {
+        jdbcTemplate.update("insert into store_score_history (store_id, recorded_at, score_weighted, avg_rating, review_count_valid, reason) "
+                        + "values (?, ?, ?, ?, ?, ?)",
+                store.getId(), LocalDateTime.parse(recordedAt), new BigDecimal(score), new BigDecimal(score), 3,
+                ScoreChangeReason.TIME_DECAY.name());
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+
+    private Member createMember(String nickname) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+    }
+
+    private Review createPublicReview(Store store, Member member, String score) {
+        BigDecimal value = new BigDecimal(score);
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+}
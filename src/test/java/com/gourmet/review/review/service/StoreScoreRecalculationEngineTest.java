@@ -0,0 +1,106 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.config.StoreRecalculationProperties;
+import com.gourmet.review.domain.enums.PolicyJobType;
+import com.gourmet.review.review.service.StoreScoreRecalculationEngine.RecalculationReport;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+class StoreScoreRecalculationEngineTest {
+
+    private StoreScoreRecalculationEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void recalculate_shouldSplitIntoChunksAndRetryFailedChunk() {
+        // given: 25개 store, 청크 10 → 3청크. storeId 1이 든 청크는 첫 시도에 실패
+        Map<Long, AtomicInteger> calls = new ConcurrentHashMap<>();
+        ReviewScoreService reviewScoreService = new StubReviewScoreService(chunk -> {
+            int attempt = calls.computeIfAbsent(chunk.iterator().next(), k -> new AtomicInteger()).incrementAndGet();
+            if (chunk.contains(1L) && attempt == 1) {
+                throw new IllegalStateException("deadlock");
+            }
+        });
+        engine = newEngine(reviewScoreService);
+
+        // when
+        RecalculationReport report = engine.recalculate(PolicyJobType.TIME_DECAY,
+                LongStream.rangeClosed(1, 25).boxed().toList());
+
+        // then
+        assertThat(report.succeeded()).isTrue();
+        assertThat(report.storeCount()).isEqualTo(25);
+        assertThat(report.chunkCount()).isEqualTo(3);
+        assertThat(calls.get(1L).get()).isEqualTo(2);
+        assertThat(calls.get(11L).get()).isEqualTo(1);
+        assertThat(calls.get(21L).get()).isEqualTo(1);
+    }
+
+    @Test
+    void recalculate_chunkFailingEveryAttempt_shouldBeReported() {
+        // given
+        ReviewScoreService reviewScoreService = new StubReviewScoreService(chunk -> {
+            if (chunk.contains(15L)) {
+                throw new IllegalStateException("broken store");
+            }
+        });
+        engine = newEngine(reviewScoreService);
+
+        // when
+        RecalculationReport report = engine.recalculate(PolicyJobType.DEVIATION,
+                LongStream.rangeClosed(1, 25).boxed().toList());
+
+        // then
+        assertThat(report.succeeded()).isFalse();
+        assertThat(report.failedChunkCount()).isEqualTo(1);
+        assertThat(report.failedStoreIds()).containsExactlyElementsOf(LongStream.rangeClosed(11, 20).boxed().toList());
+    }
+
+    private static StoreScoreRecalculationEngine newEngine(ReviewScoreService reviewScoreService) {
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        Mockito.when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        return new StoreScoreRecalculationEngine(
+                reviewScoreService,
+                transactionManager,
+                Mockito.mock(DataSource.class),
+                new StoreRecalculationProperties(3, 4, 10, 2, 1)
+        );
+    }
+
+    private record StubReviewScoreService(java.util.function.Consumer<Collection<Long>> onRecalculate)
+            implements ReviewScoreService {
+
+        @Override
+        public void recalculateStoreScores(com.gourmet.review.domain.entity.Store store) {
+        }
+
+        @Override
+        public void recalculateStoreScoresByStoreIds(Collection<Long> storeIds,
+                                                     com.gourmet.review.domain.enums.ScoreChangeReason reason) {
+            onRecalculate.accept(List.copyOf(storeIds));
+        }
+
+        @Override
+        public void refreshStoreScores(Collection<Long> storeIds) {
+        }
+    }
+}
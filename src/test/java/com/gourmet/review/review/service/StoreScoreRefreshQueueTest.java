@@ -0,0 +1,126 @@
+package com.gourmet.review.review.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Review;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.domain.enums.ReviewStatus;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.repository.ReviewRepository;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext
+class StoreScoreRefreshQueueTest {
+
+    @Autowired StoreScoreRefreshQueue storeScoreRefreshQueue;
+    @Autowired StoreScoreAggregateService storeScoreAggregateService;
+    @Autowired ReviewRepository reviewRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void markDirty_manyWritesToOneStore_shouldRefreshOnceAfterCommit() {
+        // given
+        storeScoreRefreshQueue.flush();
+        long coalescedBefore = storeScoreRefreshQueue.stats().coalescedMarks();
+
+        // when: 한 트랜잭션에서 리뷰 2건 반영(예약 2회) + 다음 트랜잭션에서 1회 더
+        Long storeId = transactionTemplate.execute(status -> {
+            Store store = createStore("queue-coalesce");
+            Member member = createMember("queue-coalesce");
+            for (String score : new String[] {"4.00", "2.00"}) {
+                Review review = createPublicReview(store, member, score);
+                storeScoreAggregateService.add(ScoreContribution.from(review));
+                storeScoreRefreshQueue.markDirty(store.getId());
+            }
+            return store.getId();
+        });
+        transactionTemplate.executeWithoutResult(status -> storeScoreRefreshQueue.markDirty(storeId));
+
+        // then: 큐에는 1건, 점수는 아직 미반영
+        StoreScoreRefreshQueue.Stats stats = storeScoreRefreshQueue.stats();
+        assertThat(stats.depth()).isEqualTo(1);
+        assertThat(stats.coalescedMarks() - coalescedBefore).isEqualTo(1);
+        assertThat(storeRepository.findById(storeId).orElseThrow().getReviewCountValid()).isZero();
+
+        assertThat(storeScoreRefreshQueue.flush()).isEqualTo(1);
+        Store refreshed = storeRepository.findById(storeId).orElseThrow();
+        assertThat(refreshed.getReviewCountValid()).isEqualTo(2);
+        assertThat(refreshed.getAvgRating()).isEqualByComparingTo(new BigDecimal("3.00"));
+        assertThat(storeScoreRefreshQueue.stats().depth()).isZero();
+    }
+
+    @Test
+    void markDirty_rolledBackTransaction_shouldNotEnqueue() {
+        // given
+        storeScoreRefreshQueue.flush();
+
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            storeScoreRefreshQueue.markDirty(999_999L);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(storeScoreRefreshQueue.stats().depth()).isZero();
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+
+    private Member createMember(String nickname) {
+        return memberRepository.save(Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.SILVER)
+                .build());
+    }
+
+    private Review createPublicReview(Store store, Member member, String score) {
+        BigDecimal value = new BigDecimal(score);
+        return reviewRepository.save(Review.builder()
+                .store(store)
+                .member(member)
+                .content("c")
+                .partySize(1)
+                .scoreTaste(value)
+                .scoreValue(value)
+                .scoreAmbiance(value)
+                .scoreService(value)
+                .status(ReviewStatus.PUBLIC)
+                .visitDate(LocalDate.now())
+                .build());
+    }
+}
@@ -0,0 +1,138 @@
+package com.gourmet.review.store.service;
+
+import com.gourmet.review.domain.entity.Category;
+import com.gourmet.review.domain.entity.Member;
+import com.gourmet.review.domain.entity.Region;
+import com.gourmet.review.domain.entity.Store;
+import com.gourmet.review.domain.enums.MemberRole;
+import com.gourmet.review.domain.enums.MemberTier;
+import com.gourmet.review.member.repository.MemberRepository;
+import com.gourmet.review.review.dto.ReviewCreateRequest;
+import com.gourmet.review.review.service.ReviewService;
+import com.gourmet.review.store.repository.CategoryRepository;
+import com.gourmet.review.store.repository.RegionRepository;
+import com.gourmet.review.store.repository.StoreRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {com.gourmet.review.GourmetReviewServiceApplication.class, com.gourmet.review.config.TestFixedClockConfig.class})
+@ActiveProfiles("test")
+@DirtiesContext
+class StoreCounterConcurrencyTest {
+
+    private static final int WRITERS = 200;
+
+    @Autowired StoreService storeService;
+    @Autowired ReviewService reviewService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired StoreRepository storeRepository;
+    @Autowired CategoryRepository categoryRepository;
+    @Autowired RegionRepository regionRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void counters_200ParallelWriters_shouldNotLoseUpdates() throws Exception {
+        // given: 가게 1곳, 리뷰 작성자 1명(모든 스레드가 같은 회원 행을 갱신), 스크랩할 회원 200명
+        Long storeId = transactionTemplate.execute(status -> createStore("counter-store").getId());
+        Long authorId = memberRepository.save(member("counter-author")).getId();
+        List<Long> scrapperIds = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            scrapperIds.add(memberRepository.save(member("counter-" + i)).getId());
+        }
+
+        // when: 200개 스레드가 동시에 조회/스크랩/리뷰 작성
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            Long scrapperId = scrapperIds.get(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    storeService.getStoreDetail(storeId);
+                    authenticate(scrapperId);
+                    storeService.scrap(storeId);
+                    authenticate(authorId);
+                    reviewService.registerReview(reviewRequest(storeId));
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then: 잃어버린 증가가 없다
+        Store store = storeRepository.findById(storeId).orElseThrow();
+        assertThat(store.getViewCount()).isEqualTo(WRITERS);
+        assertThat(store.getScrapCount()).isEqualTo(WRITERS);
+        assertThat(store.getReviewCount()).isEqualTo(WRITERS);
+        Member author = memberRepository.findById(authorId).orElseThrow();
+        assertThat(author.getReviewCount()).isEqualTo(WRITERS);
+        // 리뷰 5개부터 SILVER: 동시에 재계산해도 한 번만 바뀐다
+        assertThat(author.getTier()).isEqualTo(MemberTier.SILVER);
+    }
+
+    private static void authenticate(Long memberId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(String.valueOf(memberId), "N/A", List.of()));
+    }
+
+    private static ReviewCreateRequest reviewRequest(Long storeId) {
+        return ReviewCreateRequest.builder()
+                .storeId(storeId)
+                .title("t")
+                .content("c")
+                .partySize(2)
+                .scoreTaste(new BigDecimal("3.0"))
+                .scoreService(new BigDecimal("3.0"))
+                .scoreAmbiance(new BigDecimal("3.0"))
+                .scoreValue(new BigDecimal("3.0"))
+                .visitDate(LocalDate.now())
+                .build();
+    }
+
+    private static Member member(String nickname) {
+        return Member.builder()
+                .email(nickname + "@test.com")
+                .nickname(nickname)
+                .password("pw")
+                .role(MemberRole.USER)
+                .tier(MemberTier.BRONZE)
+                .isPhoneVerified(true)
+                .build();
+    }
+
+    private Store createStore(String name) {
+        Category category = categoryRepository.save(Category.builder().name(name).depth(1).build());
+        Region region = regionRepository.save(Region.builder().name(name).depth(1).build());
+        return storeRepository.save(Store.builder()
+                .name(name)
+                .category(category)
+                .region(region)
+                .address("addr")
+                .latitude(new BigDecimal("37.0"))
+                .longitude(new BigDecimal("127.0"))
+                .build());
+    }
+}